@@ -0,0 +1,500 @@
+package edu.ncsu.csc316.dsa.bench;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.Random;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.sorter.AutoSorter;
+import edu.ncsu.csc316.dsa.sorter.BubbleSorter;
+import edu.ncsu.csc316.dsa.sorter.CountingSorter;
+import edu.ncsu.csc316.dsa.sorter.InsertionSorter;
+import edu.ncsu.csc316.dsa.sorter.MergeSorter;
+import edu.ncsu.csc316.dsa.sorter.ParallelCountingSorter;
+import edu.ncsu.csc316.dsa.sorter.ParallelMergeSorter;
+import edu.ncsu.csc316.dsa.sorter.ParallelRadixSorter;
+import edu.ncsu.csc316.dsa.sorter.ParallelSampleSorter;
+import edu.ncsu.csc316.dsa.sorter.QuickSorter;
+import edu.ncsu.csc316.dsa.sorter.RadixSorter;
+import edu.ncsu.csc316.dsa.sorter.SelectionSorter;
+import edu.ncsu.csc316.dsa.sorter.Sorter;
+import edu.ncsu.csc316.dsa.sorter.TimSorter;
+
+/**
+ * SorterBenchmark measures every {@link Sorter} implementation over a grid of
+ * input sizes, input distributions and comparators, and prints one row of
+ * results per combination.
+ *
+ * For every combination a seeded roster is generated once. Each iteration sorts
+ * a fresh copy of it; copying is not timed. After the warmup iterations, the
+ * measured iterations report throughput (sorts per second and mean time per
+ * sort), the bytes allocated per sort by the sorting thread, the resulting
+ * allocation rate and the number of garbage collections that ran. Allocations
+ * made by ForkJoinPool workers are not attributed to the sorting thread, so the
+ * parallel sorters under-report allocation.
+ *
+ * Sorters that only sort by id run once per size and distribution, under the
+ * ID comparator column. Quadratic sorters skip sizes above the quadratic
+ * limit, and runs that overflow the stack (such as the classic quicksort
+ * pivot strategies on sorted input) are reported instead of measured.
+ *
+ * Usage, with every option optional and lists comma-separated:
+ *
+ *    java -Xmx8g -cp bin edu.ncsu.csc316.dsa.bench.SorterBenchmark
+ *        -sizes 1000,10000 -distributions RANDOM,SAWTOOTH -comparators ID
+ *        -sorters MERGE,TIM -warmup 3 -iterations 5 -quadraticLimit 10000 -seed 316
+ *
+ * The largest default size needs several gigabytes of heap.
+ *
+ * @author Will Greene
+ */
+public class SorterBenchmark {
+
+	/** default input sizes */
+	private static final int[] DEFAULT_SIZES = { 1000, 10000, 100000, 1000000, 10000000 };
+
+	/** number of distinct keys in the FEW_UNIQUE distribution */
+	private static final int FEW_UNIQUE_KEYS = 16;
+
+	/** number of teeth in the SAWTOOTH distribution */
+	private static final int SAWTOOTH_TEETH = 10;
+
+	/** number of letters used to spell a key as a last name */
+	private static final int NAME_LETTERS = 6;
+
+	/** input sizes to run */
+	private int[] sizes = DEFAULT_SIZES;
+
+	/** distributions to run */
+	private Distribution[] distributions = Distribution.values();
+
+	/** comparators to run */
+	private ComparatorKind[] comparators = ComparatorKind.values();
+
+	/** sorters to run */
+	private SorterKind[] sorters = SorterKind.values();
+
+	/** number of unmeasured iterations per combination */
+	private int warmup = 3;
+
+	/** number of measured iterations per combination */
+	private int iterations = 5;
+
+	/** largest input size given to quadratic sorters */
+	private int quadraticLimit = 10000;
+
+	/** seed for generating inputs */
+	private long seed = 316;
+
+	/** bytes allocated by reading the allocation counter itself */
+	private long allocationOverhead;
+
+	/**
+	 * Runs the benchmark with the given command line options.
+	 *
+	 * @param args command line options, described in the class comment
+	 */
+	public static void main( String[] args ) {
+		SorterBenchmark benchmark = new SorterBenchmark();
+		benchmark.parse( args );
+		benchmark.run();
+	}
+
+	/**
+	 * Reads command line options.
+	 *
+	 * @param args command line options
+	 * @throws IllegalArgumentException if an option is unknown or has no value
+	 */
+	private void parse( String[] args ) {
+
+		for ( int i = 0; i < args.length; i += 2 ) {
+
+			if ( i + 1 == args.length )
+				throw new IllegalArgumentException( "Missing value for " + args[ i ] );
+
+			String[] values = args[ i + 1 ].split( "," );
+
+			switch ( args[ i ] ) {
+			case "-sizes":
+				sizes = new int[ values.length ];
+				for ( int j = 0; j < values.length; j++ )
+					sizes[ j ] = ( int ) Double.parseDouble( values[ j ] );
+				break;
+			case "-distributions":
+				distributions = new Distribution[ values.length ];
+				for ( int j = 0; j < values.length; j++ )
+					distributions[ j ] = Distribution.valueOf( values[ j ].toUpperCase() );
+				break;
+			case "-comparators":
+				comparators = new ComparatorKind[ values.length ];
+				for ( int j = 0; j < values.length; j++ )
+					comparators[ j ] = ComparatorKind.valueOf( values[ j ].toUpperCase() );
+				break;
+			case "-sorters":
+				sorters = new SorterKind[ values.length ];
+				for ( int j = 0; j < values.length; j++ )
+					sorters[ j ] = SorterKind.valueOf( values[ j ].toUpperCase() );
+				break;
+			case "-warmup":
+				warmup = Integer.parseInt( args[ i + 1 ] );
+				break;
+			case "-iterations":
+				iterations = Integer.parseInt( args[ i + 1 ] );
+				break;
+			case "-quadraticLimit":
+				quadraticLimit = ( int ) Double.parseDouble( args[ i + 1 ] );
+				break;
+			case "-seed":
+				seed = Long.parseLong( args[ i + 1 ] );
+				break;
+			default:
+				throw new IllegalArgumentException( "Unknown option: " + args[ i ] );
+			}
+		}
+
+		if ( iterations < 1 )
+			throw new IllegalArgumentException( "At least one measured iteration is required." );
+	}
+
+	/**
+	 * Runs every combination of size, distribution, comparator and sorter.
+	 */
+	private void run() {
+
+		long before = allocatedBytes();
+		allocationOverhead = allocatedBytes() - before;
+
+		System.out.printf( "%-18s %-8s %-11s %10s %14s %14s %14s %12s %6s%n", "sorter", "cmp", "dist", "size",
+				"ops/s", "ms/op", "alloc B/op", "alloc MB/s", "gcs" );
+
+		for ( int size : sizes ) {
+			for ( Distribution distribution : distributions ) {
+
+				Student[] input = generate( size, distribution, new Random( seed ) );
+
+				for ( ComparatorKind comparator : comparators ) {
+					for ( SorterKind sorter : sorters ) {
+
+						if ( sorter.byId && comparator != ComparatorKind.ID )
+							continue;
+
+						String label = String.format( "%-18s %-8s %-11s %10d", sorter, comparator, distribution, size );
+
+						if ( sorter.quadratic && size > quadraticLimit ) {
+							System.out.println( label + "  skipped: above quadratic limit" );
+							continue;
+						}
+
+						System.out.println( label + " " + measure( sorter.create( comparator.create() ), input ) );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sorts copies of input with the sorter and formats the measurements.
+	 *
+	 * @param sorter the sorter to measure
+	 * @param input the roster to sort
+	 * @return the formatted measurements, or the reason there are none
+	 */
+	private String measure( Sorter<Student> sorter, Student[] input ) {
+
+		long nanos = 0;
+		long bytes = 0;
+		long collections = 0;
+
+		try {
+			for ( int i = 0; i < warmup; i++ )
+				sorter.sort( input.clone() );
+
+			for ( int i = 0; i < iterations; i++ ) {
+
+				Student[] copy = input.clone();
+
+				long gcBefore = collectionCount();
+				long bytesBefore = allocatedBytes();
+				long start = System.nanoTime();
+
+				sorter.sort( copy );
+
+				long end = System.nanoTime();
+				long bytesAfter = allocatedBytes();
+
+				nanos += end - start;
+				bytes += bytesAfter - bytesBefore - allocationOverhead;
+				collections += collectionCount() - gcBefore;
+			}
+		} catch ( StackOverflowError e ) {
+			return " skipped: stack overflow";
+		} catch ( OutOfMemoryError e ) {
+			return " skipped: out of memory";
+		}
+
+		double nanosPerOp = ( double ) nanos / iterations;
+		String allocation = allocatedBytes() < 0 ? String.format( "%14s %12s", "n/a", "n/a" )
+				: String.format( "%14d %12.1f", bytes / iterations, bytes / ( nanos / 1e9 ) / ( 1 << 20 ) );
+
+		return String.format( "%14.2f %14.4f %s %6d", 1e9 / nanosPerOp, nanosPerOp / 1e6, allocation, collections );
+	}
+
+	/**
+	 * Returns the number of bytes the current thread has allocated so far, or a
+	 * negative number if the JVM cannot tell.
+	 *
+	 * @return bytes allocated by the current thread, or a negative number
+	 */
+	private static long allocatedBytes() {
+
+		java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+		if ( threads instanceof com.sun.management.ThreadMXBean )
+			return ( ( com.sun.management.ThreadMXBean ) threads ).getThreadAllocatedBytes( Thread.currentThread().getId() );
+
+		return -1;
+	}
+
+	/**
+	 * Returns the total number of garbage collections run so far.
+	 *
+	 * @return the total number of garbage collections
+	 */
+	private static long collectionCount() {
+
+		long count = 0;
+
+		for ( GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans() )
+			count += Math.max( 0, gc.getCollectionCount() );
+
+		return count;
+	}
+
+	/**
+	 * Generates a roster whose sort keys follow the given distribution. Each
+	 * Student's id, last name and GPA are derived from the same key, so the
+	 * natural, ID and GPA orderings all see that distribution.
+	 *
+	 * @param n the number of students
+	 * @param distribution the distribution of the keys
+	 * @param random source of random keys
+	 * @return the generated roster
+	 */
+	static Student[] generate( int n, Distribution distribution, Random random ) {
+
+		Student[] roster = new Student[ n ];
+		int tooth = Math.max( 1, n / SAWTOOTH_TEETH );
+
+		for ( int i = 0; i < n; i++ ) {
+
+			int key;
+
+			switch ( distribution ) {
+			case ASCENDING:
+				key = i;
+				break;
+			case DESCENDING:
+				key = n - 1 - i;
+				break;
+			case FEW_UNIQUE:
+				key = random.nextInt( FEW_UNIQUE_KEYS );
+				break;
+			case SAWTOOTH:
+				key = i % tooth;
+				break;
+			default:
+				key = random.nextInt( n );
+				break;
+			}
+
+			// GPA descends as the key grows because StudentGPAComparator sorts by descending GPA
+			double gpa = 4.0 * ( n - 1 - key ) / n;
+
+			roster[ i ] = new Student( "Student", spell( key ), key, 15, gpa, "s" + i );
+		}
+
+		return roster;
+	}
+
+	/**
+	 * Spells a non-negative key as a fixed-length word that sorts the same way.
+	 *
+	 * @param key the key
+	 * @return the key in base 26, using the letters a to z
+	 */
+	private static String spell( int key ) {
+
+		char[] letters = new char[ NAME_LETTERS ];
+
+		for ( int i = NAME_LETTERS - 1; i >= 0; i-- ) {
+			letters[ i ] = ( char ) ( 'a' + key % 26 );
+			key /= 26;
+		}
+
+		letters[ 0 ] = Character.toUpperCase( letters[ 0 ] );
+
+		return new String( letters );
+	}
+
+	/**
+	 * Distributions of sort keys.
+	 *
+	 * @author Will Greene
+	 */
+	enum Distribution {
+		/** uniformly random keys */
+		RANDOM,
+		/** keys already in sorted order */
+		ASCENDING,
+		/** keys in reverse sorted order */
+		DESCENDING,
+		/** random keys drawn from a small set */
+		FEW_UNIQUE,
+		/** several ascending runs of equal length */
+		SAWTOOTH
+	}
+
+	/**
+	 * Comparators to sort with.
+	 *
+	 * @author Will Greene
+	 */
+	enum ComparatorKind {
+		/** the natural ordering of Students */
+		NATURAL,
+		/** StudentIDComparator */
+		ID,
+		/** StudentGPAComparator */
+		GPA;
+
+		/**
+		 * Returns a new Comparator of this kind.
+		 *
+		 * @return the Comparator, or null for the natural ordering
+		 */
+		Comparator<Student> create() {
+
+			switch ( this ) {
+			case ID:
+				return new StudentIDComparator();
+			case GPA:
+				return new StudentGPAComparator();
+			default:
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Sorters to measure.
+	 *
+	 * @author Will Greene
+	 */
+	enum SorterKind {
+		/** BubbleSorter */
+		BUBBLE( true, false ),
+		/** InsertionSorter */
+		INSERTION( true, false ),
+		/** SelectionSorter */
+		SELECTION( true, false ),
+		/** MergeSorter */
+		MERGE( false, false ),
+		/** QuickSorter with the first element selector */
+		QUICK_FIRST( false, false ),
+		/** QuickSorter with the last element selector */
+		QUICK_LAST( false, false ),
+		/** QuickSorter with the middle element selector */
+		QUICK_MIDDLE( false, false ),
+		/** QuickSorter with the random element selector */
+		QUICK_RANDOM( false, false ),
+		/** QuickSorter in introspective mode with the ninther selector */
+		QUICK_INTRO( false, false ),
+		/** TimSorter */
+		TIM( false, false ),
+		/** ParallelMergeSorter */
+		PARALLEL_MERGE( false, false ),
+		/** ParallelSampleSorter */
+		PARALLEL_SAMPLE( false, false ),
+		/** AutoSorter */
+		AUTO( false, false ),
+		/** CountingSorter */
+		COUNTING( false, true ),
+		/** RadixSorter in decimal mode */
+		RADIX( false, true ),
+		/** RadixSorter on 8-bit digits */
+		RADIX_BINARY( false, true ),
+		/** ParallelCountingSorter */
+		PARALLEL_COUNTING( false, true ),
+		/** ParallelRadixSorter */
+		PARALLEL_RADIX( false, true );
+
+		/** true if the sorter takes quadratic time on typical input */
+		private final boolean quadratic;
+
+		/** true if the sorter always sorts by id */
+		private final boolean byId;
+
+		/**
+		 * Constructs a SorterKind.
+		 *
+		 * @param quadratic true if the sorter takes quadratic time on typical input
+		 * @param byId true if the sorter always sorts by id
+		 */
+		SorterKind( boolean quadratic, boolean byId ) {
+			this.quadratic = quadratic;
+			this.byId = byId;
+		}
+
+		/**
+		 * Returns a new sorter of this kind.
+		 *
+		 * @param comparator the Comparator to sort with, ignored by id sorters
+		 * @return the sorter
+		 */
+		Sorter<Student> create( Comparator<Student> comparator ) {
+
+			switch ( this ) {
+			case BUBBLE:
+				return new BubbleSorter<Student>( comparator );
+			case INSERTION:
+				return new InsertionSorter<Student>( comparator );
+			case SELECTION:
+				return new SelectionSorter<Student>( comparator );
+			case MERGE:
+				return new MergeSorter<Student>( comparator );
+			case QUICK_FIRST:
+				return new QuickSorter<Student>( comparator, QuickSorter.FIRST_ELEMENT_SELECTOR );
+			case QUICK_LAST:
+				return new QuickSorter<Student>( comparator, QuickSorter.LAST_ELEMENT_SELECTOR );
+			case QUICK_MIDDLE:
+				return new QuickSorter<Student>( comparator, QuickSorter.MIDDLE_ELEMENT_SELECTOR );
+			case QUICK_RANDOM:
+				return new QuickSorter<Student>( comparator, QuickSorter.RANDOM_ELEMENT_SELECTOR );
+			case QUICK_INTRO:
+				return new QuickSorter<Student>( comparator, QuickSorter.NINTHER_SELECTOR, true );
+			case TIM:
+				return new TimSorter<Student>( comparator );
+			case PARALLEL_MERGE:
+				return new ParallelMergeSorter<Student>( comparator );
+			case PARALLEL_SAMPLE:
+				return new ParallelSampleSorter<Student>( comparator );
+			case AUTO:
+				return new AutoSorter<Student>( comparator );
+			case COUNTING:
+				return new CountingSorter<Student>();
+			case RADIX:
+				return new RadixSorter<Student>();
+			case RADIX_BINARY:
+				return new RadixSorter<Student>( 8 );
+			case PARALLEL_COUNTING:
+				return new ParallelCountingSorter<Student>();
+			default:
+				return new ParallelRadixSorter<Student>();
+			}
+		}
+	}
+}
@@ -0,0 +1,339 @@
+package edu.ncsu.csc316.dsa.data;
+
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * ComparatorBuilder composes typed key extractors into a single Comparator
+ * that compares field by field, stopping at the first field that differs.
+ * Each field is compared exactly once per call, int and double keys are read
+ * through primitive functions so nothing is boxed, and comparisons never
+ * overflow.
+ *
+ * Double keys treat -0.0 and 0.0 as equal and order NaN after every other
+ * value, in both ascending and descending order. String keys may be given a
+ * precomputed collation key, such as {@link Student#getLastKey()}; Strings
+ * whose collation keys differ are ordered by the keys alone, and only Strings
+ * with equal keys are compared character by character.
+ *
+ * For example, the natural ordering of Students is
+ *
+ *    new ComparatorBuilder&lt;Student&gt;()
+ *        .thenString( Student::getLast, Student::getLastKey )
+ *        .thenString( Student::getFirst, Student::getFirstKey )
+ *        .thenInt( Student::getId )
+ *        .build();
+ *
+ * @author Will Greene
+ * @param <T> the type of objects to compare
+ */
+public class ComparatorBuilder<T> {
+
+	/** number of characters of a String packed into a collation key */
+	private static final int COLLATION_CHARS = 4;
+
+	/** fields added so far, in comparison order */
+	private Field<T>[] fields;
+
+	/** number of fields added so far */
+	private int size;
+
+	/**
+	 * Constructs a ComparatorBuilder with no fields.
+	 */
+	public ComparatorBuilder() {
+		@SuppressWarnings( "unchecked" )
+		Field<T>[] initial = ( Field<T>[] ) new Field<?>[ 4 ];
+
+		this.fields = initial;
+		this.size = 0;
+	}
+
+	/**
+	 * Returns a key that packs the first four characters of s, so that whenever
+	 * two Strings have different keys, the keys are ordered the same way as the
+	 * Strings under {@link String#compareTo}. Strings whose first four characters
+	 * match have equal keys. A null String has the same key as the empty String.
+	 *
+	 * @param s the String to convert
+	 * @return a key that sorts like the first four characters of s
+	 */
+	public static long collationKey( String s ) {
+
+		long key = 0;
+		int length = s == null ? 0 : s.length();
+
+		for ( int i = 0; i < COLLATION_CHARS; i++ )
+			key = ( key << Character.SIZE ) | ( i < length ? s.charAt( i ) : 0 );
+
+		// Characters are unsigned, so flip the sign bit to order keys as signed longs
+		return key ^ Long.MIN_VALUE;
+	}
+
+	/**
+	 * Adds an int field compared in ascending order.
+	 *
+	 * @param key extracts the field
+	 * @return this builder
+	 */
+	public ComparatorBuilder<T> thenInt( ToIntFunction<? super T> key ) {
+		return add( new IntField<T>( key, false ) );
+	}
+
+	/**
+	 * Adds an int field compared in descending order.
+	 *
+	 * @param key extracts the field
+	 * @return this builder
+	 */
+	public ComparatorBuilder<T> thenIntDescending( ToIntFunction<? super T> key ) {
+		return add( new IntField<T>( key, true ) );
+	}
+
+	/**
+	 * Adds a double field compared in ascending order, with NaN last.
+	 *
+	 * @param key extracts the field
+	 * @return this builder
+	 */
+	public ComparatorBuilder<T> thenDouble( ToDoubleFunction<? super T> key ) {
+		return add( new DoubleField<T>( key, false ) );
+	}
+
+	/**
+	 * Adds a double field compared in descending order, with NaN last.
+	 *
+	 * @param key extracts the field
+	 * @return this builder
+	 */
+	public ComparatorBuilder<T> thenDoubleDescending( ToDoubleFunction<? super T> key ) {
+		return add( new DoubleField<T>( key, true ) );
+	}
+
+	/**
+	 * Adds a String field compared in ascending order.
+	 *
+	 * @param key extracts the field
+	 * @return this builder
+	 */
+	public ComparatorBuilder<T> thenString( Function<? super T, String> key ) {
+		return add( new StringField<T>( key, null ) );
+	}
+
+	/**
+	 * Adds a String field compared in ascending order, using a precomputed
+	 * collation key from {@link #collationKey(String)} to skip most character
+	 * comparisons.
+	 *
+	 * @param key extracts the field
+	 * @param collationKey extracts the precomputed collation key of the field
+	 * @return this builder
+	 */
+	public ComparatorBuilder<T> thenString( Function<? super T, String> key, ToLongFunction<? super T> collationKey ) {
+		return add( new StringField<T>( key, collationKey ) );
+	}
+
+	/**
+	 * Returns a Comparator over the fields added so far. Later changes to this
+	 * builder do not affect it.
+	 *
+	 * @return the Comparator
+	 */
+	public Comparator<T> build() {
+
+		@SuppressWarnings( "unchecked" )
+		Field<T>[] chain = ( Field<T>[] ) new Field<?>[ size ];
+		System.arraycopy( fields, 0, chain, 0, size );
+
+		if ( chain.length == 1 ) {
+			Field<T> only = chain[ 0 ];
+			return ( a, b ) -> only.compare( a, b );
+		}
+
+		return ( a, b ) -> {
+
+			for ( Field<T> field : chain ) {
+
+				int c = field.compare( a, b );
+
+				if ( c != 0 )
+					return c;
+			}
+
+			return 0;
+		};
+	}
+
+	/**
+	 * Appends a field, growing the array if needed.
+	 *
+	 * @param field the field to append
+	 * @return this builder
+	 */
+	private ComparatorBuilder<T> add( Field<T> field ) {
+
+		if ( size == fields.length ) {
+			@SuppressWarnings( "unchecked" )
+			Field<T>[] grown = ( Field<T>[] ) new Field<?>[ size * 2 ];
+			System.arraycopy( fields, 0, grown, 0, size );
+			fields = grown;
+		}
+
+		fields[ size++ ] = field;
+
+		return this;
+	}
+
+	/**
+	 * A Field compares one key of two objects.
+	 *
+	 * @author Will Greene
+	 * @param <T> the type of objects to compare
+	 */
+	private interface Field<T> {
+
+		/**
+		 * Compares the key of a with the key of b.
+		 *
+		 * @param a first object
+		 * @param b second object
+		 * @return negative, zero or positive as a belongs before, with or after b
+		 */
+		int compare( T a, T b );
+	}
+
+	/**
+	 * IntField compares an int key.
+	 *
+	 * @author Will Greene
+	 * @param <T> the type of objects to compare
+	 */
+	private static class IntField<T> implements Field<T> {
+
+		/** extracts the key */
+		private final ToIntFunction<? super T> key;
+
+		/** true to compare in descending order */
+		private final boolean descending;
+
+		/**
+		 * Constructs an IntField.
+		 *
+		 * @param key extracts the key
+		 * @param descending true to compare in descending order
+		 */
+		IntField( ToIntFunction<? super T> key, boolean descending ) {
+			this.key = key;
+			this.descending = descending;
+		}
+
+		@Override
+		public int compare( T a, T b ) {
+
+			int x = key.applyAsInt( a );
+			int y = key.applyAsInt( b );
+
+			return descending ? Integer.compare( y, x ) : Integer.compare( x, y );
+		}
+	}
+
+	/**
+	 * DoubleField compares a double key, treating -0.0 and 0.0 as equal and
+	 * ordering NaN last.
+	 *
+	 * @author Will Greene
+	 * @param <T> the type of objects to compare
+	 */
+	private static class DoubleField<T> implements Field<T> {
+
+		/** extracts the key */
+		private final ToDoubleFunction<? super T> key;
+
+		/** true to compare in descending order */
+		private final boolean descending;
+
+		/**
+		 * Constructs a DoubleField.
+		 *
+		 * @param key extracts the key
+		 * @param descending true to compare in descending order
+		 */
+		DoubleField( ToDoubleFunction<? super T> key, boolean descending ) {
+			this.key = key;
+			this.descending = descending;
+		}
+
+		@Override
+		public int compare( T a, T b ) {
+			return compareDoubles( key.applyAsDouble( a ), key.applyAsDouble( b ), descending );
+		}
+	}
+
+	/**
+	 * Compares two doubles, treating -0.0 and 0.0 as equal and ordering NaN
+	 * after every other value.
+	 *
+	 * @param x first value
+	 * @param y second value
+	 * @param descending true to order larger values first
+	 * @return negative, zero or positive as x belongs before, with or after y
+	 */
+	static int compareDoubles( double x, double y, boolean descending ) {
+
+		if ( x < y )
+			return descending ? 1 : -1;
+
+		if ( x > y )
+			return descending ? -1 : 1;
+
+		// Equal, or at least one is NaN
+		boolean xNaN = x != x;
+		boolean yNaN = y != y;
+
+		return xNaN == yNaN ? 0 : ( xNaN ? 1 : -1 );
+	}
+
+	/**
+	 * StringField compares a String key, first by its collation key when one is
+	 * available.
+	 *
+	 * @author Will Greene
+	 * @param <T> the type of objects to compare
+	 */
+	private static class StringField<T> implements Field<T> {
+
+		/** extracts the key */
+		private final Function<? super T, String> key;
+
+		/** extracts the collation key, or null to compare Strings directly */
+		private final ToLongFunction<? super T> collationKey;
+
+		/**
+		 * Constructs a StringField.
+		 *
+		 * @param key extracts the key
+		 * @param collationKey extracts the collation key, or null to compare Strings directly
+		 */
+		StringField( Function<? super T, String> key, ToLongFunction<? super T> collationKey ) {
+			this.key = key;
+			this.collationKey = collationKey;
+		}
+
+		@Override
+		public int compare( T a, T b ) {
+
+			if ( collationKey != null ) {
+
+				int c = Long.compare( collationKey.applyAsLong( a ), collationKey.applyAsLong( b ) );
+
+				if ( c != 0 )
+					return c;
+			}
+
+			return key.apply( a ).compareTo( key.apply( b ) );
+		}
+	}
+}
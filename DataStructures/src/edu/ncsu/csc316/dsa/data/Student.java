@@ -30,6 +30,12 @@ public class Student implements Comparable<Student>, Identifiable {
 	/** unity ID of Student */
 	private String unityID;
 	
+	/** collation key of the last name, kept in step with last */
+	private long lastKey;
+	
+	/** collation key of the first name, kept in step with first */
+	private long firstKey;
+	
 	/**
 	 * Constructs a Student object.
 	 * 
@@ -41,8 +47,8 @@ public class Student implements Comparable<Student>, Identifiable {
 	 * @param unityID unity ID of student
 	 */
 	public Student( String first, String last, int id, int creditHours, double gpa, String unityID ) {
-		this.first = first;
-		this.last = last;
+		setFirst( first );
+		setLast( last );
 		this.id = id;
 		this.creditHours = creditHours;
 		this.gpa = gpa;
@@ -63,6 +69,17 @@ public class Student implements Comparable<Student>, Identifiable {
 	 */
 	public void setFirst(String first) {
 		this.first = first;
+		this.firstKey = ComparatorBuilder.collationKey( first );
+	}
+
+	/**
+	 * Returns the collation key of the first name, which orders first names
+	 * by their leading characters without touching the Strings.
+	 * @return the collation key of the first name
+	 * @see ComparatorBuilder#collationKey(String)
+	 */
+	public long getFirstKey() {
+		return firstKey;
 	}
 
 	/**
@@ -79,6 +96,17 @@ public class Student implements Comparable<Student>, Identifiable {
 	 */
 	public void setLast(String last) {
 		this.last = last;
+		this.lastKey = ComparatorBuilder.collationKey( last );
+	}
+
+	/**
+	 * Returns the collation key of the last name, which orders last names
+	 * by their leading characters without touching the Strings.
+	 * @return the collation key of the last name
+	 * @see ComparatorBuilder#collationKey(String)
+	 */
+	public long getLastKey() {
+		return lastKey;
 	}
 
 	/**
@@ -182,6 +210,8 @@ public class Student implements Comparable<Student>, Identifiable {
 
 	/**
 	 * Determines whether this Student belongs before or after a Student s.
+	 * Names are compared by their collation keys first, so most comparisons
+	 * are decided without comparing the name Strings at all.
 	 * 
 	 * @return negative if this Student belongs before s, 
 	 * 		   positive if this Student belongs after s
@@ -189,18 +219,22 @@ public class Student implements Comparable<Student>, Identifiable {
 	@Override
 	public int compareTo( Student s ) {
 		
-		if ( this.last.compareTo( s.getLast() ) < 0 ) {
-			return -1;
-		} else if ( this.last.compareTo( s.getLast() ) > 0 ) {
-			return 1;
-		}
+		int c = Long.compare( this.lastKey, s.lastKey );
+		
+		if ( c == 0 )
+			c = this.last.compareTo( s.last );
+		
+		if ( c != 0 )
+			return c;
+		
+		c = Long.compare( this.firstKey, s.firstKey );
+		
+		if ( c == 0 )
+			c = this.first.compareTo( s.first );
 		
-		if ( this.first.compareTo( s.getFirst() ) < 0 ) {
-			return -1;
-		} else if ( this.first.compareTo( s.getFirst() ) > 0 ) {
-			return 1;
-		}
+		if ( c != 0 )
+			return c;
 		
-		return this.id - s.getId();
+		return Integer.compare( this.id, s.id );
 	}
 }
@@ -0,0 +1,436 @@
+package edu.ncsu.csc316.dsa.data;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import edu.ncsu.csc316.dsa.map.hashing.LinearProbingHashMap;
+import edu.ncsu.csc316.dsa.sorter.PrimitiveSorter;
+
+/**
+ * StudentColumns stores a roster as parallel columns instead of as Student
+ * objects. Ids, credit hours and GPAs are kept in primitive arrays, and first
+ * names, last names and unity IDs are dictionary encoded: each distinct String
+ * is stored once and every row holds an int code for it. A row costs 28 bytes
+ * plus its share of the dictionary, and a scan of one column reads only that
+ * column.
+ *
+ * Rows are sorted by computing a permutation of row numbers, leaving the
+ * columns untouched. Names are compared through the rank of their code in the
+ * sorted dictionary, so every ordering is a series of stable radix passes over
+ * int keys. Student views of rows are created on demand with {@link #get(int)}
+ * and {@link #toArray(int[])}.
+ *
+ * @author Will Greene
+ */
+public class StudentColumns {
+
+	/** default number of rows allocated for a new store */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/** number of rows */
+	private int size;
+
+	/** id column */
+	private int[] id;
+
+	/** credit hours column */
+	private int[] creditHours;
+
+	/** GPA column */
+	private double[] gpa;
+
+	/** first name column, as dictionary codes */
+	private int[] first;
+
+	/** last name column, as dictionary codes */
+	private int[] last;
+
+	/** unity ID column, as dictionary codes */
+	private int[] unityID;
+
+	/** distinct Strings of every String column, indexed by code */
+	private String[] dictionary;
+
+	/** number of distinct Strings in the dictionary */
+	private int dictionarySize;
+
+	/** code of each String in the dictionary */
+	private LinearProbingHashMap<String, Integer> codes;
+
+	/** sorter used for every radix pass */
+	private PrimitiveSorter sorter;
+
+	/**
+	 * Constructs an empty StudentColumns with room for the given number of rows.
+	 *
+	 * @param capacity the number of rows to allocate
+	 * @throws IllegalArgumentException if capacity is negative
+	 */
+	public StudentColumns( int capacity ) {
+
+		if ( capacity < 0 )
+			throw new IllegalArgumentException( "Capacity must not be negative." );
+
+		this.size = 0;
+		this.id = new int[ capacity ];
+		this.creditHours = new int[ capacity ];
+		this.gpa = new double[ capacity ];
+		this.first = new int[ capacity ];
+		this.last = new int[ capacity ];
+		this.unityID = new int[ capacity ];
+		this.dictionary = new String[ DEFAULT_CAPACITY ];
+		this.dictionarySize = 0;
+		this.codes = new LinearProbingHashMap<String, Integer>();
+		this.sorter = new PrimitiveSorter( PrimitiveSorter.Algorithm.RADIX );
+	}
+
+	/**
+	 * Constructs an empty StudentColumns.
+	 */
+	public StudentColumns() {
+		this( DEFAULT_CAPACITY );
+	}
+
+	/**
+	 * Returns a StudentColumns holding the given students, in order.
+	 *
+	 * @param students the students to store
+	 * @return a StudentColumns holding the students
+	 */
+	public static StudentColumns of( Student[] students ) {
+
+		StudentColumns columns = new StudentColumns( students.length );
+
+		for ( Student s : students )
+			columns.add( s );
+
+		return columns;
+	}
+
+	/**
+	 * Appends a row with the fields of a student.
+	 *
+	 * @param s the student to append
+	 * @return the row number of the new row
+	 */
+	public int add( Student s ) {
+		return add( s.getFirst(), s.getLast(), s.getId(), s.getCreditHours(), s.getGpa(), s.getUnityID() );
+	}
+
+	/**
+	 * Appends a row.
+	 *
+	 * @param firstName first name of the student
+	 * @param lastName last name of the student
+	 * @param studentId id number of the student
+	 * @param hours number of credit hours being taken by the student
+	 * @param studentGpa gpa of the student
+	 * @param unity unity ID of the student
+	 * @return the row number of the new row
+	 */
+	public int add( String firstName, String lastName, int studentId, int hours, double studentGpa, String unity ) {
+
+		if ( size == id.length )
+			grow( Math.max( DEFAULT_CAPACITY, size * 2 ) );
+
+		id[ size ] = studentId;
+		creditHours[ size ] = hours;
+		gpa[ size ] = studentGpa;
+		first[ size ] = encode( firstName );
+		last[ size ] = encode( lastName );
+		unityID[ size ] = encode( unity );
+
+		return size++;
+	}
+
+	/**
+	 * Returns the number of rows.
+	 *
+	 * @return the number of rows
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of distinct Strings across the name and unity ID columns.
+	 *
+	 * @return the number of distinct Strings
+	 */
+	public int dictionarySize() {
+		return dictionarySize;
+	}
+
+	/**
+	 * Returns the id of a row.
+	 *
+	 * @param row the row number
+	 * @return the id of the row
+	 * @throws IndexOutOfBoundsException if row is not a valid row number
+	 */
+	public int getId( int row ) {
+		return id[ Objects.checkIndex( row, size ) ];
+	}
+
+	/**
+	 * Returns the credit hours of a row.
+	 *
+	 * @param row the row number
+	 * @return the credit hours of the row
+	 * @throws IndexOutOfBoundsException if row is not a valid row number
+	 */
+	public int getCreditHours( int row ) {
+		return creditHours[ Objects.checkIndex( row, size ) ];
+	}
+
+	/**
+	 * Returns the GPA of a row.
+	 *
+	 * @param row the row number
+	 * @return the GPA of the row
+	 * @throws IndexOutOfBoundsException if row is not a valid row number
+	 */
+	public double getGpa( int row ) {
+		return gpa[ Objects.checkIndex( row, size ) ];
+	}
+
+	/**
+	 * Returns the first name of a row.
+	 *
+	 * @param row the row number
+	 * @return the first name of the row
+	 * @throws IndexOutOfBoundsException if row is not a valid row number
+	 */
+	public String getFirst( int row ) {
+		return dictionary[ first[ Objects.checkIndex( row, size ) ] ];
+	}
+
+	/**
+	 * Returns the last name of a row.
+	 *
+	 * @param row the row number
+	 * @return the last name of the row
+	 * @throws IndexOutOfBoundsException if row is not a valid row number
+	 */
+	public String getLast( int row ) {
+		return dictionary[ last[ Objects.checkIndex( row, size ) ] ];
+	}
+
+	/**
+	 * Returns the unity ID of a row.
+	 *
+	 * @param row the row number
+	 * @return the unity ID of the row
+	 * @throws IndexOutOfBoundsException if row is not a valid row number
+	 */
+	public String getUnityID( int row ) {
+		return dictionary[ unityID[ Objects.checkIndex( row, size ) ] ];
+	}
+
+	/**
+	 * Returns a new Student with the fields of a row.
+	 *
+	 * @param row the row number
+	 * @return a Student view of the row
+	 * @throws IndexOutOfBoundsException if row is not a valid row number
+	 */
+	public Student get( int row ) {
+		Objects.checkIndex( row, size );
+		return new Student( dictionary[ first[ row ] ], dictionary[ last[ row ] ], id[ row ], creditHours[ row ],
+				gpa[ row ], dictionary[ unityID[ row ] ] );
+	}
+
+	/**
+	 * Returns new Students for the given rows, in the given order.
+	 *
+	 * @param rows the row numbers, such as a permutation from one of the order methods
+	 * @return Student views of the rows
+	 * @throws IndexOutOfBoundsException if any row is not a valid row number
+	 */
+	public Student[] toArray( int[] rows ) {
+
+		Student[] students = new Student[ rows.length ];
+
+		for ( int i = 0; i < rows.length; i++ )
+			students[ i ] = get( rows[ i ] );
+
+		return students;
+	}
+
+	/**
+	 * Returns the row numbers in the natural ordering of Students: by last name,
+	 * then first name, then id. Rows that compare equal keep their order.
+	 *
+	 * @return a permutation of the row numbers in natural order
+	 */
+	public int[] order() {
+
+		int[] rank = dictionaryRanks();
+		int[] order = identity();
+
+		order = stableSortBy( order, id );
+		order = stableSortBy( order, lookUp( first, rank ) );
+
+		return stableSortBy( order, lookUp( last, rank ) );
+	}
+
+	/**
+	 * Returns the row numbers in ascending order of id, as by
+	 * {@link StudentIDComparator}. Rows with equal ids keep their order.
+	 *
+	 * @return a permutation of the row numbers by id
+	 */
+	public int[] orderById() {
+		return stableSortBy( identity(), id );
+	}
+
+	/**
+	 * Returns the row numbers in descending order of GPA with ties in natural
+	 * order, as by {@link StudentGPAComparator}. GPAs of -0.0 and 0.0 are equal,
+	 * and NaN GPAs come last.
+	 *
+	 * @return a permutation of the row numbers by GPA
+	 */
+	public int[] orderByGpa() {
+
+		// Rank each GPA among the distinct GPAs, in ascending order with NaN last
+		double[] distinct = new double[ size ];
+		int numbers = 0;
+
+		for ( int row = 0; row < size; row++ ) {
+			if ( !Double.isNaN( gpa[ row ] ) )
+				distinct[ numbers++ ] = gpa[ row ] + 0.0;
+		}
+
+		sorter.sort( distinct, 0, numbers );
+
+		int count = 0;
+
+		for ( int i = 0; i < numbers; i++ ) {
+			if ( count == 0 || distinct[ count - 1 ] != distinct[ i ] )
+				distinct[ count++ ] = distinct[ i ];
+		}
+
+		int[] key = new int[ size ];
+
+		for ( int row = 0; row < size; row++ ) {
+			key[ row ] = Double.isNaN( gpa[ row ] ) ? Integer.MAX_VALUE
+					: count - 1 - Arrays.binarySearch( distinct, 0, count, gpa[ row ] + 0.0 );
+		}
+
+		return stableSortBy( order(), key );
+	}
+
+	/**
+	 * Grows every column to a new capacity.
+	 *
+	 * @param capacity the new number of rows to allocate
+	 */
+	private void grow( int capacity ) {
+		id = Arrays.copyOf( id, capacity );
+		creditHours = Arrays.copyOf( creditHours, capacity );
+		gpa = Arrays.copyOf( gpa, capacity );
+		first = Arrays.copyOf( first, capacity );
+		last = Arrays.copyOf( last, capacity );
+		unityID = Arrays.copyOf( unityID, capacity );
+	}
+
+	/**
+	 * Returns the dictionary code of a String, adding it to the dictionary if needed.
+	 *
+	 * @param s the String to encode
+	 * @return the code of s
+	 */
+	private int encode( String s ) {
+
+		Integer code = codes.get( s );
+
+		if ( code != null )
+			return code;
+
+		if ( dictionarySize == dictionary.length )
+			dictionary = Arrays.copyOf( dictionary, dictionarySize * 2 );
+
+		dictionary[ dictionarySize ] = s;
+		codes.put( s, dictionarySize );
+
+		return dictionarySize++;
+	}
+
+	/**
+	 * Returns the position of each dictionary code among the dictionary Strings
+	 * in String order.
+	 *
+	 * @return the rank of each code
+	 */
+	private int[] dictionaryRanks() {
+
+		String[] sorted = Arrays.copyOf( dictionary, dictionarySize );
+		Arrays.sort( sorted );
+
+		int[] rank = new int[ dictionarySize ];
+
+		for ( int i = 0; i < sorted.length; i++ )
+			rank[ codes.get( sorted[ i ] ) ] = i;
+
+		return rank;
+	}
+
+	/**
+	 * Returns the value of table for each code in a column.
+	 *
+	 * @param column a column of codes
+	 * @param table the value of each code
+	 * @return the value of each row
+	 */
+	private int[] lookUp( int[] column, int[] table ) {
+
+		int[] values = new int[ size ];
+
+		for ( int row = 0; row < size; row++ )
+			values[ row ] = table[ column[ row ] ];
+
+		return values;
+	}
+
+	/**
+	 * Returns the row numbers in their stored order.
+	 *
+	 * @return the identity permutation
+	 */
+	private int[] identity() {
+
+		int[] order = new int[ size ];
+
+		for ( int row = 0; row < size; row++ )
+			order[ row ] = row;
+
+		return order;
+	}
+
+	/**
+	 * Stably reorders a permutation of rows by an int key per row. Each key is
+	 * packed above the row's position in the permutation, so one radix sort of
+	 * longs orders by key and keeps equal keys in their current order.
+	 *
+	 * @param order the current permutation of rows
+	 * @param key the key of each row
+	 * @return the reordered permutation
+	 */
+	private int[] stableSortBy( int[] order, int[] key ) {
+
+		long[] packed = new long[ order.length ];
+
+		for ( int i = 0; i < order.length; i++ )
+			packed[ i ] = ( ( long ) key[ order[ i ] ] << 32 ) | i;
+
+		sorter.sort( packed );
+
+		int[] sorted = new int[ order.length ];
+
+		for ( int i = 0; i < order.length; i++ )
+			sorted[ i ] = order[ ( int ) packed[ i ] ];
+
+		return sorted;
+	}
+}
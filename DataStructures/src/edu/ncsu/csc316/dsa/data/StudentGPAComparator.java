@@ -11,7 +11,8 @@ import java.util.Comparator;
 public class StudentGPAComparator implements Comparator<Student> {
 
 	/**
-	 * Compares students based on GPA in descending order.
+	 * Compares students based on GPA in descending order, breaking ties with
+	 * their natural ordering. A GPA of NaN belongs after every other GPA.
 	 * 
 	 * @param one Student one
 	 * @param two Student two
@@ -20,13 +21,32 @@ public class StudentGPAComparator implements Comparator<Student> {
 	 */
 	@Override
 	public int compare(Student one, Student two) {
-						
-		if ( one.getGpa() - two.getGpa() > 0 )
-			return -1;
 		
-		else if ( one.getGpa() - two.getGpa() < 0 )
-			return 1;
+		int c = ComparatorBuilder.compareDoubles( one.getGpa(), two.getGpa(), true );
 		
-		return one.compareTo(two);
+		return c != 0 ? c : one.compareTo(two);
+	}
+	
+	/**
+	 * Returns whether another object is also a StudentGPAComparator. Every
+	 * StudentGPAComparator orders students the same way, so caches keyed by
+	 * Comparator treat fresh instances as the same key.
+	 * 
+	 * @param o the object to compare to
+	 * @return true if o is a StudentGPAComparator
+	 */
+	@Override
+	public boolean equals( Object o ) {
+		return o instanceof StudentGPAComparator;
+	}
+	
+	/**
+	 * Returns the same hash code for every StudentGPAComparator.
+	 * 
+	 * @return the hash code of the class
+	 */
+	@Override
+	public int hashCode() {
+		return StudentGPAComparator.class.hashCode();
 	}
 }
@@ -20,6 +20,29 @@ public class StudentIDComparator implements Comparator<Student> {
 	 */
 	@Override
 	public int compare(Student one, Student two) {		
-		return one.getId() - two.getId();
+		return Integer.compare( one.getId(), two.getId() );
+	}
+	
+	/**
+	 * Returns whether another object is also a StudentIDComparator. Every
+	 * StudentIDComparator orders students the same way, so caches keyed by
+	 * Comparator treat fresh instances as the same key.
+	 * 
+	 * @param o the object to compare to
+	 * @return true if o is a StudentIDComparator
+	 */
+	@Override
+	public boolean equals( Object o ) {
+		return o instanceof StudentIDComparator;
+	}
+	
+	/**
+	 * Returns the same hash code for every StudentIDComparator.
+	 * 
+	 * @return the hash code of the class
+	 */
+	@Override
+	public int hashCode() {
+		return StudentIDComparator.class.hashCode();
 	}
 }
@@ -0,0 +1,335 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.map.hashing.LinearProbingHashMap;
+import edu.ncsu.csc316.dsa.sorter.KWayMerger;
+import edu.ncsu.csc316.dsa.sorter.TimSorter;
+
+/**
+ * BatchStudentLoader reads many student CSV files at once, one task per file,
+ * instead of one file after another. Tasks run on virtual threads when the
+ * Java runtime has them and on a fixed pool of platform threads otherwise. A
+ * file that is missing or malformed is reported in the {@link Result} with the
+ * exception that stopped it, and the other files still load.
+ *
+ * {@link #readMerged(Comparator, String...)} also overlaps parsing with the
+ * work done on the parsed students. Each task parses its file, drops repeated
+ * ids within the file and sorts what is left, then hands the sorted run to a
+ * bounded queue. The calling thread takes runs as they arrive and keeps, for
+ * each id, the student from the earliest file in the argument list that has
+ * it, while the remaining files are still being read. When every file is done
+ * the surviving students of each run are merged with a {@link KWayMerger}.
+ *
+ * Files use the same format as {@link StudentReader}:
+ *
+ *    FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS
+ *
+ * @author Will Greene
+ */
+public class BatchStudentLoader {
+
+	/** largest number of parsed files waiting to be taken from the queue */
+	public static final int QUEUE_CAPACITY = 4;
+
+	/**
+	 * Returns every file as an array of Student objects, reading the files concurrently.
+	 *
+	 * @param filePaths - the paths to the input CSV files
+	 * @return the roster or error of each file
+	 */
+	public static Result readAll( String... filePaths ) {
+		return load( filePaths, null, false );
+	}
+
+	/**
+	 * Returns the students of every file with repeated ids removed, sorted by a
+	 * Comparator. Of the students that share an id, the one in the earliest file
+	 * of filePaths is kept, and within a file the earliest line. Files that fail
+	 * to load contribute nothing.
+	 *
+	 * @param comparator - the order of the merged roster, or null for natural order
+	 * @param filePaths - the paths to the input CSV files
+	 * @return the roster or error of each file, and the merged roster
+	 */
+	public static Result readMerged( Comparator<Student> comparator, String... filePaths ) {
+		return load( filePaths, comparator, true );
+	}
+
+	/**
+	 * Returns an executor that runs each task on a new virtual thread, or a
+	 * fixed pool of platform threads, one per processor, if the runtime has no
+	 * virtual threads. Virtual threads are looked up reflectively so that this
+	 * class also runs on runtimes that predate them.
+	 *
+	 * @param tasks the number of tasks that will be submitted
+	 * @return an executor for the tasks
+	 */
+	static ExecutorService newExecutor( int tasks ) {
+
+		try {
+			Method factory = Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" );
+			return ( ExecutorService ) factory.invoke( null );
+		} catch ( ReflectiveOperationException e ) {
+			return Executors.newFixedThreadPool( Math.max( 1, Math.min( tasks, Runtime.getRuntime().availableProcessors() ) ) );
+		}
+	}
+
+	/**
+	 * Reads every file on its own task and collects the results as they arrive.
+	 *
+	 * @param filePaths the paths to the input CSV files
+	 * @param comparator the order of the merged roster, or null for natural order
+	 * @param merge whether to build the merged roster
+	 * @return the roster or error of each file, and the merged roster if merge is true
+	 */
+	private static Result load( String[] filePaths, Comparator<Student> comparator, boolean merge ) {
+
+		Result result = new Result( filePaths );
+		BlockingQueue<Batch> queue = new ArrayBlockingQueue<Batch>( QUEUE_CAPACITY );
+		ExecutorService executor = newExecutor( filePaths.length );
+
+		try {
+
+			for ( int i = 0; i < filePaths.length; i++ ) {
+				int file = i;
+				executor.execute( () -> read( file, filePaths[ file ], comparator, merge, queue ) );
+			}
+
+			// File index of the student kept for each id
+			LinearProbingHashMap<Integer, Integer> owner = new LinearProbingHashMap<Integer, Integer>();
+			Student[][] runs = new Student[ filePaths.length ][];
+
+			for ( int taken = 0; taken < filePaths.length; taken++ ) {
+
+				Batch batch = queue.take();
+				result.rosters[ batch.file ] = batch.roster;
+				result.errors[ batch.file ] = batch.error;
+
+				if ( !merge || batch.error != null )
+					continue;
+
+				runs[ batch.file ] = batch.run;
+
+				for ( Student s : batch.run ) {
+					Integer current = owner.get( s.getId() );
+					if ( current == null || current > batch.file )
+						owner.put( s.getId(), batch.file );
+				}
+			}
+
+			if ( merge ) {
+
+				Student[][] kept = new Student[ filePaths.length ][];
+
+				for ( int i = 0; i < runs.length; i++ ) {
+
+					kept[ i ] = new Student[ runs[ i ] == null ? 0 : runs[ i ].length ];
+					int count = 0;
+
+					for ( int j = 0; j < kept[ i ].length; j++ ) {
+						if ( owner.get( runs[ i ][ j ].getId() ) == i )
+							kept[ i ][ count++ ] = runs[ i ][ j ];
+					}
+
+					kept[ i ] = Arrays.copyOf( kept[ i ], count );
+				}
+
+				result.merged = KWayMerger.merge( comparator, kept );
+			}
+
+			return result;
+
+		} catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException( "Interrupted while loading rosters", e );
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Parses one file and puts the outcome on the queue. When merging, the
+	 * file's students are also reduced to one per id and sorted.
+	 *
+	 * @param file the index of the file in the batch
+	 * @param filePath the path to the file
+	 * @param comparator the order of the merged roster, or null for natural order
+	 * @param merge whether to prepare a sorted run for merging
+	 * @param queue where to put the outcome
+	 */
+	private static void read( int file, String filePath, Comparator<Student> comparator, boolean merge,
+			BlockingQueue<Batch> queue ) {
+
+		Batch batch = new Batch( file );
+
+		try {
+			batch.roster = MappedStudentReader.readInputAsArray( filePath );
+
+			if ( merge ) {
+				batch.run = firstOfEachId( batch.roster );
+				new TimSorter<Student>( comparator ).sort( batch.run );
+			}
+		} catch ( Throwable t ) {
+			// Every task must put a batch, or the loading thread waits forever
+			batch.roster = null;
+			batch.run = null;
+			batch.error = t;
+		}
+
+		try {
+			queue.put( batch );
+		} catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Returns the first student with each id, in roster order.
+	 *
+	 * @param roster the students of one file
+	 * @return the students whose ids appear earlier in no other student
+	 */
+	private static Student[] firstOfEachId( Student[] roster ) {
+
+		LinearProbingHashMap<Integer, Boolean> seen = new LinearProbingHashMap<Integer, Boolean>( roster.length * 2 + 1 );
+		Student[] unique = new Student[ roster.length ];
+		int count = 0;
+
+		for ( Student s : roster ) {
+			if ( seen.put( s.getId(), true ) == null )
+				unique[ count++ ] = s;
+		}
+
+		return Arrays.copyOf( unique, count );
+	}
+
+	/**
+	 * The outcome of parsing one file, passed from its task to the loading thread.
+	 */
+	private static class Batch {
+
+		/** index of the file in the batch */
+		private int file;
+
+		/** students of the file in file order, or null if it failed */
+		private Student[] roster;
+
+		/** first student of each id in the file, sorted, or null if not merging */
+		private Student[] run;
+
+		/** what stopped the file from loading, or null */
+		private Throwable error;
+
+		/**
+		 * Constructs an empty Batch for a file.
+		 *
+		 * @param file the index of the file in the batch
+		 */
+		private Batch( int file ) {
+			this.file = file;
+		}
+	}
+
+	/**
+	 * The outcome of loading a batch of files: the students or the error of each
+	 * file, in the order the paths were given, and the merged roster if one was
+	 * asked for.
+	 */
+	public static class Result {
+
+		/** path of each file */
+		private String[] paths;
+
+		/** students of each file, or null where a file failed */
+		private Student[][] rosters;
+
+		/** error of each file, or null where a file loaded */
+		private Throwable[] errors;
+
+		/** merged roster, or null if none was asked for */
+		private Student[] merged;
+
+		/**
+		 * Constructs an empty Result for a batch of files.
+		 *
+		 * @param paths the path of each file
+		 */
+		private Result( String[] paths ) {
+			this.paths = paths.clone();
+			this.rosters = new Student[ paths.length ][];
+			this.errors = new Throwable[ paths.length ];
+			this.merged = null;
+		}
+
+		/**
+		 * Returns the number of files in the batch.
+		 *
+		 * @return the number of files
+		 */
+		public int size() {
+			return paths.length;
+		}
+
+		/**
+		 * Returns the path of a file.
+		 *
+		 * @param file the index of the file in the batch
+		 * @return the path of the file
+		 */
+		public String getPath( int file ) {
+			return paths[ file ];
+		}
+
+		/**
+		 * Returns the students of a file in file order.
+		 *
+		 * @param file the index of the file in the batch
+		 * @return the students of the file, or null if it failed to load
+		 */
+		public Student[] getRoster( int file ) {
+			return rosters[ file ];
+		}
+
+		/**
+		 * Returns what stopped a file from loading.
+		 *
+		 * @param file the index of the file in the batch
+		 * @return the error of the file, or null if it loaded
+		 */
+		public Throwable getError( int file ) {
+			return errors[ file ];
+		}
+
+		/**
+		 * Returns whether any file failed to load.
+		 *
+		 * @return true if any file has an error
+		 */
+		public boolean hasErrors() {
+
+			for ( Throwable error : errors ) {
+				if ( error != null )
+					return true;
+			}
+
+			return false;
+		}
+
+		/**
+		 * Returns the merged roster of every file that loaded.
+		 *
+		 * @return the merged roster, or null if the files were not merged
+		 */
+		public Student[] getMerged() {
+			return merged;
+		}
+	}
+}
@@ -0,0 +1,387 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.map.hashing.LinearProbingHashMap;
+
+/**
+ * BinaryRoster saves a parsed roster in a compact binary file that can be
+ * loaded again without parsing the CSV. The file has three sections after a
+ * fixed-size header:
+ *
+ *    records  - one 28 byte record per student: id, credit hours, the string
+ *               table indexes of the first name, last name and unity ID, and GPA
+ *    offsets  - where each string of the string table starts, plus its end
+ *    strings  - the UTF-8 bytes of every distinct name and unity ID
+ *
+ * The header holds a magic number, the format version, the size and
+ * modification time of the CSV file the roster was read from, the section
+ * sizes and a CRC-32 of everything else in the file. Loading maps the file
+ * with {@link FileChannel#map}, checks the CRC, decodes each string once and
+ * builds the Students from the records, so it costs little more than reading
+ * the file. {@link #readInputAsArray(String, String)} falls back to the CSV
+ * and rewrites the binary file whenever the binary file is missing, from
+ * another version, corrupt, or older than the CSV.
+ *
+ * @author Will Greene
+ */
+public class BinaryRoster {
+
+	/** version of the format written by this class */
+	public static final int VERSION = 1;
+
+	/** first four bytes of every binary roster, "SRST" */
+	static final int MAGIC = 0x54535253;
+
+	/** size of the header in bytes */
+	static final int HEADER_SIZE = 48;
+
+	/** size of one student record in bytes */
+	static final int RECORD_SIZE = 28;
+
+	/** position of the version in the header */
+	static final int VERSION_POSITION = 4;
+
+	/** position of the CRC in the header; the CRC covers every byte before and after it */
+	static final int CRC_POSITION = 40;
+
+	/** byte order of every number in the file */
+	private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+	/**
+	 * Returns the roster in a CSV file, loading it from a binary roster when the
+	 * binary roster is current. Otherwise the CSV file is parsed with
+	 * {@link StudentReader#readInputAsArrayParallel(String)} and the binary
+	 * roster is rewritten for next time, stamped with the size and modification
+	 * time the CSV file had before it was parsed. The binary roster is only a
+	 * cache, so if it cannot be written the parsed roster is still returned.
+	 *
+	 * @param csvPath - the path to the input CSV file
+	 * @param binaryPath - the path to the binary roster
+	 * @return an array of Student objects
+	 * @throws IllegalArgumentException if the CSV file does not exist or a line is malformed
+	 * @throws UncheckedIOException if reading a file fails
+	 */
+	public static Student[] readInputAsArray( String csvPath, String binaryPath ) {
+
+		if ( isCurrent( csvPath, binaryPath ) ) {
+			try {
+				return read( binaryPath );
+			} catch ( IllegalArgumentException e ) {
+				// Corrupt, so parse the CSV and replace it
+			}
+		}
+
+		// Stamp the CSV before parsing, so changes made during the parse make the binary roster stale
+		long[] stamp = stamp( csvPath );
+		Student[] students = StudentReader.readInputAsArrayParallel( csvPath );
+
+		try {
+			write( students, stamp, binaryPath );
+		} catch ( UncheckedIOException | IllegalArgumentException e ) {
+			// The binary roster is only a cache; it is written again next time
+		}
+
+		return students;
+	}
+
+	/**
+	 * Returns whether a binary roster exists, has the current version, and was
+	 * written from the CSV file as it is now. The CRC is not checked.
+	 *
+	 * @param csvPath - the path to the CSV file the roster was read from
+	 * @param binaryPath - the path to the binary roster
+	 * @return true if the binary roster can stand in for the CSV file
+	 * @throws UncheckedIOException if reading a file fails
+	 */
+	public static boolean isCurrent( String csvPath, String binaryPath ) {
+
+		Path csv = Paths.get( csvPath );
+		Path binary = Paths.get( binaryPath );
+
+		if ( !Files.isRegularFile( csv ) || !Files.isRegularFile( binary ) )
+			return false;
+
+		try ( FileChannel channel = FileChannel.open( binary, StandardOpenOption.READ ) ) {
+
+			ByteBuffer header = ByteBuffer.allocate( HEADER_SIZE ).order( ORDER );
+
+			while ( header.hasRemaining() && channel.read( header ) > 0 )
+				continue;
+
+			return !header.hasRemaining() && header.getInt( 0 ) == MAGIC && header.getInt( VERSION_POSITION ) == VERSION
+					&& header.getLong( 8 ) == Files.size( csv )
+					&& header.getLong( 16 ) == Files.getLastModifiedTime( csv ).toMillis();
+
+		} catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/**
+	 * Writes a roster to a binary file, stamped with the size and modification
+	 * time of the CSV file it was read from. The file is written next to its
+	 * final path and then moved into place, atomically where the file system
+	 * supports it, so a reader never sees half a file.
+	 *
+	 * @param students - the roster to write
+	 * @param csvPath - the path to the CSV file the roster was read from
+	 * @param binaryPath - the path to the binary roster
+	 * @throws IllegalArgumentException if the CSV file does not exist
+	 * @throws UncheckedIOException if writing the file fails
+	 */
+	public static void write( Student[] students, String csvPath, String binaryPath ) {
+		write( students, stamp( csvPath ), binaryPath );
+	}
+
+	/**
+	 * Returns the size and modification time of a CSV file.
+	 *
+	 * @param csvPath the path to the CSV file
+	 * @return the size in bytes and the modification time in milliseconds
+	 * @throws IllegalArgumentException if the CSV file does not exist
+	 * @throws UncheckedIOException if reading the file's attributes fails
+	 */
+	private static long[] stamp( String csvPath ) {
+
+		Path csv = Paths.get( csvPath );
+
+		try {
+			return new long[] { Files.size( csv ), Files.getLastModifiedTime( csv ).toMillis() };
+		} catch ( NoSuchFileException e ) {
+			throw new IllegalArgumentException( "File not found: " + e.getMessage() );
+		} catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/**
+	 * Writes a roster to a binary file with a given stamp.
+	 *
+	 * @param students the roster to write
+	 * @param stamp the size and modification time of the CSV file the roster was read from
+	 * @param binaryPath the path to the binary roster
+	 * @throws IllegalArgumentException if the roster is too large for the format
+	 * @throws UncheckedIOException if writing the file fails
+	 */
+	private static void write( Student[] students, long[] stamp, String binaryPath ) {
+
+		try {
+
+			ByteBuffer buffer = encode( students, stamp[ 0 ], stamp[ 1 ] );
+			Path binary = Paths.get( binaryPath ).toAbsolutePath();
+			Path temp = Files.createTempFile( binary.getParent(), binary.getFileName().toString(), ".tmp" );
+
+			try {
+				try ( FileChannel channel = FileChannel.open( temp, StandardOpenOption.WRITE ) ) {
+					while ( buffer.hasRemaining() )
+						channel.write( buffer );
+				}
+
+				try {
+					Files.move( temp, binary, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+				} catch ( AtomicMoveNotSupportedException e ) {
+					Files.move( temp, binary, StandardCopyOption.REPLACE_EXISTING );
+				}
+
+			} finally {
+				Files.deleteIfExists( temp );
+			}
+
+		} catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/**
+	 * Returns the roster in a binary file. The header and CRC are checked, but
+	 * not whether the roster matches its CSV file.
+	 *
+	 * @param binaryPath - the path to the binary roster
+	 * @return an array of Student objects
+	 * @throws IllegalArgumentException if the file does not exist, is from
+	 *         another version or is corrupt
+	 * @throws UncheckedIOException if reading the file fails
+	 */
+	public static Student[] read( String binaryPath ) {
+
+		try ( FileChannel channel = MappedStudentReader.open( binaryPath ) ) {
+
+			long size = channel.size();
+
+			if ( size < HEADER_SIZE || size > Integer.MAX_VALUE )
+				throw new IllegalArgumentException( "Not a binary roster: " + binaryPath );
+
+			return decode( channel.map( FileChannel.MapMode.READ_ONLY, 0, size ).order( ORDER ), binaryPath );
+
+		} catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/**
+	 * Lays out a roster in the binary format.
+	 *
+	 * @param students the roster
+	 * @param sourceSize size of the CSV file the roster was read from
+	 * @param sourceModified modification time of the CSV file, in milliseconds
+	 * @return a buffer holding the whole file, positioned at its start
+	 */
+	private static ByteBuffer encode( Student[] students, long sourceSize, long sourceModified ) {
+
+		// Give each distinct string an index in the string table
+		LinearProbingHashMap<String, Integer> indexes = new LinearProbingHashMap<String, Integer>();
+		byte[][] strings = new byte[ Math.max( 1, students.length ) ][];
+		int[] codes = new int[ students.length * 3 ];
+		int stringCount = 0;
+		long stringBytes = 0;
+
+		for ( int i = 0; i < codes.length; i++ ) {
+
+			Student s = students[ i / 3 ];
+			String field = i % 3 == 0 ? s.getFirst() : i % 3 == 1 ? s.getLast() : s.getUnityID();
+			Integer index = indexes.get( field );
+
+			if ( index == null ) {
+
+				if ( stringCount == strings.length )
+					strings = Arrays.copyOf( strings, stringCount * 2 );
+
+				strings[ stringCount ] = field.getBytes( StandardCharsets.UTF_8 );
+				stringBytes += strings[ stringCount ].length;
+				index = stringCount++;
+				indexes.put( field, index );
+			}
+
+			codes[ i ] = index;
+		}
+
+		long size = HEADER_SIZE + ( long ) RECORD_SIZE * students.length + 4L * ( stringCount + 1 ) + stringBytes;
+
+		if ( size > Integer.MAX_VALUE )
+			throw new IllegalArgumentException( "Roster too large for a binary roster: " + size + " bytes" );
+
+		ByteBuffer buffer = ByteBuffer.allocate( ( int ) size ).order( ORDER );
+
+		buffer.putInt( MAGIC ).putInt( VERSION ).putLong( sourceSize ).putLong( sourceModified );
+		buffer.putInt( students.length ).putInt( stringCount ).putInt( ( int ) stringBytes ).putInt( 0 );
+		buffer.putLong( 0 );
+
+		for ( int i = 0; i < students.length; i++ ) {
+			buffer.putInt( students[ i ].getId() ).putInt( students[ i ].getCreditHours() );
+			buffer.putInt( codes[ 3 * i ] ).putInt( codes[ 3 * i + 1 ] ).putInt( codes[ 3 * i + 2 ] );
+			buffer.putDouble( students[ i ].getGpa() );
+		}
+
+		int offset = 0;
+
+		for ( int i = 0; i < stringCount; i++ ) {
+			buffer.putInt( offset );
+			offset += strings[ i ].length;
+		}
+
+		buffer.putInt( offset );
+
+		for ( int i = 0; i < stringCount; i++ )
+			buffer.put( strings[ i ] );
+
+		buffer.putLong( CRC_POSITION, crc( buffer ) );
+		buffer.clear();
+
+		return buffer;
+	}
+
+	/**
+	 * Builds the roster held in a binary file.
+	 *
+	 * @param buffer the whole file
+	 * @param binaryPath the path to the file, for error messages
+	 * @return the roster
+	 * @throws IllegalArgumentException if the file is from another version or is corrupt
+	 */
+	private static Student[] decode( ByteBuffer buffer, String binaryPath ) {
+
+		if ( buffer.getInt( 0 ) != MAGIC )
+			throw new IllegalArgumentException( "Not a binary roster: " + binaryPath );
+
+		if ( buffer.getInt( VERSION_POSITION ) != VERSION )
+			throw new IllegalArgumentException( "Binary roster " + binaryPath + " has version "
+					+ buffer.getInt( VERSION_POSITION ) + ", expected " + VERSION );
+
+		int count = buffer.getInt( 24 );
+		int stringCount = buffer.getInt( 28 );
+		int stringBytes = buffer.getInt( 32 );
+		long records = HEADER_SIZE;
+		long offsets = records + ( long ) RECORD_SIZE * count;
+		long strings = offsets + 4L * ( stringCount + 1 );
+
+		if ( count < 0 || stringCount < 0 || stringBytes < 0 || strings + stringBytes != buffer.capacity()
+				|| buffer.getLong( CRC_POSITION ) != crc( buffer ) )
+			throw new IllegalArgumentException( "Corrupt binary roster: " + binaryPath );
+
+		String[] table = new String[ stringCount ];
+		byte[] bytes = new byte[ stringBytes ];
+		buffer.get( ( int ) strings, bytes );
+
+		for ( int i = 0; i < stringCount; i++ ) {
+
+			int from = buffer.getInt( ( int ) offsets + 4 * i );
+			int to = buffer.getInt( ( int ) offsets + 4 * i + 4 );
+
+			if ( from < 0 || from > to || to > stringBytes )
+				throw new IllegalArgumentException( "Corrupt binary roster: " + binaryPath );
+
+			table[ i ] = new String( bytes, from, to - from, StandardCharsets.UTF_8 );
+		}
+
+		Student[] students = new Student[ count ];
+
+		for ( int i = 0; i < count; i++ ) {
+
+			int record = ( int ) records + RECORD_SIZE * i;
+			int first = buffer.getInt( record + 8 );
+			int last = buffer.getInt( record + 12 );
+			int unityID = buffer.getInt( record + 16 );
+
+			if ( first < 0 || first >= stringCount || last < 0 || last >= stringCount || unityID < 0
+					|| unityID >= stringCount )
+				throw new IllegalArgumentException( "Corrupt binary roster: " + binaryPath );
+
+			students[ i ] = new Student( table[ first ], table[ last ], buffer.getInt( record ),
+					buffer.getInt( record + 4 ), buffer.getDouble( record + 20 ), table[ unityID ] );
+		}
+
+		return students;
+	}
+
+	/**
+	 * Returns the CRC-32 of every byte of a binary roster except the CRC itself.
+	 *
+	 * @param buffer the whole file
+	 * @return the CRC of the file
+	 */
+	private static long crc( ByteBuffer buffer ) {
+
+		CRC32 crc = new CRC32();
+
+		crc.update( buffer.duplicate().position( 0 ).limit( CRC_POSITION ) );
+		crc.update( buffer.duplicate().limit( buffer.capacity() ).position( HEADER_SIZE ) );
+
+		return crc.getValue();
+	}
+}
@@ -0,0 +1,494 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.priority_queue.HeapPriorityQueue;
+import edu.ncsu.csc316.dsa.priority_queue.PriorityQueue.Entry;
+import edu.ncsu.csc316.dsa.sorter.KWayMerger;
+import edu.ncsu.csc316.dsa.sorter.Sorter;
+
+/**
+ * ExternalStudentSorter sorts student CSV files that are too large to hold in
+ * memory. The input is read a fixed number of students at a time, each chunk
+ * is sorted in memory with the given {@link Sorter}, and the sorted chunk is
+ * written to a temporary run file in a compact binary form. The runs are then
+ * merged with a {@link HeapPriorityQueue}, at most a fixed number at a time, so
+ * memory use depends only on the chunk size and merge width and not on the size
+ * of the input.
+ *
+ * Input and output files use the same format as {@link StudentReader}:
+ *
+ *    FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS
+ *
+ * The Comparator must describe the order the Sorter produces; it is used to
+ * merge the sorted runs. When the Sorter is stable, so is the external sort.
+ * Files that are already sorted, such as rosters from several campuses, can be
+ * merged directly with {@link #mergeFiles(Comparator, String, String...)}.
+ *
+ * @author Will Greene
+ */
+public class ExternalStudentSorter {
+
+	/** default number of students sorted in memory at a time */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+	/** default maximum number of runs merged at a time */
+	public static final int DEFAULT_MERGE_WIDTH = 64;
+
+	/** header line of a student CSV file */
+	static final String HEADER = "FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS";
+
+	/** size of the buffer used for each run file, in bytes */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/** sorter used to sort each chunk */
+	private Sorter<Student> sorter;
+
+	/** ordering produced by the sorter, used to merge runs */
+	private Comparator<Student> comparator;
+
+	/** number of students sorted in memory at a time */
+	private int chunkSize;
+
+	/** maximum number of runs merged at a time */
+	private int mergeWidth;
+
+	/** directory for run files, or null for the default temporary directory */
+	private Path tempDirectory;
+
+	/**
+	 * Constructs an ExternalStudentSorter.
+	 *
+	 * @param sorter sorter used to sort each chunk
+	 * @param comparator ordering produced by the sorter, used to merge runs
+	 * @param chunkSize number of students sorted in memory at a time
+	 * @param mergeWidth maximum number of runs merged at a time
+	 * @param tempDirectory directory for run files, or null for the default temporary directory
+	 * @throws IllegalArgumentException if chunkSize is less than 1 or mergeWidth is less than 2
+	 */
+	public ExternalStudentSorter( Sorter<Student> sorter, Comparator<Student> comparator, int chunkSize,
+			int mergeWidth, String tempDirectory ) {
+
+		if ( chunkSize < 1 )
+			throw new IllegalArgumentException( "Chunk size must be at least 1." );
+
+		if ( mergeWidth < 2 )
+			throw new IllegalArgumentException( "Merge width must be at least 2." );
+
+		this.sorter = sorter;
+		this.comparator = comparator;
+		this.chunkSize = chunkSize;
+		this.mergeWidth = mergeWidth;
+		this.tempDirectory = tempDirectory == null ? null : Paths.get( tempDirectory );
+	}
+
+	/**
+	 * Constructs an ExternalStudentSorter with the default chunk size and merge
+	 * width that writes runs to the default temporary directory.
+	 *
+	 * @param sorter sorter used to sort each chunk
+	 * @param comparator ordering produced by the sorter, used to merge runs
+	 */
+	public ExternalStudentSorter( Sorter<Student> sorter, Comparator<Student> comparator ) {
+		this( sorter, comparator, DEFAULT_CHUNK_SIZE, DEFAULT_MERGE_WIDTH, null );
+	}
+
+	/**
+	 * Sorts the students in the input CSV file and writes them to the output CSV
+	 * file. Temporary run files are removed before returning.
+	 *
+	 * @param inputPath - the path to the input student CSV file
+	 * @param outputPath - the path to write the sorted student CSV file to
+	 * @throws IllegalArgumentException if the input file does not exist
+	 * @throws UncheckedIOException if reading or writing a file fails
+	 */
+	public void sort( String inputPath, String outputPath ) {
+
+		ArrayBasedList<Path> runs = new ArrayBasedList<Path>();
+
+		try {
+			createRuns( inputPath, runs );
+
+			// Merge groups of runs until one final merge can take them all
+			while ( runs.size() > mergeWidth ) {
+
+				ArrayBasedList<Path> merged = new ArrayBasedList<Path>();
+
+				try {
+					for ( int i = 0; i < runs.size(); i += mergeWidth ) {
+
+						Path run = createRunFile();
+						merged.addLast( run );
+
+						try ( DataOutputStream out = openRun( run ) ) {
+							merge( runs, i, Math.min( i + mergeWidth, runs.size() ), s -> writeRecord( out, s ) );
+							out.writeBoolean( false );
+						}
+					}
+				} finally {
+					deleteAll( runs );
+					runs = merged;
+				}
+			}
+
+			try ( BufferedWriter out = Files.newBufferedWriter( Paths.get( outputPath ), StandardCharsets.UTF_8 ) ) {
+
+				out.write( HEADER );
+				out.newLine();
+
+				merge( runs, 0, runs.size(), s -> {
+					out.write( formatLine( s ) );
+					out.newLine();
+				} );
+			}
+
+		} catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		} finally {
+			deleteAll( runs );
+		}
+	}
+
+	/**
+	 * Merges student CSV files that are each already sorted by comparator into
+	 * one sorted output CSV file. The inputs are streamed through a
+	 * {@link KWayMerger}, so only one student per input is held in memory.
+	 * Students that compare equal are written in the order their files are
+	 * given.
+	 *
+	 * @param comparator ordering of the input files
+	 * @param outputPath - the path to write the merged student CSV file to
+	 * @param inputPaths - the paths to the sorted input student CSV files
+	 * @throws IllegalArgumentException if an input file does not exist
+	 * @throws UncheckedIOException if reading or writing a file fails
+	 */
+	public static void mergeFiles( Comparator<Student> comparator, String outputPath, String... inputPaths ) {
+
+		StudentFileIterator[] inputs = new StudentFileIterator[ inputPaths.length ];
+
+		try {
+			for ( int i = 0; i < inputs.length; i++ )
+				inputs[ i ] = new StudentFileIterator( inputPaths[ i ] );
+
+			KWayMerger<Student> merger = new KWayMerger<Student>( comparator, inputs );
+
+			try ( BufferedWriter out = Files.newBufferedWriter( Paths.get( outputPath ), StandardCharsets.UTF_8 ) ) {
+
+				out.write( HEADER );
+				out.newLine();
+
+				while ( merger.hasNext() ) {
+					out.write( formatLine( merger.next() ) );
+					out.newLine();
+				}
+			}
+
+		} catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		} finally {
+			for ( StudentFileIterator input : inputs ) {
+				if ( input != null )
+					input.close();
+			}
+		}
+	}
+
+	/**
+	 * Reads the input file a chunk at a time, sorting each chunk and writing it
+	 * to a new run file.
+	 *
+	 * @param inputPath - the path to the input student CSV file
+	 * @param runs list to add the run files to
+	 * @throws IOException if reading or writing a file fails
+	 */
+	private void createRuns( String inputPath, ArrayBasedList<Path> runs ) throws IOException {
+
+		Student[] chunk = new Student[ chunkSize ];
+		int count = 0;
+
+		try ( BufferedReader in = Files.newBufferedReader( Paths.get( inputPath ), StandardCharsets.UTF_8 ) ) {
+
+			in.readLine(); // SKIP HEADER LINE
+			String line;
+
+			while ( ( line = in.readLine() ) != null ) {
+
+				if ( line.isEmpty() )
+					continue;
+
+				chunk[ count++ ] = StudentReader.processLine( line );
+
+				if ( count == chunkSize ) {
+					writeRun( chunk, count, runs );
+					count = 0;
+				}
+			}
+
+			if ( count > 0 )
+				writeRun( chunk, count, runs );
+
+		} catch ( NoSuchFileException e ) {
+			throw new IllegalArgumentException( "File not found: " + e.getMessage() );
+		}
+	}
+
+	/**
+	 * Sorts the first count students of chunk and writes them to a new run file.
+	 *
+	 * @param chunk the students read so far
+	 * @param count the number of students in chunk
+	 * @param runs list to add the run file to
+	 * @throws IOException if writing the run file fails
+	 */
+	private void writeRun( Student[] chunk, int count, ArrayBasedList<Path> runs ) throws IOException {
+
+		Student[] students = count == chunk.length ? chunk : Arrays.copyOf( chunk, count );
+		sorter.sort( students );
+
+		Path run = createRunFile();
+		runs.addLast( run );
+
+		try ( DataOutputStream out = openRun( run ) ) {
+
+			for ( Student s : students )
+				writeRecord( out, s );
+
+			out.writeBoolean( false );
+		}
+
+		Arrays.fill( chunk, null );
+	}
+
+	/**
+	 * Merges the runs in the index range [from, to) of runs, passing each
+	 * student to sink in sorted order. Students that compare equal are taken
+	 * from the earlier run first.
+	 *
+	 * @param runs the run files
+	 * @param from index of the first run to merge (inclusive)
+	 * @param to index of the last run to merge (exclusive)
+	 * @param sink receives the merged students
+	 * @throws IOException if reading a run or writing to sink fails
+	 */
+	private void merge( ArrayBasedList<Path> runs, int from, int to, StudentSink sink ) throws IOException {
+
+		RunReader[] readers = new RunReader[ to - from ];
+		HeapPriorityQueue<RunHead, RunReader> heap = new HeapPriorityQueue<RunHead, RunReader>();
+
+		try {
+			for ( int i = 0; i < readers.length; i++ ) {
+
+				readers[ i ] = new RunReader( runs.get( from + i ) );
+				Student first = readers[ i ].read();
+
+				if ( first != null )
+					heap.insert( new RunHead( first, i ), readers[ i ] );
+			}
+
+			while ( !heap.isEmpty() ) {
+
+				Entry<RunHead, RunReader> min = heap.deleteMin();
+				RunHead head = min.getKey();
+
+				sink.accept( head.student );
+
+				head.student = min.getValue().read();
+
+				if ( head.student != null )
+					heap.insert( head, min.getValue() );
+			}
+		} finally {
+			for ( RunReader reader : readers ) {
+				if ( reader != null )
+					reader.close();
+			}
+		}
+	}
+
+	/**
+	 * Creates a new, empty run file.
+	 *
+	 * @return the path to the run file
+	 * @throws IOException if the file cannot be created
+	 */
+	private Path createRunFile() throws IOException {
+
+		if ( tempDirectory == null )
+			return Files.createTempFile( "roster-run", ".bin" );
+
+		return Files.createTempFile( tempDirectory, "roster-run", ".bin" );
+	}
+
+	/**
+	 * Opens a run file for writing.
+	 *
+	 * @param run the run file
+	 * @return a stream that writes to the run file
+	 * @throws IOException if the file cannot be opened
+	 */
+	private static DataOutputStream openRun( Path run ) throws IOException {
+		return new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( run ), BUFFER_SIZE ) );
+	}
+
+	/**
+	 * Writes one student to a run file. Each record is preceded by true, and the
+	 * end of the run is marked by false.
+	 *
+	 * @param out the run file stream
+	 * @param s the student to write
+	 * @throws IOException if writing fails
+	 */
+	private static void writeRecord( DataOutputStream out, Student s ) throws IOException {
+		out.writeBoolean( true );
+		out.writeUTF( s.getFirst() );
+		out.writeUTF( s.getLast() );
+		out.writeUTF( s.getUnityID() );
+		out.writeInt( s.getId() );
+		out.writeDouble( s.getGpa() );
+		out.writeInt( s.getCreditHours() );
+	}
+
+	/**
+	 * Returns the CSV line for a student.
+	 *
+	 * @param s the student
+	 * @return the CSV line for the student, without a line terminator
+	 */
+	static String formatLine( Student s ) {
+		return s.getFirst() + "," + s.getLast() + "," + s.getUnityID() + "," + s.getId() + "," + s.getGpa() + ","
+				+ s.getCreditHours();
+	}
+
+	/**
+	 * Deletes every file in the list, ignoring files that are already gone, and
+	 * empties the list.
+	 *
+	 * @param runs the files to delete
+	 */
+	private static void deleteAll( ArrayBasedList<Path> runs ) {
+
+		while ( !runs.isEmpty() ) {
+
+			try {
+				Files.deleteIfExists( runs.removeLast() );
+			} catch ( IOException e ) {
+				// Leave the file for the operating system to clean up
+			}
+		}
+	}
+
+	/**
+	 * Receives students from a merge.
+	 *
+	 * @author Will Greene
+	 */
+	private interface StudentSink {
+
+		/**
+		 * Receives the next student in sorted order.
+		 *
+		 * @param s the next student
+		 * @throws IOException if writing the student fails
+		 */
+		void accept( Student s ) throws IOException;
+	}
+
+	/**
+	 * RunReader reads students back from a run file.
+	 *
+	 * @author Will Greene
+	 */
+	private static class RunReader implements Closeable {
+
+		/** the run file stream */
+		private DataInputStream in;
+
+		/**
+		 * Opens a run file for reading.
+		 *
+		 * @param run the run file
+		 * @throws IOException if the file cannot be opened
+		 */
+		RunReader( Path run ) throws IOException {
+			in = new DataInputStream( new BufferedInputStream( Files.newInputStream( run ), BUFFER_SIZE ) );
+		}
+
+		/**
+		 * Returns the next student in the run, or null at the end of the run.
+		 *
+		 * @return the next student, or null at the end of the run
+		 * @throws IOException if reading fails
+		 */
+		Student read() throws IOException {
+
+			if ( !in.readBoolean() )
+				return null;
+
+			String first = in.readUTF();
+			String last = in.readUTF();
+			String unityID = in.readUTF();
+			int id = in.readInt();
+			double gpa = in.readDouble();
+			int creditHours = in.readInt();
+
+			return new Student( first, last, id, creditHours, gpa, unityID );
+		}
+
+		@Override
+		public void close() throws IOException {
+			in.close();
+		}
+	}
+
+	/**
+	 * RunHead is the current student of one run during a merge. RunHeads are
+	 * ordered by the merge Comparator, then by run, so that equal students leave
+	 * the heap in run order.
+	 *
+	 * @author Will Greene
+	 */
+	private class RunHead implements Comparable<RunHead> {
+
+		/** the current student of the run */
+		private Student student;
+
+		/** position of the run among the runs being merged */
+		private final int run;
+
+		/**
+		 * Constructs a RunHead.
+		 *
+		 * @param student the current student of the run
+		 * @param run position of the run among the runs being merged
+		 */
+		RunHead( Student student, int run ) {
+			this.student = student;
+			this.run = run;
+		}
+
+		@Override
+		public int compareTo( RunHead other ) {
+
+			int c = comparator.compare( student, other.student );
+
+			return c != 0 ? c : Integer.compare( run, other.run );
+		}
+	}
+}
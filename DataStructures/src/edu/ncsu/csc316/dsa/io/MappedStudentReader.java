@@ -0,0 +1,384 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * MappedStudentReader reads student CSV files by memory-mapping them with
+ * {@link FileChannel#map} and scanning the mapped bytes directly. Commas and
+ * line breaks are found byte by byte, ids, GPAs and credit hours are parsed
+ * straight from the bytes, and Strings are created only for the name and
+ * unity ID fields, so loading a large roster is bound by I/O rather than by
+ * parsing.
+ *
+ * Files use the same format as {@link StudentReader}:
+ *
+ *    FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS
+ *
+ * Lines may end with \n or \r\n, and blank lines are skipped. Files larger than
+ * a single mapping can cover are mapped one window at a time, with each window
+ * ending on a line boundary.
+ *
+ * @author Will Greene
+ */
+public class MappedStudentReader {
+
+	/** largest number of bytes mapped at once */
+	static final int MAX_WINDOW = 1 << 30;
+
+	/** rough number of bytes per line, used to size the result array */
+	private static final int BYTES_PER_LINE_ESTIMATE = 32;
+
+	/** most significant digits a GPA may have and still be parsed exactly by the fast path */
+	private static final int MAX_FAST_DIGITS = 15;
+
+	/** powers of ten that are exactly representable as doubles */
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+			1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	/** students parsed so far */
+	private Student[] students;
+
+	/** number of students parsed so far */
+	private int count;
+
+	/** buffer used to copy String fields out of the mapping */
+	private byte[] scratch;
+
+	/**
+	 * Constructs a MappedStudentReader with room for an estimated number of students.
+	 *
+	 * @param capacity the estimated number of students
+	 */
+	private MappedStudentReader( int capacity ) {
+		this.students = new Student[ Math.max( 10, capacity ) ];
+		this.count = 0;
+		this.scratch = new byte[ 64 ];
+	}
+
+	/**
+	 * Returns the input CSV file as an array of Student objects.
+	 *
+	 * @param filePath - the path to the input CSV file
+	 * @return an array of Student objects
+	 * @throws IllegalArgumentException if the file does not exist or a line is malformed
+	 * @throws UncheckedIOException if reading the file fails
+	 */
+	public static Student[] readInputAsArray( String filePath ) {
+
+		try ( FileChannel channel = open( filePath ) ) {
+
+			long size = channel.size();
+
+			return parse( channel, nextLineStart( channel, 0, size ), size, MAX_WINDOW );
+
+		} catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/**
+	 * Opens a file for reading.
+	 *
+	 * @param filePath - the path to the file
+	 * @return a channel that reads the file
+	 * @throws IllegalArgumentException if the file does not exist
+	 * @throws IOException if the file cannot be opened
+	 */
+	static FileChannel open( String filePath ) throws IOException {
+
+		try {
+			return FileChannel.open( Paths.get( filePath ), StandardOpenOption.READ );
+		} catch ( NoSuchFileException e ) {
+			throw new IllegalArgumentException( "File not found: " + e.getMessage() );
+		}
+	}
+
+	/**
+	 * Returns the position just past the first line break at or after position,
+	 * or size if there is none.
+	 *
+	 * @param channel the file
+	 * @param position where to start looking
+	 * @param size the size of the file
+	 * @return the start of the next line
+	 * @throws IOException if reading the file fails
+	 */
+	static long nextLineStart( FileChannel channel, long position, long size ) throws IOException {
+
+		ByteBuffer buffer = ByteBuffer.allocate( 1 << 12 );
+
+		while ( position < size ) {
+
+			buffer.clear();
+			int read = channel.read( buffer, position );
+
+			if ( read <= 0 )
+				break;
+
+			for ( int i = 0; i < read; i++ ) {
+				if ( buffer.get( i ) == '\n' )
+					return position + i + 1;
+			}
+
+			position += read;
+		}
+
+		return size;
+	}
+
+	/**
+	 * Parses the students on the lines in the byte range [from, to) of a file.
+	 * The range must start at the beginning of a line and end at the end of a
+	 * line or of the file.
+	 *
+	 * @param channel the file
+	 * @param from position of the first byte to parse
+	 * @param to position one past the last byte to parse
+	 * @param window largest number of bytes to map at once
+	 * @return the students in the range, in file order
+	 * @throws IllegalArgumentException if a line is malformed or longer than window
+	 * @throws IOException if mapping the file fails
+	 */
+	static Student[] parse( FileChannel channel, long from, long to, int window ) throws IOException {
+
+		MappedStudentReader reader = new MappedStudentReader(
+				( int ) Math.min( Integer.MAX_VALUE - 8, ( to - from ) / BYTES_PER_LINE_ESTIMATE ) );
+		long position = from;
+
+		while ( position < to ) {
+
+			int length = ( int ) Math.min( window, to - position );
+			ByteBuffer buffer = channel.map( FileChannel.MapMode.READ_ONLY, position, length );
+			int end = length;
+
+			// Stop at the last complete line unless this window reaches the end of the range
+			if ( position + length < to ) {
+
+				while ( end > 0 && buffer.get( end - 1 ) != '\n' )
+					end--;
+
+				if ( end == 0 )
+					throw new IllegalArgumentException( "Line longer than " + window + " bytes at byte " + position );
+			}
+
+			reader.parseLines( buffer, end, position );
+			position += end;
+		}
+
+		return Arrays.copyOf( reader.students, reader.count );
+	}
+
+	/**
+	 * Parses every line in the first end bytes of buffer.
+	 *
+	 * @param buffer the mapped bytes
+	 * @param end number of bytes to parse
+	 * @param offset position of the buffer in the file, for error messages
+	 */
+	private void parseLines( ByteBuffer buffer, int end, long offset ) {
+
+		int lineStart = 0;
+
+		while ( lineStart < end ) {
+
+			int lineEnd = lineStart;
+
+			while ( lineEnd < end && buffer.get( lineEnd ) != '\n' )
+				lineEnd++;
+
+			int next = lineEnd + 1;
+
+			if ( lineEnd > lineStart && buffer.get( lineEnd - 1 ) == '\r' )
+				lineEnd--;
+
+			if ( lineEnd > lineStart )
+				add( parseLine( buffer, lineStart, lineEnd, offset ) );
+
+			lineStart = next;
+		}
+	}
+
+	/**
+	 * Parses one line into a Student.
+	 *
+	 * @param buffer the mapped bytes
+	 * @param start index of the first byte of the line
+	 * @param end index one past the last byte of the line, not counting line breaks
+	 * @param offset position of the buffer in the file, for error messages
+	 * @return the Student on the line
+	 */
+	private Student parseLine( ByteBuffer buffer, int start, int end, long offset ) {
+
+		int firstEnd = comma( buffer, start, end, offset );
+		int lastEnd = comma( buffer, firstEnd + 1, end, offset );
+		int unityEnd = comma( buffer, lastEnd + 1, end, offset );
+		int idEnd = comma( buffer, unityEnd + 1, end, offset );
+		int gpaEnd = comma( buffer, idEnd + 1, end, offset );
+
+		// Anything after the credit hours is ignored
+		int hoursEnd = gpaEnd + 1;
+
+		while ( hoursEnd < end && buffer.get( hoursEnd ) != ',' )
+			hoursEnd++;
+
+		String first = string( buffer, start, firstEnd );
+		String last = string( buffer, firstEnd + 1, lastEnd );
+		String unityID = string( buffer, lastEnd + 1, unityEnd );
+		int id = parseInt( buffer, unityEnd + 1, idEnd );
+		double gpa = parseDouble( buffer, idEnd + 1, gpaEnd );
+		int creditHours = parseInt( buffer, gpaEnd + 1, hoursEnd );
+
+		return new Student( first, last, id, creditHours, gpa, unityID );
+	}
+
+	/**
+	 * Returns the index of the next comma in [from, end) of buffer.
+	 *
+	 * @param buffer the mapped bytes
+	 * @param from index to start looking at
+	 * @param end index one past the last byte of the line
+	 * @param offset position of the buffer in the file, for error messages
+	 * @return the index of the comma
+	 * @throws IllegalArgumentException if the line has no more commas
+	 */
+	private static int comma( ByteBuffer buffer, int from, int end, long offset ) {
+
+		for ( int i = from; i < end; i++ ) {
+			if ( buffer.get( i ) == ',' )
+				return i;
+		}
+
+		throw new IllegalArgumentException( "Malformed student line near byte " + ( offset + from ) );
+	}
+
+	/**
+	 * Appends a student, growing the array if needed.
+	 *
+	 * @param s the student to append
+	 */
+	private void add( Student s ) {
+
+		if ( count == students.length )
+			students = Arrays.copyOf( students, students.length * 2 + 1 );
+
+		students[ count++ ] = s;
+	}
+
+	/**
+	 * Decodes the UTF-8 bytes in [from, to) of buffer.
+	 *
+	 * @param buffer the mapped bytes
+	 * @param from index of the first byte
+	 * @param to index one past the last byte
+	 * @return the decoded String
+	 */
+	private String string( ByteBuffer buffer, int from, int to ) {
+
+		int length = to - from;
+
+		if ( length > scratch.length )
+			scratch = new byte[ Math.max( length, scratch.length * 2 ) ];
+
+		for ( int i = 0; i < length; i++ )
+			scratch[ i ] = buffer.get( from + i );
+
+		return new String( scratch, 0, length, StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * Parses the decimal int in [from, to) of buffer.
+	 *
+	 * @param buffer the mapped bytes
+	 * @param from index of the first byte
+	 * @param to index one past the last byte
+	 * @return the parsed int
+	 * @throws NumberFormatException if the bytes are not an int
+	 */
+	private int parseInt( ByteBuffer buffer, int from, int to ) {
+
+		boolean negative = from < to && buffer.get( from ) == '-';
+		int i = negative || ( from < to && buffer.get( from ) == '+' ) ? from + 1 : from;
+
+		if ( i == to )
+			throw new NumberFormatException( "Expected an integer but found \"" + string( buffer, from, to ) + "\"" );
+
+		long value = 0;
+
+		for ( ; i < to; i++ ) {
+
+			int digit = buffer.get( i ) - '0';
+
+			if ( digit < 0 || digit > 9 || value > Integer.MAX_VALUE + 1L )
+				throw new NumberFormatException( "Expected an integer but found \"" + string( buffer, from, to ) + "\"" );
+
+			value = value * 10 + digit;
+		}
+
+		value = negative ? -value : value;
+
+		if ( value < Integer.MIN_VALUE || value > Integer.MAX_VALUE )
+			throw new NumberFormatException( "Integer out of range: " + string( buffer, from, to ) );
+
+		return ( int ) value;
+	}
+
+	/**
+	 * Parses the decimal double in [from, to) of buffer. Plain decimals with at
+	 * most 15 significant digits are parsed directly from the bytes; anything
+	 * else is handed to {@link Double#parseDouble}. Both give the same result.
+	 *
+	 * @param buffer the mapped bytes
+	 * @param from index of the first byte
+	 * @param to index one past the last byte
+	 * @return the parsed double
+	 * @throws NumberFormatException if the bytes are not a double
+	 */
+	private double parseDouble( ByteBuffer buffer, int from, int to ) {
+
+		boolean negative = from < to && buffer.get( from ) == '-';
+		int i = negative || ( from < to && buffer.get( from ) == '+' ) ? from + 1 : from;
+
+		long mantissa = 0;
+		int digits = 0;
+		int fractionDigits = -1;
+
+		for ( ; i < to; i++ ) {
+
+			byte b = buffer.get( i );
+
+			if ( b == '.' && fractionDigits < 0 ) {
+				fractionDigits = 0;
+				continue;
+			}
+
+			int digit = b - '0';
+
+			if ( digit < 0 || digit > 9 || digits == MAX_FAST_DIGITS )
+				break;
+
+			mantissa = mantissa * 10 + digit;
+			digits++;
+
+			if ( fractionDigits >= 0 )
+				fractionDigits++;
+		}
+
+		// Both operands are exact, so one correctly rounded division matches parseDouble
+		if ( i == to && digits > 0 ) {
+			double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[ fractionDigits ] : mantissa;
+			return negative ? -value : value;
+		}
+
+		return Double.parseDouble( string( buffer, from, to ) );
+	}
+}
@@ -0,0 +1,154 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * StudentFileIterator reads the students of a CSV file one line at a time, so
+ * a file can be processed without holding all of its students in memory. The
+ * file uses the same format as {@link StudentReader}:
+ *
+ *    FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS
+ *
+ * Blank lines are skipped. The file is closed once the last student has been
+ * read, or earlier by calling {@link #close()}.
+ *
+ * @author Will Greene
+ */
+public class StudentFileIterator implements Iterator<Student>, Closeable {
+
+	/** reader for the CSV file, or null once the file is closed */
+	private BufferedReader in;
+
+	/** the next student to return, or null at the end of the file */
+	private Student next;
+
+	/** number of the last line read, counting the header as line 1 */
+	private int lineNumber;
+
+	/**
+	 * Opens a student CSV file and skips its header line.
+	 *
+	 * @param filePath - the path to the input CSV file
+	 * @throws IllegalArgumentException if the file does not exist or its first
+	 *         student line is malformed
+	 * @throws UncheckedIOException if reading the file fails
+	 */
+	public StudentFileIterator( String filePath ) {
+
+		try {
+			in = Files.newBufferedReader( Paths.get( filePath ), StandardCharsets.UTF_8 );
+			in.readLine(); // SKIP HEADER LINE
+			lineNumber = 1;
+			next = readStudent();
+		} catch ( NoSuchFileException e ) {
+			throw new IllegalArgumentException( "File not found: " + e.getMessage() );
+		} catch ( IOException e ) {
+			close();
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/**
+	 * Returns true if the file has another student.
+	 *
+	 * @return true if the file has another student
+	 */
+	@Override
+	public boolean hasNext() {
+		return next != null;
+	}
+
+	/**
+	 * Returns the next student in the file.
+	 *
+	 * @return the next student in the file
+	 * @throws NoSuchElementException if every student has been read
+	 * @throws IllegalArgumentException if the line after the returned student
+	 *         is malformed, which closes the file
+	 * @throws UncheckedIOException if reading the file fails
+	 */
+	@Override
+	public Student next() {
+
+		if ( next == null )
+			throw new NoSuchElementException( "No students left in the file." );
+
+		Student current = next;
+
+		try {
+			next = readStudent();
+		} catch ( IOException e ) {
+			close();
+			throw new UncheckedIOException( e );
+		}
+
+		return current;
+	}
+
+	/**
+	 * Closes the file. Any students not yet read are skipped.
+	 */
+	@Override
+	public void close() {
+
+		next = null;
+
+		if ( in == null )
+			return;
+
+		try {
+			in.close();
+		} catch ( IOException e ) {
+			// Nothing more will be read from the file
+		} finally {
+			in = null;
+		}
+	}
+
+	/**
+	 * Reads the next non-blank line of the file as a student, closing the file
+	 * at its end or at a malformed line.
+	 *
+	 * @return the next student, or null at the end of the file
+	 * @throws IllegalArgumentException if the line is malformed
+	 * @throws IOException if reading the file fails
+	 */
+	private Student readStudent() throws IOException {
+
+		if ( in == null )
+			return null;
+
+		String line;
+
+		while ( ( line = in.readLine() ) != null ) {
+
+			lineNumber++;
+
+			if ( line.isEmpty() )
+				continue;
+
+			try {
+				return StudentReader.processLine( line );
+			} catch ( RuntimeException e ) {
+				// The Scanner's NoSuchElementException would look like the end of the file
+				close();
+				throw new IllegalArgumentException( "Malformed student line " + lineNumber + ": " + line, e );
+			}
+		}
+
+		close();
+
+		return null;
+	}
+}
@@ -2,8 +2,18 @@ package edu.ncsu.csc316.dsa.io;
 
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.util.Arrays;
 import java.util.Scanner;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import edu.ncsu.csc316.dsa.data.Student;
 
 /**
@@ -18,6 +28,9 @@ import edu.ncsu.csc316.dsa.data.Student;
  *
  */
 public class StudentReader {
+	
+	/** smallest number of bytes worth parsing on a separate worker */
+	static final long MIN_CHUNK_BYTES = 1 << 20;
 
 	/**
 	 * Returns the input CSV file as an array of Student objects. // added a period + blank line
@@ -48,13 +61,144 @@ public class StudentReader {
 		return list;
 	}
 
+	/**
+	 * Returns the input CSV file as an array of Student objects, parsing the
+	 * file on several workers. The file is memory-mapped and split into byte
+	 * ranges that start and end on line boundaries, one per worker of the common
+	 * {@link ForkJoinPool}, and each range is parsed by a
+	 * {@link MappedStudentReader}. The parsed ranges are joined in file order,
+	 * so the result is the same as reading the file sequentially.
+	 * 
+	 * @param filePath - the path to the input CSV file
+	 * @return an array of Student objects
+	 * @throws IllegalArgumentException if the file does not exist or a line is malformed
+	 * @throws UncheckedIOException if reading the file fails
+	 */
+	public static Student[] readInputAsArrayParallel(String filePath)
+	{
+		return readInputAsArrayParallel(filePath, MIN_CHUNK_BYTES);
+	}
+	
+	/**
+	 * Returns the input CSV file as an array of Student objects, parsing ranges
+	 * of at least minChunkBytes on separate workers.
+	 * 
+	 * @param filePath - the path to the input CSV file
+	 * @param minChunkBytes - the smallest number of bytes to give one worker
+	 * @return an array of Student objects
+	 */
+	static Student[] readInputAsArrayParallel(String filePath, long minChunkBytes)
+	{
+		try(FileChannel channel = MappedStudentReader.open(filePath))
+		{
+			long size = channel.size();
+			long start = MappedStudentReader.nextLineStart(channel, 0, size); // SKIP HEADER LINE
+			int chunks = (int) Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), (size - start) / minChunkBytes));
+			
+			// Move each evenly spaced split point forward to the start of a line
+			long[] bounds = new long[chunks + 1];
+			bounds[0] = start;
+			bounds[chunks] = size;
+			for(int i = 1; i < chunks; i++)
+			{
+				long split = start + (size - start) * i / chunks;
+				bounds[i] = Math.max(bounds[i - 1], MappedStudentReader.nextLineStart(channel, split - 1, size));
+			}
+			
+			Student[][] parts = new Student[chunks][];
+			ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[chunks];
+			for(int i = 0; i < chunks; i++)
+			{
+				int chunk = i;
+				tasks[i] = ForkJoinTask.adapt(() -> {
+					try {
+						parts[chunk] = MappedStudentReader.parse(channel, bounds[chunk], bounds[chunk + 1],
+								MappedStudentReader.MAX_WINDOW);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+			ForkJoinTask.invokeAll(tasks);
+			
+			int total = 0;
+			for(Student[] part : parts)
+			{
+				total += part.length;
+			}
+			
+			Student[] list = new Student[total];
+			int index = 0;
+			for(Student[] part : parts)
+			{
+				System.arraycopy(part, 0, list, index, part.length);
+				index += part.length;
+			}
+			return list;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Returns an iterator over the students in the input CSV file. Students are
+	 * parsed one line at a time as the iterator advances, so memory use does not
+	 * grow with the size of the file. The file stays open until the last student
+	 * is read or the iterator is closed.
+	 * 
+	 * @param filePath - the path to the input CSV file
+	 * @return an iterator over the students in the file
+	 * @throws IllegalArgumentException if the file does not exist or its first
+	 *         student line is malformed
+	 */
+	public static StudentFileIterator iterator(String filePath)
+	{
+		return new StudentFileIterator(filePath);
+	}
+	
+	/**
+	 * Passes each student in the input CSV file to action, in file order,
+	 * without holding more than one student at a time.
+	 * 
+	 * @param filePath - the path to the input CSV file
+	 * @param action - receives each student
+	 * @throws IllegalArgumentException if the file does not exist or a line is malformed
+	 * @throws UncheckedIOException if reading the file fails
+	 */
+	public static void forEach(String filePath, Consumer<? super Student> action)
+	{
+		try(StudentFileIterator students = iterator(filePath))
+		{
+			students.forEachRemaining(action);
+		}
+	}
+	
+	/**
+	 * Returns a sequential Stream of the students in the input CSV file, parsed
+	 * lazily as the Stream is consumed, so aggregations run in one pass without
+	 * building an array. The Stream should be closed, for example with
+	 * try-with-resources, to release the file if it is not fully consumed.
+	 * 
+	 * @param filePath - the path to the input CSV file
+	 * @return a Stream of the students in the file
+	 * @throws IllegalArgumentException if the file does not exist, or when
+	 *         consumed, if a line is malformed
+	 */
+	public static Stream<Student> stream(String filePath)
+	{
+		StudentFileIterator students = iterator(filePath);
+		Spliterator<Student> spliterator = Spliterators.spliteratorUnknownSize(students,
+				Spliterator.ORDERED | Spliterator.NONNULL);
+		return StreamSupport.stream(spliterator, false).onClose(students::close);
+	}
+
 	/**
 	 * Processes a single line from the input file to construct a Student. // added a blank line
 	 * 
 	 * @param line - the input line from the input file
 	 * @return a Student representation of the input line
 	 */
-	private static Student processLine(String line) {
+	static Student processLine(String line) {
 				
 		Scanner s = new Scanner( line );
 		s.useDelimiter( "," );
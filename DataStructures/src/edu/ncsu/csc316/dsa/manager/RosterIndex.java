@@ -0,0 +1,483 @@
+package edu.ncsu.csc316.dsa.manager;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.map.Map.Entry;
+import edu.ncsu.csc316.dsa.map.search_tree.RedBlackTreeMap;
+import edu.ncsu.csc316.dsa.sorter.PrimitiveSorter;
+import edu.ncsu.csc316.dsa.sorter.TimSorter;
+
+/**
+ * RosterIndex answers range queries over the numeric fields of a roster, such
+ * as every student with a GPA of at least 3.5 taking fewer than 12 credit
+ * hours. Each of id, GPA and credit hours has a {@link RedBlackTreeMap} from
+ * field value to the positions in the roster of the students with that value.
+ *
+ * A {@link Query} collects range predicates per field, an optional extra
+ * filter, an optional order and an optional limit. When it runs, the range
+ * predicates are pushed down to the indexes: the ranges of the constrained
+ * fields are walked in step until the one holding the fewest students is
+ * found, and only the students in that range are checked against the other
+ * predicates, so a selective query reads about as many students as its most
+ * selective index matches instead of the whole roster. A query ordered by a
+ * field reads that field's index in order, and with a limit it stops once
+ * enough students have matched.
+ *
+ * Results are in roster order, or ordered by the requested field with ties in
+ * roster order. GPAs of -0.0 and 0.0 are equal, a NaN GPA matches no GPA
+ * range, and NaN GPAs come last in ascending GPA order. The index is built from
+ * a copy of the roster and does not change with it.
+ *
+ * @author Will Greene
+ */
+public class RosterIndex {
+
+	/**
+	 * The numeric Student fields that can be queried.
+	 */
+	public enum Field {
+
+		/** the id of a student */
+		ID,
+
+		/** the GPA of a student */
+		GPA,
+
+		/** the credit hours of a student */
+		CREDIT_HOURS;
+
+		/**
+		 * Returns the value of this field of a student, with -0.0 as 0.0.
+		 *
+		 * @param s the student
+		 * @return the value of the field
+		 */
+		double get( Student s ) {
+			switch ( this ) {
+			case ID:
+				return s.getId();
+			case GPA:
+				return s.getGpa() + 0.0;
+			default:
+				return s.getCreditHours();
+			}
+		}
+	}
+
+	/** number of fields */
+	private static final int FIELDS = Field.values().length;
+
+	/** the indexed students */
+	private Student[] roster;
+
+	/** index of each field from value to the ascending positions of the students with that value */
+	private RedBlackTreeMap<Double, ArrayBasedList<Integer>>[] indexes;
+
+	/**
+	 * Constructs a RosterIndex over a copy of a roster.
+	 *
+	 * @param roster the students to index
+	 */
+	public RosterIndex( Student[] roster ) {
+
+		@SuppressWarnings( "unchecked" )
+		RedBlackTreeMap<Double, ArrayBasedList<Integer>>[] maps = ( RedBlackTreeMap<Double, ArrayBasedList<Integer>>[] )
+				new RedBlackTreeMap<?, ?>[ FIELDS ];
+
+		this.roster = roster.clone();
+		this.indexes = maps;
+
+		for ( Field field : Field.values() ) {
+
+			RedBlackTreeMap<Double, ArrayBasedList<Integer>> index = new RedBlackTreeMap<Double, ArrayBasedList<Integer>>();
+
+			for ( int i = 0; i < this.roster.length; i++ ) {
+
+				Double key = field.get( this.roster[ i ] );
+				ArrayBasedList<Integer> positions = index.get( key );
+
+				if ( positions == null ) {
+					positions = new ArrayBasedList<Integer>();
+					index.put( key, positions );
+				}
+
+				positions.addLast( i );
+			}
+
+			indexes[ field.ordinal() ] = index;
+		}
+	}
+
+	/**
+	 * Returns the number of indexed students.
+	 *
+	 * @return the number of students
+	 */
+	public int size() {
+		return roster.length;
+	}
+
+	/**
+	 * Returns a new query that matches every student until predicates are added.
+	 *
+	 * @return a new query
+	 */
+	public Query query() {
+		return new Query();
+	}
+
+	/**
+	 * A query over the roster. Predicates on the same field are combined, so
+	 * {@code atLeast(GPA, 3.0).atMost(GPA, 3.5)} matches GPAs in [3.0, 3.5].
+	 *
+	 * @author Will Greene
+	 */
+	public class Query {
+
+		/** smallest matching value of each field, or null if there is none */
+		private Double[] min;
+
+		/** largest matching value of each field, or null if there is none */
+		private Double[] max;
+
+		/** predicate every result must also pass, or null */
+		private Predicate<? super Student> filter;
+
+		/** field to order results by, or null for roster order */
+		private Field order;
+
+		/** whether results are ordered from the largest value down */
+		private boolean descending;
+
+		/** largest number of results */
+		private int limit;
+
+		/**
+		 * Constructs a query that matches every student.
+		 */
+		private Query() {
+			this.min = new Double[ FIELDS ];
+			this.max = new Double[ FIELDS ];
+			this.filter = null;
+			this.order = null;
+			this.descending = false;
+			this.limit = Integer.MAX_VALUE;
+		}
+
+		/**
+		 * Matches students whose field is in [low, high].
+		 *
+		 * @param field the field to constrain
+		 * @param low the smallest matching value
+		 * @param high the largest matching value
+		 * @return this query
+		 * @throws IllegalArgumentException if low or high is NaN
+		 */
+		public Query between( Field field, double low, double high ) {
+			return bound( field, low, high );
+		}
+
+		/**
+		 * Matches students whose field equals a value.
+		 *
+		 * @param field the field to constrain
+		 * @param value the matching value
+		 * @return this query
+		 * @throws IllegalArgumentException if value is NaN
+		 */
+		public Query equalTo( Field field, double value ) {
+			return bound( field, value, value );
+		}
+
+		/**
+		 * Matches students whose field is at least a value.
+		 *
+		 * @param field the field to constrain
+		 * @param value the smallest matching value
+		 * @return this query
+		 * @throws IllegalArgumentException if value is NaN
+		 */
+		public Query atLeast( Field field, double value ) {
+			return bound( field, value, null );
+		}
+
+		/**
+		 * Matches students whose field is greater than a value.
+		 *
+		 * @param field the field to constrain
+		 * @param value the value to exceed
+		 * @return this query
+		 * @throws IllegalArgumentException if value is NaN
+		 */
+		public Query greaterThan( Field field, double value ) {
+			return bound( field, Math.nextUp( value ), null );
+		}
+
+		/**
+		 * Matches students whose field is at most a value.
+		 *
+		 * @param field the field to constrain
+		 * @param value the largest matching value
+		 * @return this query
+		 * @throws IllegalArgumentException if value is NaN
+		 */
+		public Query atMost( Field field, double value ) {
+			return bound( field, null, value );
+		}
+
+		/**
+		 * Matches students whose field is less than a value.
+		 *
+		 * @param field the field to constrain
+		 * @param value the value to stay below
+		 * @return this query
+		 * @throws IllegalArgumentException if value is NaN
+		 */
+		public Query lessThan( Field field, double value ) {
+			return bound( field, null, Math.nextDown( value ) );
+		}
+
+		/**
+		 * Matches only students that also pass a predicate. The predicate is
+		 * checked after the range predicates, so it never reduces how much of
+		 * the roster is read.
+		 *
+		 * @param predicate the predicate results must pass
+		 * @return this query
+		 */
+		public Query filter( Predicate<? super Student> predicate ) {
+
+			if ( filter == null ) {
+				filter = predicate;
+			} else {
+				Predicate<? super Student> previous = filter;
+				filter = s -> previous.test( s ) && predicate.test( s );
+			}
+
+			return this;
+		}
+
+		/**
+		 * Orders results by a field, with ties in roster order.
+		 *
+		 * @param field the field to order by
+		 * @param isDescending true to order from the largest value down
+		 * @return this query
+		 */
+		public Query orderBy( Field field, boolean isDescending ) {
+			this.order = field;
+			this.descending = isDescending;
+			return this;
+		}
+
+		/**
+		 * Returns at most a number of results.
+		 *
+		 * @param count the largest number of results
+		 * @return this query
+		 * @throws IllegalArgumentException if count is negative
+		 */
+		public Query limit( int count ) {
+
+			if ( count < 0 )
+				throw new IllegalArgumentException( "Limit must not be negative." );
+
+			this.limit = count;
+			return this;
+		}
+
+		/**
+		 * Runs the query.
+		 *
+		 * @return the matching students, in order
+		 */
+		public Student[] execute() {
+
+			Field driver = order;
+
+			if ( order == null || limit == Integer.MAX_VALUE ) {
+				Field smallest = smallestRange();
+				driver = smallest == null ? order : smallest;
+			}
+
+			// Without an index to drive the query, read the roster in order
+			if ( driver == null )
+				return scan();
+
+			// Only a scan in the requested order can stop at the limit
+			int[] positions = new int[ driver == order ? Math.min( limit, roster.length ) : roster.length ];
+			int count = 0;
+			Double low = min[ driver.ordinal() ];
+			Double high = max[ driver.ordinal() ];
+			boolean down = driver == order && descending;
+			RedBlackTreeMap<Double, ArrayBasedList<Integer>> index = indexes[ driver.ordinal() ];
+
+			for ( Entry<Double, ArrayBasedList<Integer>> e : down ? index.descendingEntries( high )
+					: index.ascendingEntries( low ) ) {
+
+				// Stop past the far end of the range; NaN keys sort above every bound
+				if ( down ? low != null && e.getKey().compareTo( low ) < 0 : high != null && e.getKey().compareTo( high ) > 0 )
+					break;
+
+				for ( int position : e.getValue() ) {
+
+					if ( count == positions.length )
+						break;
+
+					if ( matches( roster[ position ] ) )
+						positions[ count++ ] = position;
+				}
+
+				if ( count == positions.length )
+					break;
+			}
+
+			if ( driver == order )
+				return students( positions, count );
+
+			// Restore roster order, then order by the requested field if there is one
+			new PrimitiveSorter().sort( positions, 0, count );
+			Student[] results = students( positions, count );
+
+			if ( order != null ) {
+				Comparator<Student> byField = ( one, two ) -> Double.compare( order.get( one ), order.get( two ) );
+				new TimSorter<Student>( descending ? byField.reversed() : byField ).sort( results );
+			}
+
+			return results.length > limit ? Arrays.copyOf( results, limit ) : results;
+		}
+
+		/**
+		 * Returns the constrained field whose range holds the fewest students,
+		 * or null if no field is constrained. The ranges are read in step, always
+		 * advancing the one that has covered the fewest students, so the first
+		 * range to end is the smallest and no range is read much past its size.
+		 *
+		 * @return the field with the smallest range, or null
+		 */
+		private Field smallestRange() {
+
+			@SuppressWarnings( "unchecked" )
+			Iterator<Entry<Double, ArrayBasedList<Integer>>>[] ranges = ( Iterator<Entry<Double, ArrayBasedList<Integer>>>[] )
+					new Iterator<?>[ FIELDS ];
+			long[] counts = new long[ FIELDS ];
+			boolean constrained = false;
+
+			for ( Field field : Field.values() ) {
+				if ( min[ field.ordinal() ] != null || max[ field.ordinal() ] != null ) {
+					ranges[ field.ordinal() ] = indexes[ field.ordinal() ].ascendingEntries( min[ field.ordinal() ] ).iterator();
+					constrained = true;
+				}
+			}
+
+			if ( !constrained )
+				return null;
+
+			while ( true ) {
+
+				int next = -1;
+
+				for ( int f = 0; f < FIELDS; f++ ) {
+					if ( ranges[ f ] != null && ( next < 0 || counts[ f ] < counts[ next ] ) )
+						next = f;
+				}
+
+				if ( !ranges[ next ].hasNext() )
+					return Field.values()[ next ];
+
+				Entry<Double, ArrayBasedList<Integer>> e = ranges[ next ].next();
+
+				if ( max[ next ] != null && e.getKey().compareTo( max[ next ] ) > 0 )
+					return Field.values()[ next ];
+
+				counts[ next ] += e.getValue().size();
+			}
+		}
+
+		/**
+		 * Returns the matching students in roster order by reading the whole roster.
+		 *
+		 * @return the matching students
+		 */
+		private Student[] scan() {
+
+			Student[] results = new Student[ Math.min( limit, roster.length ) ];
+			int count = 0;
+
+			for ( int i = 0; i < roster.length && count < results.length; i++ ) {
+				if ( matches( roster[ i ] ) )
+					results[ count++ ] = roster[ i ];
+			}
+
+			return Arrays.copyOf( results, count );
+		}
+
+		/**
+		 * Returns whether a student passes every predicate of the query.
+		 *
+		 * @param s the student
+		 * @return true if s matches
+		 */
+		private boolean matches( Student s ) {
+
+			for ( Field field : Field.values() ) {
+
+				double value = field.get( s );
+				Double low = min[ field.ordinal() ];
+				Double high = max[ field.ordinal() ];
+
+				if ( ( low != null && !( value >= low ) ) || ( high != null && !( value <= high ) ) )
+					return false;
+			}
+
+			return filter == null || filter.test( s );
+		}
+
+		/**
+		 * Returns the students at the first count positions.
+		 *
+		 * @param positions positions in the roster
+		 * @param count number of positions to use
+		 * @return the students at the positions
+		 */
+		private Student[] students( int[] positions, int count ) {
+
+			Student[] results = new Student[ count ];
+
+			for ( int i = 0; i < count; i++ )
+				results[ i ] = roster[ positions[ i ] ];
+
+			return results;
+		}
+
+		/**
+		 * Narrows the range of a field.
+		 *
+		 * @param field the field to constrain
+		 * @param low the smallest matching value, or null to leave it unchanged
+		 * @param high the largest matching value, or null to leave it unchanged
+		 * @return this query
+		 * @throws IllegalArgumentException if low or high is NaN
+		 */
+		private Query bound( Field field, Double low, Double high ) {
+
+			if ( ( low != null && low.isNaN() ) || ( high != null && high.isNaN() ) )
+				throw new IllegalArgumentException( "Bounds must not be NaN." );
+
+			int f = field.ordinal();
+
+			if ( low != null && ( min[ f ] == null || low + 0.0 > min[ f ] ) )
+				min[ f ] = low + 0.0;
+
+			if ( high != null && ( max[ f ] == null || high + 0.0 < max[ f ] ) )
+				max[ f ] = high + 0.0;
+
+			return this;
+		}
+	}
+}
@@ -1,13 +1,34 @@
 package edu.ncsu.csc316.dsa.manager;
 
+import java.util.Arrays;
+import java.util.Comparator;
+
 import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.io.BinaryRoster;
 import edu.ncsu.csc316.dsa.io.StudentReader;
-import edu.ncsu.csc316.dsa.sorter.InsertionSorter;
+import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.map.Map.Entry;
+import edu.ncsu.csc316.dsa.map.hashing.LinearProbingHashMap;
+import edu.ncsu.csc316.dsa.queue.ArrayBasedQueue;
+import edu.ncsu.csc316.dsa.sorter.AbstractComparisonSorter;
+import edu.ncsu.csc316.dsa.sorter.AutoSorter;
 import edu.ncsu.csc316.dsa.sorter.Sorter;
+import edu.ncsu.csc316.dsa.sorter.TimSorter;
 
 /**
  * StudentManager manages Student information. StudentManager
  * can sort a Student roster.
+ * 
+ * Students can be looked up by id or unity ID through hash indexes
+ * built when the roster is loaded and kept up to date as students are
+ * added and removed. Sorted views of the roster are built the first
+ * time they are asked for and cached per Comparator until the roster
+ * changes, so repeated queries do not sort again. Comparators are
+ * matched with equals(), so fresh instances of a Comparator class that
+ * overrides it share a view, and at most {@link #MAX_VIEWS} views are
+ * kept, the oldest being discarded first. Batches of changes
+ * applied with {@link #update(Student[], int[])} are merged into the
+ * sorted roster and the cached views instead of discarding them.
  * @author Dr. King
  *
  */
@@ -23,6 +44,46 @@ public class StudentManager {
 	 */
 	private Sorter<Student> sorter;
 	
+	/**
+	 * Whether the roster is in the order produced by sorter
+	 */
+	private boolean sorted;
+	
+	/**
+	 * Index of the students in the roster by id
+	 */
+	private LinearProbingHashMap<Integer, Student> byId;
+	
+	/**
+	 * Index of the students in the roster by unity ID
+	 */
+	private LinearProbingHashMap<String, Student> byUnityID;
+	
+	/**
+	 * Sorted copies of the roster, by the Comparator that ordered them
+	 */
+	private LinearProbingHashMap<Comparator<Student>, Student[]> views;
+	
+	/**
+	 * Keys of the cached views, oldest first
+	 */
+	private ArrayBasedQueue<Comparator<Student>> viewOrder;
+	
+	/**
+	 * Range indexes over the roster, or null until the first query
+	 */
+	private RosterIndex index;
+	
+	/**
+	 * Key of the view in natural order, since the views cannot be keyed by null
+	 */
+	private static final Comparator<Student> NATURAL_ORDER = Comparator.naturalOrder();
+	
+	/**
+	 * Largest number of sorted views cached at once
+	 */
+	public static final int MAX_VIEWS = 8;
+	
 	/**
 	 * Initializes a StudentManager
 	 * @param pathToFile - the path to the input student CSV file
@@ -30,17 +91,53 @@ public class StudentManager {
 	 */
 	public StudentManager(String pathToFile, Sorter<Student> sorter)
 	{
-		roster = StudentReader.readInputAsArray(pathToFile);
+		this(StudentReader.readInputAsArray(pathToFile), sorter);
+	}
+	
+	/**
+	 * Initializes a StudentManager that loads the roster from a binary roster
+	 * when it is current, and otherwise parses the CSV file and rewrites the
+	 * binary roster, as by {@link BinaryRoster#readInputAsArray(String, String)}
+	 * @param pathToFile - the path to the input student CSV file
+	 * @param pathToBinary - the path to the binary roster
+	 * @param sorter - a reference to the sorting algorithm to use when sorting
+	 */
+	public StudentManager(String pathToFile, String pathToBinary, Sorter<Student> sorter)
+	{
+		this(BinaryRoster.readInputAsArray(pathToFile, pathToBinary), sorter);
+	}
+	
+	/**
+	 * Initializes a StudentManager with a roster that has already been read
+	 * @param roster - the students to manage
+	 * @param sorter - a reference to the sorting algorithm to use when sorting
+	 */
+	public StudentManager(Student[] roster, Sorter<Student> sorter)
+	{
+		this.roster = roster;
 		this.sorter = sorter;
+		this.sorted = false;
+		// Robin Hood mode keeps probes short as students are added and removed
+		this.byId = new LinearProbingHashMap<Integer, Student>(roster.length * 2 + 1, false, true);
+		this.byUnityID = new LinearProbingHashMap<String, Student>(roster.length * 2 + 1, false, true);
+		this.views = new LinearProbingHashMap<Comparator<Student>, Student[]>();
+		this.viewOrder = new ArrayBasedQueue<Comparator<Student>>();
+		this.index = null;
+		
+		for (Student s : roster)
+		{
+			index(s);
+		}
 	}
 	
 	/**
-	 * Constructs a StudentManager
+	 * Constructs a StudentManager that picks a sorting algorithm for the roster
+	 * with an {@link AutoSorter}
 	 * @param pathToFile - the path to the input student CSV file
 	 */
 	public StudentManager(String pathToFile)
 	{
-		this(pathToFile, new InsertionSorter<Student>());
+		this(pathToFile, new AutoSorter<Student>());
 	}
 		
     /**
@@ -48,10 +145,282 @@ public class StudentManager {
      *
      * @return the sorted array of Students
      */
-	public Student[] sort()
+	public synchronized Student[] sort()
 	{
-		sorter.sort(roster);
+		if (!sorted)
+		{
+			sorter.sort(roster);
+			sorted = true;
+			// The index holds roster positions, which the sort has moved
+			index = null;
+		}
 		return roster;
 	}
+	
+	/**
+	 * Returns the roster sorted by a Comparator. The sorted copy is built the
+	 * first time it is asked for and returned again, for this Comparator or
+	 * any equal one, until the roster changes or the copy is among the
+	 * oldest once more than {@link #MAX_VIEWS} are cached. Callers must not
+	 * modify it.
+	 * @param comparator - the ordering to sort by, or null for natural order
+	 * @return the cached sorted copy of the roster
+	 */
+	public synchronized Student[] sortedBy(Comparator<Student> comparator)
+	{
+		Comparator<Student> key = comparator == null ? NATURAL_ORDER : comparator;
+		Student[] view = views.get(key);
+		
+		if (view == null)
+		{
+			view = Arrays.copyOf(roster, roster.length);
+			new AutoSorter<Student>(comparator).sort(view);
+			
+			if (views.size() == MAX_VIEWS)
+			{
+				views.remove(viewOrder.dequeue());
+			}
+			views.put(key, view);
+			viewOrder.enqueue(key);
+		}
+		return view;
+	}
+	
+	/**
+	 * Returns a new query over the roster, such as
+	 * {@code query().atLeast(Field.GPA, 3.5).lessThan(Field.CREDIT_HOURS, 12).execute()}.
+	 * The {@link RosterIndex} that answers it is built on the first query and
+	 * kept until the roster changes.
+	 * @return a new query that matches every student until predicates are added
+	 */
+	public synchronized RosterIndex.Query query()
+	{
+		if (index == null)
+		{
+			index = new RosterIndex(roster);
+		}
+		return index.query();
+	}
+	
+	/**
+	 * Returns the student with an id. If several students share the id, one
+	 * of them is returned.
+	 * @param id - the id to look up
+	 * @return the student with the id, or null if there is none
+	 */
+	public synchronized Student getById(int id)
+	{
+		return byId.get(id);
+	}
+	
+	/**
+	 * Returns the student with a unity ID. If several students share the
+	 * unity ID, one of them is returned.
+	 * @param unityID - the unity ID to look up
+	 * @return the student with the unity ID, or null if there is none
+	 */
+	public synchronized Student getByUnityID(String unityID)
+	{
+		return byUnityID.get(unityID);
+	}
+	
+	/**
+	 * Returns the number of students in the roster
+	 * @return the number of students
+	 */
+	public synchronized int size()
+	{
+		return roster.length;
+	}
+	
+	/**
+	 * Adds a student to the roster, updating the indexes and discarding the
+	 * cached sorted views
+	 * @param s - the student to add
+	 */
+	public synchronized void addStudent(Student s)
+	{
+		roster = Arrays.copyOf(roster, roster.length + 1);
+		roster[roster.length - 1] = s;
+		index(s);
+		invalidate();
+	}
+	
+	/**
+	 * Removes every student with an id from the roster, as by
+	 * {@code update(new Student[0], new int[] {id})}, updating the indexes
+	 * and the cached sorted views
+	 * @param id - the id of the students to remove
+	 * @return the student that {@link #getById(int)} returned for the id
+	 *         before it was removed, or null if no student has the id
+	 */
+	public synchronized Student removeStudent(int id)
+	{
+		Student s = byId.get(id);
+		
+		if (s != null)
+		{
+			update(new Student[0], new int[] {id});
+		}
+		return s;
+	}
+	
+	/**
+	 * Applies a batch of changes keyed by id. Each changed student replaces
+	 * every student with the same id, or is added if there is none, and every
+	 * student with a removed id is removed, as with
+	 * {@link #removeStudent(int)}. Rather than sorting again, the
+	 * changed students are sorted on their own and merged into the sorted
+	 * roster and each cached view, which takes O(d log d + n) time for d
+	 * changes. When ids are unique the result is the same as a full sort.
+	 * The roster is merged only when the sorter is an
+	 * {@link AbstractComparisonSorter}, whose order is known; otherwise it is
+	 * sorted again by the next call to {@link #sort()}.
+	 * @param changed - students to add or replace by id
+	 * @param removedIds - ids of students to remove
+	 */
+	public synchronized void update(Student[] changed, int[] removedIds)
+	{
+		LinearProbingHashMap<Integer, Boolean> affected = new LinearProbingHashMap<Integer, Boolean>(
+				2 * (changed.length + removedIds.length) + 1);
+		
+		for (Student s : changed)
+		{
+			affected.put(s.getId(), true);
+		}
+		for (int id : removedIds)
+		{
+			affected.put(id, true);
+		}
+		
+		ArrayBasedList<Student> dropped = new ArrayBasedList<Student>();
+		
+		if (sorted && sorter instanceof AbstractComparisonSorter)
+		{
+			roster = merge(roster, affected, changed, ((AbstractComparisonSorter<Student>) sorter)::compare, dropped);
+		}
+		else
+		{
+			roster = merge(roster, affected, changed, null, dropped);
+			sorted = false;
+		}
+		
+		for (Entry<Comparator<Student>, Student[]> view : views.entrySet())
+		{
+			views.put(view.getKey(), merge(view.getValue(), affected, changed, view.getKey(), null));
+		}
+		index = null;
+		
+		// Drop the index entries of every student that left the roster, then
+		// index the changed students and any remaining student that shared a
+		// unity ID with a dropped one
+		boolean unindexed = false;
+		for (Student old : dropped)
+		{
+			if (byId.get(old.getId()) == old)
+			{
+				byId.remove(old.getId());
+			}
+			if (byUnityID.get(old.getUnityID()) == old)
+			{
+				byUnityID.remove(old.getUnityID());
+				unindexed = true;
+			}
+		}
+		for (Student s : changed)
+		{
+			index(s);
+		}
+		if (unindexed)
+		{
+			for (Student s : roster)
+			{
+				if (byUnityID.get(s.getUnityID()) == null)
+				{
+					byUnityID.put(s.getUnityID(), s);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Returns a copy of a roster without the students whose ids are affected
+	 * and with the changed students added. If comparator is not null the
+	 * roster must be sorted by it, and the changed students are sorted and
+	 * merged in so that the copy is sorted too, keeping existing students
+	 * ahead of changed ones that compare equal. If comparator is null the
+	 * changed students are appended.
+	 * @param sortedRoster - the roster to change
+	 * @param affected - ids of students to drop
+	 * @param changed - students to add
+	 * @param comparator - the order of the roster, or null if it has none
+	 * @param dropped - list to add each dropped student to, or null
+	 * @return the changed copy
+	 */
+	private static Student[] merge(Student[] sortedRoster, LinearProbingHashMap<Integer, Boolean> affected,
+			Student[] changed, Comparator<Student> comparator, ArrayBasedList<Student> dropped)
+	{
+		Student[] delta = Arrays.copyOf(changed, changed.length);
+		
+		if (comparator != null)
+		{
+			new TimSorter<Student>(comparator).sort(delta);
+		}
+		
+		Student[] merged = new Student[sortedRoster.length + delta.length];
+		int i = 0;
+		int j = 0;
+		int k = 0;
+		
+		while (i < sortedRoster.length)
+		{
+			Student s = sortedRoster[i];
+			
+			if (affected.get(s.getId()) != null)
+			{
+				if (dropped != null)
+				{
+					dropped.addLast(s);
+				}
+				i++;
+			}
+			else if (comparator != null && j < delta.length && comparator.compare(delta[j], s) < 0)
+			{
+				merged[k++] = delta[j++];
+			}
+			else
+			{
+				merged[k++] = s;
+				i++;
+			}
+		}
+		while (j < delta.length)
+		{
+			merged[k++] = delta[j++];
+		}
+		
+		return Arrays.copyOf(merged, k);
+	}
+	
+	/**
+	 * Adds a student to the id and unity ID indexes
+	 * @param s - the student to index
+	 */
+	private void index(Student s)
+	{
+		byId.put(s.getId(), s);
+		byUnityID.put(s.getUnityID(), s);
+	}
+	
+	/**
+	 * Discards the cached sorted views after the roster changes
+	 */
+	private void invalidate()
+	{
+		sorted = false;
+		views = new LinearProbingHashMap<Comparator<Student>, Student[]>();
+		viewOrder = new ArrayBasedQueue<Comparator<Student>>();
+		index = null;
+	}
 
 }
@@ -88,7 +88,7 @@ public abstract class AbstractHashMap<K, V> extends AbstractMap<K, V> {
     @Override
     public V put(K key, V value) {
         V ret = bucketPut(compress(key), key, value);
-        if ((double) size() / capacity() > MAX_LOAD_FACTOR) {
+        if ((double) size() / capacity() > maxLoadFactor()) {
             resize(2 * capacity() + 1);
         }
         return ret;
@@ -120,6 +120,17 @@ public abstract class AbstractHashMap<K, V> extends AbstractMap<K, V> {
         }
     }
 
+    /**
+     * Returns the load factor above which the hash table array is resized.
+     * Subclasses whose probe sequences stay short at higher load factors may
+     * return a larger value.
+     * 
+     * @return the maximum load factor to allow before resizing
+     */
+    protected double maxLoadFactor() {
+        return MAX_LOAD_FACTOR;
+    }
+
     /**
      * Returns the current capacity of the current hash table array
      * 
@@ -14,6 +14,16 @@ import edu.ncsu.csc316.dsa.map.Map;
  * 
  * The hash table resizes if the load factor exceeds 0.5.
  * 
+ * In Robin Hood mode, each entry records how far it sits from its home bucket.
+ * An insert that meets an entry closer to its home than the new entry takes
+ * that bucket and moves the other entry further along, so probe lengths stay
+ * even across entries. Lookups stop as soon as they pass an entry closer to
+ * its home than the probe has travelled, and removal shifts the following
+ * entries back one bucket instead of leaving a deleted marker, so probe
+ * sequences do not fill with removed entries under put/remove churn. Probe
+ * sequences stay short enough that the table resizes only when the load factor
+ * exceeds 0.8.
+ * 
  * The LinearProbingHashMap class is based on the implementation developed for
  * use with the textbook:
  *
@@ -27,9 +37,17 @@ import edu.ncsu.csc316.dsa.map.Map;
  */
 public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
 
+    /**
+     * The maximum load factor to allow before resizing in Robin Hood mode
+     */
+    private static final double ROBIN_HOOD_LOAD_FACTOR = 0.8;
+
     private TableEntry<K, V>[] table;
     private int size;
 
+    // Whether entries are placed with Robin Hood hashing
+    private boolean isRobinHood;
+
     /**
      * Constructs a new linear probing hash map that uses natural ordering of keys
      * when performing comparisons. The created hash table uses the
@@ -72,8 +90,23 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
      *                  values for deterministic and repeatable testing
      */
     public LinearProbingHashMap(int capacity, boolean isTesting) {
+        this(capacity, isTesting, false);
+    }
+
+    /**
+     * Constructs a new linear probing hash map that is initialized to have the
+     * provided capacity and that may use Robin Hood hashing to place entries.
+     * 
+     * @param capacity    the initial capacity of the hash table
+     * @param isTesting   if true, the hash table uses a predictable series of
+     *                    random values for deterministic and repeatable testing
+     * @param isRobinHood if true, entries are placed with Robin Hood hashing and
+     *                    removed with backward-shift deletion
+     */
+    public LinearProbingHashMap(int capacity, boolean isTesting, boolean isRobinHood) {
         super(capacity, isTesting);
         size = 0;
+        this.isRobinHood = isRobinHood;
     }
 
     /**
@@ -122,7 +155,7 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
     @Override
     public V bucketGet(int hash, K key) {
     	
-    	int index = findBucket(hash, key);
+    	int index = isRobinHood ? robinHoodFind(hash, key) : findBucket(hash, key);
     	
     	if ( index >= 0 )
     		return table[index].getValue();
@@ -133,7 +166,7 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
     @Override
     public V bucketPut(int hash, K key, V value) {
     	
-    	int index = findBucket(hash, key);
+    	int index = isRobinHood ? robinHoodFind(hash, key) : findBucket(hash, key);
     	
     	if ( index >= 0 ) {
     		V oldValue = table[index].getValue();
@@ -141,6 +174,12 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
     		return oldValue;
     	}
     	
+    	if ( isRobinHood ) {
+    		robinHoodInsert(hash, new TableEntry<K, V>( key, value ));
+    		size++;
+    		return null;
+    	}
+    	
     	int positiveIndex = -1 * index - 1;
     	table[positiveIndex] = new TableEntry<K, V>( key, value );
     	size++;
@@ -176,16 +215,88 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
     @Override
     public V bucketRemove(int hash, K key) {
     	
-    	int index = findBucket(hash, key);
+    	int index = isRobinHood ? robinHoodFind(hash, key) : findBucket(hash, key);
     	
     	if ( index < 0 )
     		return null;
+    	
+    	if ( isRobinHood ) {
+    		V value = table[index].getValue();
+    		backwardShift(index);
+    		size--;
+    		return value;
+    	}
     	    	
     	table[index].setDeleted(true);
     	size--;
     	return table[index].getValue();
     }
 
+    /**
+     * Returns the index of the entry with the key in Robin Hood mode, or -1 if
+     * there is none. The search stops at an empty bucket or at an entry that is
+     * closer to its home bucket than the search has travelled, since the key
+     * would have taken that entry's place when it was inserted.
+     * 
+     * @param hash the home bucket of the key
+     * @param key  the key to find
+     * @return the index of the entry with the key, or -1
+     */
+    private int robinHoodFind(int hash, K key) {
+        int j = hash;
+        for (int distance = 0; table[j] != null && table[j].getDistance() >= distance; distance++) {
+            if (table[j].getKey().equals(key)) {
+                return j;
+            }
+            j = (j + 1) % table.length;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts an entry whose key is not in the table in Robin Hood mode. Moving
+     * from the home bucket, the entry being placed takes the bucket of any entry
+     * that is closer to its own home, and that entry is placed further along in
+     * turn.
+     * 
+     * @param hash  the home bucket of the entry
+     * @param entry the entry to insert
+     */
+    private void robinHoodInsert(int hash, TableEntry<K, V> entry) {
+        TableEntry<K, V> carried = entry;
+        carried.setDistance(0);
+        int j = hash;
+        while (table[j] != null) {
+            if (table[j].getDistance() < carried.getDistance()) {
+                TableEntry<K, V> displaced = table[j];
+                table[j] = carried;
+                carried = displaced;
+            }
+            j = (j + 1) % table.length;
+            carried.setDistance(carried.getDistance() + 1);
+        }
+        table[j] = carried;
+    }
+
+    /**
+     * Removes the entry at an index in Robin Hood mode by moving each following
+     * entry that is away from its home bucket back one bucket, up to the next
+     * empty bucket or entry already in its home bucket.
+     * 
+     * @param index the index of the entry to remove
+     */
+    private void backwardShift(int index) {
+        int j = index;
+        int next = (j + 1) % table.length;
+        while (table[next] != null && table[next].getDistance() > 0) {
+            table[j] = table[next];
+            table[j].setDistance(table[j].getDistance() - 1);
+            j = next;
+            next = (j + 1) % table.length;
+        }
+        table[j] = null;
+    }
+
     @Override
     public int size() {
         return size;
@@ -196,13 +307,22 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
         return table.length;
     }
 
+    @Override
+    protected double maxLoadFactor() {
+        return isRobinHood ? ROBIN_HOOD_LOAD_FACTOR : super.maxLoadFactor();
+    }
+
     private static class TableEntry<K, V> extends MapEntry<K, V> {
 
         private boolean isDeleted;
 
+        // Number of buckets past its home bucket, used in Robin Hood mode
+        private int distance;
+
         public TableEntry(K key, V value) {
             super(key, value);
             setDeleted(false);
+            distance = 0;
         }
 
         public boolean isDeleted() {
@@ -212,5 +332,13 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
         public void setDeleted(boolean deleted) {
             isDeleted = deleted;
         }
+
+        public int getDistance() {
+            return distance;
+        }
+
+        public void setDistance(int distance) {
+            this.distance = distance;
+        }
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package edu.ncsu.csc316.dsa.map.search_tree;
 
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import edu.ncsu.csc316.dsa.Position;
 import edu.ncsu.csc316.dsa.map.AbstractOrderedMap;
 //import edu.ncsu.csc316.dsa.map.Map.Entry;
 //import edu.ncsu.csc316.dsa.tree.BinaryTree;
+import edu.ncsu.csc316.dsa.stack.LinkedStack;
 import edu.ncsu.csc316.dsa.tree.LinkedBinaryTree;
 
 /**
@@ -213,11 +216,92 @@ public class BinarySearchTreeMap<K extends Comparable<K>, V> extends AbstractOrd
         return collection;
     }
 
+    /**
+     * Returns the entries with keys greater than or equal to a key, in ascending
+     * order of keys. Positions are visited as the entries are iterated, so
+     * stopping early costs only the entries returned plus one path down the
+     * tree. The map must not be modified while the entries are iterated.
+     * 
+     * @param fromKey the smallest key to return, or null to start at the
+     *                smallest key in the map
+     * @return the entries with keys of at least fromKey in ascending order
+     */
+    public Iterable<Entry<K, V>> ascendingEntries(K fromKey) {
+        return () -> new RangeIterator(fromKey, false);
+    }
+
+    /**
+     * Returns the entries with keys less than or equal to a key, in descending
+     * order of keys. Positions are visited as the entries are iterated, so
+     * stopping early costs only the entries returned plus one path down the
+     * tree. The map must not be modified while the entries are iterated.
+     * 
+     * @param fromKey the largest key to return, or null to start at the largest
+     *                key in the map
+     * @return the entries with keys of at most fromKey in descending order
+     */
+    public Iterable<Entry<K, V>> descendingEntries(K fromKey) {
+        return () -> new RangeIterator(fromKey, true);
+    }
+
     @Override
     public String toString() {
         return tree.toString();
     }
 
+    /**
+     * Iterates the entries of the tree in key order starting from a key. The
+     * stack holds the positions on the path from the root whose entries have
+     * yet to be returned, with the next entry on top.
+     */
+    private class RangeIterator implements Iterator<Entry<K, V>> {
+
+        private LinkedStack<Position<Entry<K, V>>> path;
+
+        private boolean descending;
+
+        /**
+         * Constructs a RangeIterator that starts at the first key at or after
+         * fromKey in the direction of the iteration
+         * 
+         * @param fromKey    the key to start at, or null to start at the first key
+         * @param descending true to iterate keys in descending order
+         */
+        public RangeIterator(K fromKey, boolean descending) {
+            this.path = new LinkedStack<Position<Entry<K, V>>>();
+            this.descending = descending;
+
+            Position<Entry<K, V>> p = tree.root();
+            while (isInternal(p)) {
+                int comp = fromKey == null ? 0 : compare(fromKey, p.getElement().getKey());
+                boolean inRange = descending ? comp >= 0 : comp <= 0;
+                if (inRange) {
+                    path.push(p);
+                }
+                p = inRange != descending ? left(p) : right(p);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more entries in the range.");
+            }
+            Position<Entry<K, V>> p = path.pop();
+            Position<Entry<K, V>> q = descending ? left(p) : right(p);
+            while (isInternal(q)) {
+                path.push(q);
+                q = descending ? right(q) : left(q);
+            }
+            return p.getElement();
+        }
+    }
+
     /**
      * A method hook that is executed whenever a tree position is accessed
      * 
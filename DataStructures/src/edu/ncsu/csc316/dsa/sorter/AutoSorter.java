@@ -0,0 +1,229 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import edu.ncsu.csc316.dsa.data.Identifiable;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * AutoSorter picks a sorting algorithm for each input from a quick profile of
+ * it. The profile looks at the size of the input, how presorted it is and how
+ * many duplicate keys it has, using a fixed-size sample of evenly spaced
+ * positions so that profiling costs only a constant number of comparisons.
+ *
+ * Inputs are routed as follows:
+ * <ul>
+ * <li>tiny inputs are sorted with insertion sort;</li>
+ * <li>inputs that are mostly ascending or mostly descending are sorted with
+ * {@link TimSorter}, which merges the runs already present;</li>
+ * <li>arrays of {@link Identifiable} elements sorted with a
+ * {@link StudentIDComparator} are sorted by id with a {@link CountingSorter},
+ * which uses counting sort for dense id ranges and radix sort otherwise;</li>
+ * <li>large inputs without many duplicates are sorted with a
+ * {@link ParallelMergeSorter} when more than one worker is available;</li>
+ * <li>everything else is sorted with an introspective {@link QuickSorter}, whose
+ * three-way partitioning also handles inputs with many duplicates well.</li>
+ * </ul>
+ *
+ * The strategy used for the most recent sort is available from
+ * {@link #getLastStrategy()}. AutoSorter is not stable.
+ *
+ * @author Will Greene
+ * @param <E> the generic type of data to sort
+ */
+public class AutoSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/** inputs of this size or smaller are sorted with insertion sort */
+	private static final int INSERTION_THRESHOLD = 32;
+
+	/** number of positions sampled when profiling an input */
+	private static final int SAMPLE_SIZE = 64;
+
+	/** a sample is presorted if at most 1/PRESORTED_DIVISOR of its pairs are out of order */
+	private static final int PRESORTED_DIVISOR = 16;
+
+	/** a sample has many duplicates if at least 1/DUPLICATE_DIVISOR of its neighbors are equal */
+	private static final int DUPLICATE_DIVISOR = 4;
+
+	/** inputs of this size or larger are sorted in parallel when workers are available */
+	private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	/**
+	 * The ways AutoSorter can sort an array.
+	 *
+	 * @author Will Greene
+	 */
+	public enum Strategy {
+		/** insertion sort, for tiny inputs */
+		INSERTION,
+		/** TimSort, for mostly ascending or mostly descending inputs */
+		RUN_MERGE,
+		/** counting sort by id, for dense id ranges */
+		COUNTING,
+		/** radix sort by id, for sparse id ranges */
+		RADIX,
+		/** parallel merge sort, for large inputs */
+		PARALLEL_MERGE,
+		/** introspective quicksort, for everything else */
+		INTROSORT
+	}
+
+	/** true if the comparator orders elements by id */
+	private boolean byId;
+
+	/** sorter for tiny inputs */
+	private InsertionSorter<E> insertionSorter;
+
+	/** sorter for presorted inputs */
+	private TimSorter<E> runSorter;
+
+	/** sorter for ordering by id */
+	private CountingSorter<Identifiable> idSorter;
+
+	/** sorter for large inputs */
+	private ParallelMergeSorter<E> parallelSorter;
+
+	/** sorter for everything else */
+	private QuickSorter<E> introSorter;
+
+	/** strategy used for the most recent sort */
+	private Strategy lastStrategy;
+
+	/**
+	 * Constructs an AutoSorter with a provided custom Comparator.
+	 *
+	 * @param comparator a custom comparator to use when sorting
+	 */
+	public AutoSorter( Comparator<E> comparator ) {
+		super( comparator );
+		this.byId = comparator instanceof StudentIDComparator;
+		this.insertionSorter = new InsertionSorter<E>( comparator );
+		this.runSorter = new TimSorter<E>( comparator );
+		this.idSorter = new CountingSorter<Identifiable>();
+		this.parallelSorter = new ParallelMergeSorter<E>( comparator );
+		this.introSorter = new QuickSorter<E>( comparator, QuickSorter.NINTHER_SELECTOR, true );
+	}
+
+	/**
+	 * Constructs an AutoSorter that uses the natural ordering of elements.
+	 */
+	public AutoSorter() {
+		this( null );
+	}
+
+	/**
+	 * Returns the strategy used for the most recent sort, or null if nothing has
+	 * been sorted yet.
+	 *
+	 * @return the strategy used for the most recent sort
+	 */
+	public Strategy getLastStrategy() {
+		return lastStrategy;
+	}
+
+	/**
+	 * Sorts an array of elements with the strategy that best fits its profile.
+	 *
+	 * @param data array of elements
+	 */
+	@Override
+	public void sort( E[] data ) {
+		sort( data, 0, data.length );
+	}
+
+	/**
+	 * Sorts the elements of data in the index range [from, to) with the strategy
+	 * that best fits their profile.
+	 *
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	@Override
+	public void sort( E[] data, int from, int to ) {
+
+		Objects.checkFromToIndex( from, to, data.length );
+
+		int n = to - from;
+
+		if ( n <= INSERTION_THRESHOLD ) {
+			lastStrategy = Strategy.INSERTION;
+			insertionSorter.sort( data, from, to );
+		} else if ( isPresorted( data, from, to ) ) {
+			lastStrategy = Strategy.RUN_MERGE;
+			runSorter.sort( data, from, to );
+		} else if ( byId && data instanceof Identifiable[] ) {
+			idSorter.sort( ( Identifiable[] ) data, from, to );
+			lastStrategy = idSorter.getLastStrategy() == CountingSorter.Strategy.COUNTING ? Strategy.COUNTING
+					: Strategy.RADIX;
+		} else if ( n >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1
+				&& !hasManyDuplicates( data, from, to ) ) {
+			lastStrategy = Strategy.PARALLEL_MERGE;
+			parallelSorter.sort( data, from, to );
+		} else {
+			lastStrategy = Strategy.INTROSORT;
+			introSorter.sort( data, from, to );
+		}
+	}
+
+	/**
+	 * Returns true if sampled neighboring pairs of data in the index range
+	 * [from, to) are almost all in order, or almost all in reverse order.
+	 *
+	 * @param data array of elements
+	 * @param from index of the first element of a range longer than SAMPLE_SIZE
+	 * @param to index one past the last element of the range
+	 * @return true if the range looks mostly ascending or mostly descending
+	 */
+	private boolean isPresorted( E[] data, int from, int to ) {
+
+		int n = to - from;
+		int ascents = 0;
+		int descents = 0;
+
+		for ( int s = 0; s < SAMPLE_SIZE; s++ ) {
+
+			int i = from + ( int ) ( ( long ) s * ( n - 1 ) / SAMPLE_SIZE );
+			int c = compare( data[ i ], data[ i + 1 ] );
+
+			if ( c < 0 )
+				ascents++;
+			else if ( c > 0 )
+				descents++;
+		}
+
+		return descents <= SAMPLE_SIZE / PRESORTED_DIVISOR || ascents <= SAMPLE_SIZE / PRESORTED_DIVISOR;
+	}
+
+	/**
+	 * Returns true if a sorted sample of data in the index range [from, to) has
+	 * many neighbors that compare equal.
+	 *
+	 * @param data array of elements
+	 * @param from index of the first element of a range longer than SAMPLE_SIZE
+	 * @param to index one past the last element of the range
+	 * @return true if the range looks like it has many duplicate keys
+	 */
+	private boolean hasManyDuplicates( E[] data, int from, int to ) {
+
+		int n = to - from;
+		E[] sample = Arrays.copyOf( data, SAMPLE_SIZE );
+
+		for ( int s = 0; s < SAMPLE_SIZE; s++ )
+			sample[ s ] = data[ from + ( int ) ( ( long ) s * n / SAMPLE_SIZE ) ];
+
+		insertionSorter.sort( sample );
+
+		int duplicates = 0;
+
+		for ( int s = 1; s < SAMPLE_SIZE; s++ ) {
+			if ( compare( sample[ s - 1 ], sample[ s ] ) == 0 )
+				duplicates++;
+		}
+
+		return duplicates >= SAMPLE_SIZE / DUPLICATE_DIVISOR;
+	}
+}
@@ -4,6 +4,7 @@
 package edu.ncsu.csc316.dsa.sorter;
 
 import java.util.Comparator;
+import java.util.Objects;
 
 /**
  * BubbleSorter uses the bubble sort algorithm to sort data.
@@ -36,6 +37,20 @@ public class BubbleSorter<E extends Comparable<E>> extends AbstractComparisonSor
 	 */
 	@Override
 	public void sort( E[] data ) {
+		sort( data, 0, data.length );
+	}
+	
+	/**
+	 * Sorts the elements of data in the index range [from, to) using bubble sort.
+	 * 
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	@Override
+	public void sort( E[] data, int from, int to ) {
+		
+		Objects.checkFromToIndex( from, to, data.length );
 		
 		boolean sortingInProcess = true;
 		
@@ -43,7 +58,7 @@ public class BubbleSorter<E extends Comparable<E>> extends AbstractComparisonSor
 			
 			sortingInProcess = false;
 			
-			for ( int i = 1; i < data.length; i++ ) {
+			for ( int i = from + 1; i < to; i++ ) {
 				
 				if ( compare( data[ i ], data[ i - 1 ] ) < 0 ) {
 					
@@ -1,28 +1,124 @@
 package edu.ncsu.csc316.dsa.sorter;
 
+import java.util.Objects;
+
 import edu.ncsu.csc316.dsa.data.Identifiable;
 
 /**
  * CountingSorter uses the counting sort algorithm to sort data. // added a period + blank line
  * 
+ * Counting sort needs a count array as long as the range of ids, so before
+ * sorting the range is checked against the number of elements and against a
+ * memory budget for the count array. Inputs whose ids are too spread out are
+ * sorted with a binary {@link RadixSorter} instead, or with insertion sort on
+ * the ids if there are only a handful of elements. The strategy used for the
+ * most recent sort is available from {@link #getLastStrategy()}.
+ * 
  * @author Dr. King
  * @author Will Greene
  * @param <E> the generic type of data to sort
  */
 public class CountingSorter<E extends Identifiable> implements Sorter<E> {
 	
+	/** default limit on the size of the count array, in bytes */
+	public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+	
+	/** counting sort is used only if the id range is at most this many times the number of elements */
+	private static final int RANGE_FACTOR = 4;
+	
+	/** sparse inputs of at most this many elements are insertion sorted instead of radix sorted */
+	private static final int INSERTION_THRESHOLD = 16;
+	
+	/**
+	 * The ways CountingSorter can sort an array.
+	 * 
+	 * @author Will Greene
+	 */
+	public enum Strategy {
+		/** counting sort over the id range */
+		COUNTING,
+		/** binary radix sort, for id ranges too wide to count */
+		RADIX,
+		/** insertion sort on the ids, for a handful of elements with a wide id range */
+		INSERTION
+	}
+	
+	/** largest count array to allocate, in bytes */
+	private long memoryBudget;
+	
+	/** sorter used when the id range is too wide to count */
+	private RadixSorter<E> radixSorter;
+	
+	/** strategy used for the most recent sort */
+	private Strategy lastStrategy;
+	
+	/**
+	 * Constructs a CountingSorter with the given limit on the size of its count
+	 * array.
+	 * 
+	 * @param memoryBudget largest count array to allocate, in bytes
+	 * @throws IllegalArgumentException if memoryBudget is negative
+	 */
+	public CountingSorter( long memoryBudget ) {
+		
+		if ( memoryBudget < 0 )
+			throw new IllegalArgumentException( "Memory budget cannot be negative." );
+		
+		this.memoryBudget = memoryBudget;
+		this.radixSorter = new RadixSorter<E>( 8 );
+	}
+	
+	/**
+	 * Constructs a CountingSorter with the default limit on the size of its count
+	 * array.
+	 */
+	public CountingSorter() {
+		this( DEFAULT_MEMORY_BUDGET );
+	}
+	
+	/**
+	 * Returns the strategy used for the most recent sort, or null if nothing has
+	 * been sorted yet.
+	 * 
+	 * @return the strategy used for the most recent sort
+	 */
+	public Strategy getLastStrategy() {
+		return lastStrategy;
+	}
+	
 	/**
-	 * Sorts an array of elements using counting sort.
+	 * Sorts an array of elements using counting sort, or another strategy if the
+	 * id range is too wide to count.
 	 * 
 	 * @param data array of elements
 	 */
 	@Override
 	public void sort( E[] data ) {
+		sort( data, 0, data.length );
+	}
+	
+	/**
+	 * Sorts the elements of data in the index range [from, to) using counting
+	 * sort, or another strategy if the id range is too wide to count.
+	 * 
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	@Override
+	public void sort( E[] data, int from, int to ) {
+		
+		Objects.checkFromToIndex( from, to, data.length );
+		
+		int n = to - from;
+		
+		if ( n == 0 )
+			return;
 		
-		int min = data[ 0 ].getId();
-		int max = data[ 0 ].getId();
+		int min = data[ from ].getId();
+		int max = data[ from ].getId();
 		
-		for ( int i = 1; i < data.length; i++ ) {
+		for ( int i = from + 1; i < to; i++ ) {
 			
 			if ( data[ i ].getId() < min )
 				min = data[ i ].getId();
@@ -31,11 +127,29 @@ public class CountingSorter<E extends Identifiable> implements Sorter<E> {
 				max = data[ i ].getId();
 		}
 		
-		int range = max - min + 1;
+		// max - min + 1 overflows an int for ranges wider than Integer.MAX_VALUE
+		long wideRange = ( long ) max - min + 1;
+		
+		if ( wideRange > ( long ) RANGE_FACTOR * n || wideRange * Integer.BYTES > memoryBudget ) {
+			
+			if ( n <= INSERTION_THRESHOLD ) {
+				lastStrategy = Strategy.INSERTION;
+				insertionSort( data, from, to );
+			} else {
+				lastStrategy = Strategy.RADIX;
+				radixSorter.sort( data, from, to );
+			}
+			
+			return;
+		}
+		
+		lastStrategy = Strategy.COUNTING;
+		
+		int range = ( int ) wideRange;
 		int[] b = new int[ range ];
 		
 		// Record Frequency
-		for ( int i = 0; i < data.length; i++ )			
+		for ( int i = from; i < to; i++ )			
 			b[ data[ i ].getId() - min ]++;
 		
 		// Accumulate Frequency
@@ -43,16 +157,40 @@ public class CountingSorter<E extends Identifiable> implements Sorter<E> {
 			b[ i ] += b[ i - 1 ];
 		
 		@SuppressWarnings("unchecked")
-		E[] f = ( E[] ) ( new Identifiable[ data.length ] );
+		E[] f = ( E[] ) ( new Identifiable[ n ] );
 		
-		for ( int i = data.length - 1; i >= 0; i-- ) {
+		for ( int i = to - 1; i >= from; i-- ) {
 			
 			f[ b[ data[ i ].getId() - min ] - 1 ] = data[ i ];
 			b[ data[ i ].getId() - min ]--;
 		}
 		
 		// a = f
-		for ( int i = 0; i < data.length; i++ )
-			data[ i ] = f[ i ];
+		for ( int i = 0; i < n; i++ )
+			data[ from + i ] = f[ i ];
+	}
+	
+	/**
+	 * Sorts the elements of data in the index range [from, to) by id using
+	 * insertion sort.
+	 * 
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	private void insertionSort( E[] data, int from, int to ) {
+		
+		for ( int i = from + 1; i < to; i++ ) {
+			
+			E x = data[ i ];
+			int j = i - 1;
+			
+			while ( j >= from && data[ j ].getId() > x.getId() ) {
+				data[ j + 1 ] = data[ j ];
+				j--;
+			}
+			
+			data[ j + 1 ] = x;
+		}
 	}
 }
@@ -1,6 +1,7 @@
 package edu.ncsu.csc316.dsa.sorter;
 
 import java.util.Comparator;
+import java.util.Objects;
 
 /**
  * InsertionSorter uses the insertion sort algorithm to sort data.
@@ -34,16 +35,31 @@ public class InsertionSorter<E extends Comparable<E>> extends AbstractComparison
 	 */
 	@Override
 	public void sort( E[] a ) {
+		sort( a, 0, a.length );
+	}
+	
+	/**
+	 * Sorts the elements of a in the index range [from, to) using insertion sort.
+	 * Elements outside of the range are left untouched.
+	 * 
+	 * @param a array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	@Override
+	public void sort( E[] a, int from, int to ) {
+		
+		Objects.checkFromToIndex( from, to, a.length );
 		
 		E x;
 		int j = 0;
 		
-		for ( int i = 1; i < a.length; i++ ) {
+		for ( int i = from + 1; i < to; i++ ) {
 			
 			x = a[ i ];
 			j = i - 1;
 						
-			while ( j >= 0 && compare( a[ j ], x ) > 0 ) {
+			while ( j >= from && compare( a[ j ], x ) > 0 ) {
 				
 				a[ j + 1 ] = a[ j ];
 				j = j - 1;
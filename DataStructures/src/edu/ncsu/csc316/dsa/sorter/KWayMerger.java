@@ -0,0 +1,257 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * KWayMerger merges any number of sources that are each already sorted into a
+ * single sorted sequence, one element at a time. Only the current element of
+ * each source is held, so merged output can be streamed without materializing
+ * the sources or the result.
+ *
+ * The current elements are kept in a loser tree: each internal node remembers
+ * the source that lost the match played there, and the overall winner sits at
+ * the root. Taking the winner and refilling it from its source replays only the
+ * matches on the path from that source to the root, so each element costs
+ * about log(k) comparisons for k sources. Elements that compare equal are
+ * returned in source order, so merging the runs of a stable sort is stable.
+ *
+ * @author Will Greene
+ * @param <E> the type of elements to merge; elements must be {@link Comparable}
+ */
+public class KWayMerger<E extends Comparable<E>> implements Iterator<E> {
+
+	/** ordering of the sources, or null for natural ordering */
+	private Comparator<E> comparator;
+
+	/** the sources being merged */
+	private Iterator<? extends E>[] sources;
+
+	/** current element of each source */
+	private E[] heads;
+
+	/** true for each source that has run out of elements */
+	private boolean[] exhausted;
+
+	/** loser of the match at each internal node; index 0 holds the overall winner */
+	private int[] tree;
+
+	/**
+	 * Constructs a KWayMerger over the given sources, each of which must already
+	 * be sorted by comparator.
+	 *
+	 * @param comparator ordering of the sources, or null for natural ordering
+	 * @param sources the sorted sources to merge
+	 */
+	@SafeVarargs
+	public KWayMerger( Comparator<E> comparator, Iterator<? extends E>... sources ) {
+
+		@SuppressWarnings( "unchecked" )
+		Iterator<? extends E>[] copy = ( Iterator<? extends E>[] ) new Iterator<?>[ sources.length ];
+		@SuppressWarnings( "unchecked" )
+		E[] initial = ( E[] ) ( new Comparable<?>[ sources.length ] );
+
+		// Copied element by element, since storing the varargs array itself is unsafe
+		for ( int i = 0; i < sources.length; i++ )
+			copy[ i ] = sources[ i ];
+
+		this.comparator = comparator;
+		this.sources = copy;
+		this.heads = initial;
+		this.exhausted = new boolean[ sources.length ];
+		this.tree = new int[ Math.max( 1, sources.length ) ];
+
+		for ( int i = 0; i < sources.length; i++ )
+			advance( i );
+
+		buildTree();
+	}
+
+	/**
+	 * Returns a KWayMerger over sorted arrays.
+	 *
+	 * @param <E> the type of elements to merge
+	 * @param comparator ordering of the arrays, or null for natural ordering
+	 * @param arrays the sorted arrays to merge
+	 * @return a KWayMerger over the arrays
+	 */
+	@SafeVarargs
+	public static <E extends Comparable<E>> KWayMerger<E> ofArrays( Comparator<E> comparator, E[]... arrays ) {
+
+		@SuppressWarnings( "unchecked" )
+		Iterator<E>[] sources = ( Iterator<E>[] ) new Iterator<?>[ arrays.length ];
+
+		for ( int i = 0; i < arrays.length; i++ )
+			sources[ i ] = Arrays.asList( arrays[ i ] ).iterator();
+
+		return new KWayMerger<E>( comparator, sources );
+	}
+
+	/**
+	 * Returns a KWayMerger over sorted Iterables.
+	 *
+	 * @param <E> the type of elements to merge
+	 * @param comparator ordering of the Iterables, or null for natural ordering
+	 * @param iterables the sorted Iterables to merge
+	 * @return a KWayMerger over the Iterables
+	 */
+	@SafeVarargs
+	public static <E extends Comparable<E>> KWayMerger<E> ofIterables( Comparator<E> comparator,
+			Iterable<? extends E>... iterables ) {
+
+		@SuppressWarnings( "unchecked" )
+		Iterator<? extends E>[] sources = ( Iterator<? extends E>[] ) new Iterator<?>[ iterables.length ];
+
+		for ( int i = 0; i < iterables.length; i++ )
+			sources[ i ] = iterables[ i ].iterator();
+
+		return new KWayMerger<E>( comparator, sources );
+	}
+
+	/**
+	 * Merges sorted arrays into a new sorted array.
+	 *
+	 * @param <E> the type of elements to merge
+	 * @param comparator ordering of the arrays, or null for natural ordering
+	 * @param arrays the sorted arrays to merge
+	 * @return a new array holding every element of the arrays in sorted order
+	 */
+	@SafeVarargs
+	public static <E extends Comparable<E>> E[] merge( Comparator<E> comparator, E[]... arrays ) {
+
+		int total = 0;
+
+		for ( E[] array : arrays )
+			total += array.length;
+
+		@SuppressWarnings( "unchecked" )
+		E[] merged = ( E[] ) Array.newInstance( arrays.getClass().getComponentType().getComponentType(), total );
+
+		// The iterators are built here, since passing the varargs array on is unsafe
+		@SuppressWarnings( "unchecked" )
+		Iterator<E>[] sources = ( Iterator<E>[] ) new Iterator<?>[ arrays.length ];
+
+		for ( int i = 0; i < arrays.length; i++ )
+			sources[ i ] = Arrays.asList( arrays[ i ] ).iterator();
+
+		KWayMerger<E> merger = new KWayMerger<E>( comparator, sources );
+
+		for ( int i = 0; i < total; i++ )
+			merged[ i ] = merger.next();
+
+		return merged;
+	}
+
+	/**
+	 * Returns true if any source has elements left.
+	 *
+	 * @return true if any source has elements left
+	 */
+	@Override
+	public boolean hasNext() {
+		return sources.length > 0 && !exhausted[ tree[ 0 ] ];
+	}
+
+	/**
+	 * Returns the smallest current element of the sources and advances its
+	 * source.
+	 *
+	 * @return the next element in sorted order
+	 * @throws NoSuchElementException if every source has run out of elements
+	 */
+	@Override
+	public E next() {
+
+		if ( !hasNext() )
+			throw new NoSuchElementException( "No elements left to merge." );
+
+		int winner = tree[ 0 ];
+		E result = heads[ winner ];
+
+		advance( winner );
+
+		// Replay the matches from the winner's leaf up to the root
+		for ( int node = ( winner + sources.length ) >>> 1; node > 0; node >>>= 1 ) {
+
+			if ( beats( tree[ node ], winner ) ) {
+				int loser = winner;
+				winner = tree[ node ];
+				tree[ node ] = loser;
+			}
+		}
+
+		tree[ 0 ] = winner;
+
+		return result;
+	}
+
+	/**
+	 * Plays every match of the loser tree from scratch. Leaf k + i holds source
+	 * i and internal node j plays the winners of nodes 2j and 2j + 1.
+	 */
+	private void buildTree() {
+
+		int k = sources.length;
+
+		if ( k == 0 )
+			return;
+
+		int[] winners = new int[ 2 * k ];
+
+		for ( int i = 0; i < k; i++ )
+			winners[ k + i ] = i;
+
+		for ( int node = k - 1; node > 0; node-- ) {
+
+			int left = winners[ 2 * node ];
+			int right = winners[ 2 * node + 1 ];
+
+			if ( beats( left, right ) ) {
+				winners[ node ] = left;
+				tree[ node ] = right;
+			} else {
+				winners[ node ] = right;
+				tree[ node ] = left;
+			}
+		}
+
+		tree[ 0 ] = k == 1 ? 0 : winners[ 1 ];
+	}
+
+	/**
+	 * Loads the next element of a source, or marks the source exhausted.
+	 *
+	 * @param source the source to advance
+	 */
+	private void advance( int source ) {
+
+		if ( sources[ source ].hasNext() ) {
+			heads[ source ] = sources[ source ].next();
+		} else {
+			heads[ source ] = null;
+			exhausted[ source ] = true;
+		}
+	}
+
+	/**
+	 * Returns true if the current element of source a belongs before the current
+	 * element of source b. Exhausted sources lose to every other source, and ties
+	 * go to the earlier source.
+	 *
+	 * @param a the first source
+	 * @param b the second source
+	 * @return true if source a wins the match
+	 */
+	private boolean beats( int a, int b ) {
+
+		if ( exhausted[ a ] || exhausted[ b ] )
+			return !exhausted[ a ];
+
+		int c = comparator == null ? heads[ a ].compareTo( heads[ b ] ) : comparator.compare( heads[ a ], heads[ b ] );
+
+		return c < 0 || ( c == 0 && a < b );
+	}
+}
@@ -0,0 +1,332 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+import edu.ncsu.csc316.dsa.data.ComparatorBuilder;
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * KeyExtractionSorter sorts data by a primitive sort key. The key of every
+ * element is extracted into a long[] once, the array of keys is sorted along
+ * with an int[] of element positions using a binary LSD radix sort, and the
+ * elements are then rearranged in a single pass. The inner loops therefore
+ * touch only primitive arrays instead of dereferencing an object for every
+ * comparison.
+ *
+ * Keys are compared as signed longs. Elements with equal keys keep their
+ * original order unless a tie-breaking Comparator is given, in which case each
+ * group of equal keys is sorted with it. The factory methods build sorters that
+ * order Students exactly as {@link edu.ncsu.csc316.dsa.data.StudentIDComparator},
+ * {@link edu.ncsu.csc316.dsa.data.StudentGPAComparator} and the natural ordering
+ * of Students do.
+ *
+ * @author Will Greene
+ * @param <E> the generic type of data to sort
+ */
+public class KeyExtractionSorter<E> implements Sorter<E> {
+
+	/** number of bits per radix digit */
+	private static final int DIGIT_BITS = 8;
+
+	/** number of buckets per radix pass */
+	private static final int RADIX = 1 << DIGIT_BITS;
+
+	/** number of radix passes needed for a 64-bit key */
+	private static final int PASSES = Long.SIZE / DIGIT_BITS;
+
+	/** groups of equal keys of this size or smaller are tie-broken with insertion sort */
+	private static final int INSERTION_SORT_THRESHOLD = 16;
+
+	/** extracts the sort key of an element */
+	private ToLongFunction<? super E> keyExtractor;
+
+	/** orders elements with equal keys, or null to keep their original order */
+	private Comparator<? super E> tieBreaker;
+
+	/**
+	 * Constructs a KeyExtractionSorter that sorts by the given key and orders
+	 * elements with equal keys with the given Comparator.
+	 *
+	 * @param keyExtractor extracts the sort key of an element
+	 * @param tieBreaker orders elements with equal keys, or null to keep their original order
+	 */
+	public KeyExtractionSorter( ToLongFunction<? super E> keyExtractor, Comparator<? super E> tieBreaker ) {
+		this.keyExtractor = keyExtractor;
+		this.tieBreaker = tieBreaker;
+	}
+
+	/**
+	 * Constructs a KeyExtractionSorter that sorts stably by the given key.
+	 *
+	 * @param keyExtractor extracts the sort key of an element
+	 */
+	public KeyExtractionSorter( ToLongFunction<? super E> keyExtractor ) {
+		this( keyExtractor, null );
+	}
+
+	/**
+	 * Returns a sorter that orders Students by ascending id, keeping the original
+	 * order of Students with equal ids.
+	 *
+	 * @return a sorter that orders Students by id
+	 */
+	public static KeyExtractionSorter<Student> byId() {
+		return new KeyExtractionSorter<Student>( s -> s.getId() );
+	}
+
+	/**
+	 * Returns a sorter that orders Students by descending GPA, then by their
+	 * natural ordering. Students whose GPA is NaN sort last.
+	 *
+	 * @return a sorter that orders Students by GPA
+	 */
+	public static KeyExtractionSorter<Student> byGpa() {
+		return new KeyExtractionSorter<Student>( s -> Double.isNaN( s.getGpa() ) ? Long.MAX_VALUE : ~sortableKey( s.getGpa() ),
+				Comparator.naturalOrder() );
+	}
+
+	/**
+	 * Returns a sorter that orders Students by their natural ordering, using the
+	 * collation key of the last name as the key.
+	 *
+	 * @return a sorter that orders Students by name
+	 */
+	public static KeyExtractionSorter<Student> byName() {
+		return new KeyExtractionSorter<Student>( Student::getLastKey, Comparator.naturalOrder() );
+	}
+
+	/**
+	 * Returns a long whose signed order matches the numeric order of value.
+	 * Negative and positive zero have the same key, and NaN sorts after positive
+	 * infinity.
+	 *
+	 * @param value the value to convert
+	 * @return a key that sorts like value
+	 */
+	public static long sortableKey( double value ) {
+
+		// Adding 0.0 turns -0.0 into 0.0
+		long bits = Double.doubleToLongBits( value + 0.0 );
+
+		// Negative values have their magnitude bits flipped so larger magnitudes sort lower
+		return bits ^ ( ( bits >> 63 ) & Long.MAX_VALUE );
+	}
+
+	/**
+	 * Returns a key that packs the first four characters of s, so that whenever
+	 * two Strings have different keys, the keys are ordered the same way as the
+	 * Strings under {@link String#compareTo}. Strings whose first four characters
+	 * match have equal keys.
+	 *
+	 * @param s the String to convert
+	 * @return a key that sorts like the first four characters of s
+	 * @see ComparatorBuilder#collationKey(String)
+	 */
+	public static long prefixKey( String s ) {
+		return ComparatorBuilder.collationKey( s );
+	}
+
+	/**
+	 * Sorts an array of elements by their extracted keys.
+	 *
+	 * @param data array of elements
+	 */
+	@Override
+	public void sort( E[] data ) {
+		sort( data, 0, data.length );
+	}
+
+	/**
+	 * Sorts the elements of data in the index range [from, to) by their extracted
+	 * keys.
+	 *
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	@Override
+	public void sort( E[] data, int from, int to ) {
+
+		Objects.checkFromToIndex( from, to, data.length );
+
+		int n = to - from;
+
+		if ( n < 2 )
+			return;
+
+		E[] original = Arrays.copyOfRange( data, from, to );
+		long[] keys = new long[ n ];
+		int[] order = new int[ n ];
+
+		for ( int i = 0; i < n; i++ ) {
+			keys[ i ] = keyExtractor.applyAsLong( original[ i ] );
+			order[ i ] = i;
+		}
+
+		long[] keyBuffer = new long[ n ];
+		int[] orderBuffer = new int[ n ];
+
+		if ( radixSort( keys, order, keyBuffer, orderBuffer ) ) {
+			long[] tempKeys = keys;
+			keys = keyBuffer;
+			keyBuffer = tempKeys;
+
+			int[] tempOrder = order;
+			order = orderBuffer;
+			orderBuffer = tempOrder;
+		}
+
+		if ( tieBreaker != null )
+			breakTies( original, keys, order, orderBuffer );
+
+		for ( int i = 0; i < n; i++ )
+			data[ from + i ] = original[ order[ i ] ];
+	}
+
+	/**
+	 * Stably sorts keys, moving order along with them, using an LSD radix sort
+	 * on 8-bit digits. Passes alternate between the arrays and their buffers, and
+	 * digit positions shared by every key are skipped.
+	 *
+	 * @param keys the keys to sort
+	 * @param order the element positions to move along with the keys
+	 * @param keyBuffer a buffer the length of keys
+	 * @param orderBuffer a buffer the length of order
+	 * @return true if the sorted result ended up in the buffers
+	 */
+	private static boolean radixSort( long[] keys, int[] order, long[] keyBuffer, int[] orderBuffer ) {
+
+		int n = keys.length;
+		int[][] b = new int[ PASSES ][ RADIX ];
+
+		for ( int i = 0; i < n; i++ ) {
+
+			long key = keys[ i ] ^ Long.MIN_VALUE;
+
+			for ( int pass = 0; pass < PASSES; pass++ )
+				b[ pass ][ ( int ) ( key >>> ( pass * DIGIT_BITS ) ) & ( RADIX - 1 ) ]++;
+		}
+
+		long firstKey = keys[ 0 ] ^ Long.MIN_VALUE;
+		boolean swapped = false;
+
+		for ( int pass = 0; pass < PASSES; pass++ ) {
+
+			int shift = pass * DIGIT_BITS;
+			int[] count = b[ pass ];
+
+			if ( count[ ( int ) ( firstKey >>> shift ) & ( RADIX - 1 ) ] == n )
+				continue;
+
+			int offset = 0;
+
+			for ( int d = 0; d < RADIX; d++ ) {
+				int c = count[ d ];
+				count[ d ] = offset;
+				offset += c;
+			}
+
+			for ( int i = 0; i < n; i++ ) {
+				int slot = count[ ( int ) ( ( keys[ i ] ^ Long.MIN_VALUE ) >>> shift ) & ( RADIX - 1 ) ]++;
+				keyBuffer[ slot ] = keys[ i ];
+				orderBuffer[ slot ] = order[ i ];
+			}
+
+			long[] tempKeys = keys;
+			keys = keyBuffer;
+			keyBuffer = tempKeys;
+
+			int[] tempOrder = order;
+			order = orderBuffer;
+			orderBuffer = tempOrder;
+
+			swapped = !swapped;
+		}
+
+		return swapped;
+	}
+
+	/**
+	 * Sorts each group of equal keys in order with the tie-breaking Comparator.
+	 *
+	 * @param data copy of the elements being sorted, in their original order
+	 * @param keys the sorted keys
+	 * @param order the element positions, in key order
+	 * @param buffer a buffer the length of order
+	 */
+	private void breakTies( E[] data, long[] keys, int[] order, int[] buffer ) {
+
+		int n = keys.length;
+		int start = 0;
+
+		for ( int i = 1; i <= n; i++ ) {
+
+			if ( i == n || keys[ i ] != keys[ start ] ) {
+
+				if ( i - start > 1 )
+					mergeSort( data, order, buffer, start, i );
+
+				start = i;
+			}
+		}
+	}
+
+	/**
+	 * Stably sorts order in the index range [low, high) by comparing the elements
+	 * of data at those positions with the tie-breaking Comparator.
+	 *
+	 * @param data the elements being sorted
+	 * @param order the element positions to sort
+	 * @param buffer a buffer the length of order
+	 * @param low index of the first position to sort (inclusive)
+	 * @param high index of the last position to sort (exclusive)
+	 */
+	private void mergeSort( E[] data, int[] order, int[] buffer, int low, int high ) {
+
+		if ( high - low <= INSERTION_SORT_THRESHOLD ) {
+
+			for ( int i = low + 1; i < high; i++ ) {
+
+				int x = order[ i ];
+				int j = i - 1;
+
+				while ( j >= low && tieBreaker.compare( data[ order[ j ] ], data[ x ] ) > 0 ) {
+					order[ j + 1 ] = order[ j ];
+					j--;
+				}
+
+				order[ j + 1 ] = x;
+			}
+
+			return;
+		}
+
+		int mid = ( low + high ) >>> 1;
+
+		mergeSort( data, order, buffer, low, mid );
+		mergeSort( data, order, buffer, mid, high );
+
+		if ( tieBreaker.compare( data[ order[ mid - 1 ] ], data[ order[ mid ] ] ) <= 0 )
+			return;
+
+		System.arraycopy( order, low, buffer, low, mid - low );
+
+		int left = low;
+		int right = mid;
+		int index = low;
+
+		while ( left < mid && right < high ) {
+
+			if ( tieBreaker.compare( data[ order[ right ] ], data[ buffer[ left ] ] ) < 0 )
+				order[ index++ ] = order[ right++ ];
+			else
+				order[ index++ ] = buffer[ left++ ];
+		}
+
+		while ( left < mid )
+			order[ index++ ] = buffer[ left++ ];
+	}
+}
@@ -1,6 +1,8 @@
 package edu.ncsu.csc316.dsa.sorter;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Objects;
 
 /**
  * MergeSorter sorts arrays of comparable elements using the merge sort
@@ -38,27 +40,33 @@ public class MergeSorter<E extends Comparable<E>> extends AbstractComparisonSort
 	 */
 	@Override
 	public void sort(E[] data) {
-
-		if ( data.length < 2 )
-			return;
+		sort( data, 0, data.length );
+	}
+	
+	/**
+	 * Sorts the elements of data in the index range [from, to) using merge sort.
+	 * 
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	@Override
+	public void sort( E[] data, int from, int to ) {
 		
-		int mid = data.length / 2;
-						
-		@SuppressWarnings( "unchecked" )
-		E[] left = ( E[] ) ( new Comparable[ mid ] );
-		@SuppressWarnings( "unchecked" )		
-		E[] right = ( E[] ) ( new Comparable[ data.length - mid ] );
+		Objects.checkFromToIndex( from, to, data.length );
+		
+		if ( to - from < 2 )
+			return;
 		
-		for ( int i = 0; i < mid; i++ )
-			left[ i ] = data[ i ];
+		int mid = ( from + to ) >>> 1;
 		
-		for ( int i = mid; i < data.length; i++ )
-			right[ i - mid ] = data[ i ];
+		E[] left = Arrays.copyOfRange( data, from, mid );
+		E[] right = Arrays.copyOfRange( data, mid, to );
 		
 		sort( left );
 		sort( right );
 		
-		merge( left, right, data );
+		merge( left, right, data, from );
 	}
     
 	/**
@@ -67,21 +75,22 @@ public class MergeSorter<E extends Comparable<E>> extends AbstractComparisonSort
 	 * @param left "left" side of the array
 	 * @param right "right" side of the array
 	 * @param data full array
+	 * @param from index of data to merge into
 	 */
-    private void merge( E[] left, E[] right, E[] data ) {
+    private void merge( E[] left, E[] right, E[] data, int from ) {
     	
     	int leftIndex = 0;
     	int rightIndex = 0;
     	
-    	while ( leftIndex + rightIndex < data.length ) {
+    	while ( leftIndex + rightIndex < left.length + right.length ) {
     		    		
     		if ( rightIndex == right.length || ( leftIndex < left.length && compare(left[ leftIndex ], right[ rightIndex ] ) < 0 ) ) {
-    			data[ leftIndex + rightIndex ] = left [ leftIndex ];
+    			data[ from + leftIndex + rightIndex ] = left [ leftIndex ];
     			leftIndex++;
     		}
     		
     		else {
-    			data[ leftIndex + rightIndex ] = right[ rightIndex ];
+    			data[ from + leftIndex + rightIndex ] = right[ rightIndex ];
     			rightIndex++;
     		}
     	}
@@ -0,0 +1,112 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import edu.ncsu.csc316.dsa.data.Identifiable;
+
+/**
+ * ParallelCountingSorter uses a parallel counting sort to sort data by id.
+ * The minimum and maximum ids are found in parallel, then each worker counts
+ * the ids in its own chunk of the array, the counts are prefix-summed into
+ * per-worker offsets and every chunk is scattered concurrently.
+ *
+ * Every worker needs a count array as long as the id range, so the number of
+ * workers is limited to keep the count arrays no larger than twice the input.
+ * Inputs whose id range is too wide for even one count array of that size are
+ * sorted with a {@link ParallelRadixSorter} instead. The sort is stable.
+ *
+ * @author Will Greene
+ * @param <E> the generic type of data to sort
+ */
+public class ParallelCountingSorter<E extends Identifiable> implements Sorter<E> {
+
+	/** pool used to run the chunks */
+	private ForkJoinPool pool;
+
+	/** sorter used when the id range is too wide to count */
+	private ParallelRadixSorter<E> radixSorter;
+
+	/** sorter used when the input is too small to split */
+	private CountingSorter<E> sequentialSorter;
+
+	/**
+	 * Constructs a ParallelCountingSorter that runs on the common ForkJoinPool.
+	 */
+	public ParallelCountingSorter() {
+		this.pool = ForkJoinPool.commonPool();
+		this.radixSorter = new ParallelRadixSorter<E>();
+		this.sequentialSorter = new CountingSorter<E>();
+	}
+
+	/**
+	 * Sorts an array of elements using parallel counting sort.
+	 *
+	 * @param data array of elements
+	 */
+	@Override
+	public void sort( E[] data ) {
+		sort( data, 0, data.length );
+	}
+
+	/**
+	 * Sorts the elements of data in the index range [from, to) using parallel
+	 * counting sort.
+	 *
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	@Override
+	public void sort( E[] data, int from, int to ) {
+
+		Objects.checkFromToIndex( from, to, data.length );
+
+		int n = to - from;
+
+		if ( n < 2 )
+			return;
+
+		int chunks = ParallelScatter.chunkCount( pool, n );
+		int[] min = new int[ chunks ];
+		int[] max = new int[ chunks ];
+
+		ParallelScatter.forEachChunk( pool, chunks, chunk -> {
+
+			int start = from + ParallelScatter.chunkStart( chunk, chunks, n );
+			int end = from + ParallelScatter.chunkStart( chunk + 1, chunks, n );
+
+			min[ chunk ] = data[ start ].getId();
+			max[ chunk ] = data[ start ].getId();
+
+			for ( int i = start + 1; i < end; i++ ) {
+				min[ chunk ] = Math.min( min[ chunk ], data[ i ].getId() );
+				max[ chunk ] = Math.max( max[ chunk ], data[ i ].getId() );
+			}
+		} );
+
+		int low = min[ 0 ];
+		int high = max[ 0 ];
+
+		for ( int chunk = 1; chunk < chunks; chunk++ ) {
+			low = Math.min( low, min[ chunk ] );
+			high = Math.max( high, max[ chunk ] );
+		}
+
+		long range = ( long ) high - low + 1;
+		int countingChunks = ( int ) Math.min( chunks, 2L * n / range );
+
+		if ( countingChunks == 0 ) {
+			radixSorter.sort( data, from, to );
+		} else if ( countingChunks == 1 ) {
+			sequentialSorter.sort( data, from, to );
+		} else {
+			@SuppressWarnings( "unchecked" )
+			E[] f = ( E[] ) ( new Identifiable[ n ] );
+
+			ParallelScatter.scatter( pool, countingChunks, data, from, f, 0, n, low, 0, -1, ( int ) range );
+
+			System.arraycopy( f, 0, data, from, n );
+		}
+	}
+}
@@ -0,0 +1,232 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelMergeSorter sorts arrays of comparable elements using a parallel
+ * merge sort. The two halves of each range are sorted concurrently on a
+ * {@link ForkJoinPool} and then merged. A single auxiliary array is allocated
+ * per call to sort and shared by every merge, and ranges at or below the cutoff
+ * are sorted with an {@link InsertionSorter}.
+ *
+ * This implementation is stable and ensures O(nlogn) worst-case runtime to sort
+ * an array of n elements that are comparable.
+ *
+ * @author Will Greene
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class ParallelMergeSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/** default size at or below which a range is sorted with insertion sort */
+	public static final int DEFAULT_CUTOFF = 32;
+
+	/** size below which a range is sorted on the calling thread instead of being split into tasks */
+	private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+	/** size at or below which a range is sorted with insertion sort */
+	private int cutoff;
+
+	/** sorter used for ranges at or below the cutoff */
+	private InsertionSorter<E> insertionSorter;
+
+	/** pool used to run the merge tasks */
+	private ForkJoinPool pool;
+
+	/**
+	 * Constructs a new ParallelMergeSorter with a specified custom Comparator and
+	 * insertion sort cutoff.
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 * @param cutoff size at or below which a range is sorted with insertion sort
+	 * @throws IllegalArgumentException if cutoff is less than 1
+	 */
+	public ParallelMergeSorter( Comparator<E> comparator, int cutoff ) {
+		super( comparator );
+
+		if ( cutoff < 1 )
+			throw new IllegalArgumentException( "Cutoff must be at least 1." );
+
+		this.cutoff = cutoff;
+		this.insertionSorter = new InsertionSorter<E>( comparator );
+		this.pool = ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Constructs a new ParallelMergeSorter with a specified custom Comparator and
+	 * the default insertion sort cutoff.
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 */
+	public ParallelMergeSorter( Comparator<E> comparator ) {
+		this( comparator, DEFAULT_CUTOFF );
+	}
+
+	/**
+	 * Constructs a new ParallelMergeSorter with comparisons based on the element's
+	 * natural ordering and the default insertion sort cutoff.
+	 */
+	public ParallelMergeSorter() {
+		this( null );
+	}
+
+	/**
+	 * Sorts an array of elements using parallel merge sort.
+	 *
+	 * @param data array of elements
+	 */
+	@Override
+	public void sort( E[] data ) {
+		sort( data, 0, data.length );
+	}
+
+	/**
+	 * Sorts the elements of data in the index range [from, to) using parallel
+	 * merge sort.
+	 *
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	@Override
+	public void sort( E[] data, int from, int to ) {
+
+		Objects.checkFromToIndex( from, to, data.length );
+
+		if ( to - from < 2 )
+			return;
+
+		@SuppressWarnings( "unchecked" )
+		E[] aux = ( E[] ) ( new Comparable<?>[ to - from ] );
+
+		if ( to - from < PARALLEL_THRESHOLD )
+			mergeSort( data, aux, from, from, to );
+		else
+			pool.invoke( new MergeTask( data, aux, from, from, to ) );
+	}
+
+	/**
+	 * Sorts data in the index range [low, high) on the calling thread.
+	 *
+	 * @param data array of elements
+	 * @param aux auxiliary array as long as the range being sorted
+	 * @param base index of data that corresponds to index 0 of aux
+	 * @param low index of the first element to sort (inclusive)
+	 * @param high index of the last element to sort (exclusive)
+	 */
+	private void mergeSort( E[] data, E[] aux, int base, int low, int high ) {
+
+		if ( high - low <= cutoff ) {
+			insertionSorter.sort( data, low, high );
+			return;
+		}
+
+		int mid = ( low + high ) >>> 1;
+
+		mergeSort( data, aux, base, low, mid );
+		mergeSort( data, aux, base, mid, high );
+
+		merge( data, aux, base, low, mid, high );
+	}
+
+	/**
+	 * Merges the sorted ranges [low, mid) and [mid, high) of data. Only the left
+	 * range is copied into aux, at its index in data less base, so merges of
+	 * disjoint ranges can safely share aux.
+	 *
+	 * @param data array of elements
+	 * @param aux auxiliary array as long as the range being sorted
+	 * @param base index of data that corresponds to index 0 of aux
+	 * @param low index of the first element of the left range
+	 * @param mid index of the first element of the right range
+	 * @param high index one past the last element of the right range
+	 */
+	private void merge( E[] data, E[] aux, int base, int low, int mid, int high ) {
+
+		// Ranges are already in order
+		if ( compare( data[ mid - 1 ], data[ mid ] ) <= 0 )
+			return;
+
+		System.arraycopy( data, low, aux, low - base, mid - low );
+
+		int leftIndex = low - base;
+		int leftEnd = mid - base;
+		int rightIndex = mid;
+		int index = low;
+
+		while ( leftIndex < leftEnd && rightIndex < high ) {
+
+			// Ties take the left element to keep the sort stable
+			if ( compare( data[ rightIndex ], aux[ leftIndex ] ) < 0 )
+				data[ index++ ] = data[ rightIndex++ ];
+			else
+				data[ index++ ] = aux[ leftIndex++ ];
+		}
+
+		// Any remaining right elements are already in place
+		while ( leftIndex < leftEnd )
+			data[ index++ ] = aux[ leftIndex++ ];
+	}
+
+	/**
+	 * MergeTask sorts one range of the array, sorting its halves as separate
+	 * tasks until the range is small enough to sort on the current thread.
+	 *
+	 * @author Will Greene
+	 */
+	private class MergeTask extends RecursiveAction {
+
+		/** serial version UID */
+		private static final long serialVersionUID = 1L;
+
+		/** array being sorted */
+		private final E[] data;
+
+		/** auxiliary array shared by all tasks of one sort */
+		private final E[] aux;
+
+		/** index of data that corresponds to index 0 of aux */
+		private final int base;
+
+		/** index of the first element to sort (inclusive) */
+		private final int low;
+
+		/** index of the last element to sort (exclusive) */
+		private final int high;
+
+		/**
+		 * Constructs a MergeTask for the index range [low, high).
+		 *
+		 * @param data array being sorted
+		 * @param aux auxiliary array shared by all tasks of one sort
+		 * @param base index of data that corresponds to index 0 of aux
+		 * @param low index of the first element to sort (inclusive)
+		 * @param high index of the last element to sort (exclusive)
+		 */
+		MergeTask( E[] data, E[] aux, int base, int low, int high ) {
+			this.data = data;
+			this.aux = aux;
+			this.base = base;
+			this.low = low;
+			this.high = high;
+		}
+
+		@Override
+		protected void compute() {
+
+			if ( high - low < PARALLEL_THRESHOLD ) {
+				mergeSort( data, aux, base, low, high );
+				return;
+			}
+
+			int mid = ( low + high ) >>> 1;
+
+			invokeAll( new MergeTask( data, aux, base, low, mid ), new MergeTask( data, aux, base, mid, high ) );
+
+			merge( data, aux, base, low, mid, high );
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import edu.ncsu.csc316.dsa.data.Identifiable;
+
+/**
+ * ParallelRadixSorter uses a parallel binary LSD radix sort to sort data by
+ * id. Ids are sorted on 8-bit digits of the id with its sign bit flipped, so
+ * negative ids are ordered correctly. Each pass builds per-worker histograms
+ * over contiguous chunks, prefix-sums them into per-worker offsets and scatters
+ * every chunk concurrently. Digit positions shared by every id are skipped.
+ *
+ * The sort is stable. Arrays too small to be worth splitting are sorted with a
+ * sequential {@link RadixSorter}.
+ *
+ * @author Will Greene
+ * @param <E> the generic type of data to sort
+ */
+public class ParallelRadixSorter<E extends Identifiable> implements Sorter<E> {
+
+	/** number of bits per digit */
+	private static final int DIGIT_BITS = 8;
+
+	/** number of buckets per pass */
+	private static final int RADIX = 1 << DIGIT_BITS;
+
+	/** number of digit positions in an id */
+	private static final int PASSES = Integer.SIZE / DIGIT_BITS;
+
+	/** pool used to run the chunks */
+	private ForkJoinPool pool;
+
+	/** sorter used for arrays too small to split */
+	private RadixSorter<E> sequentialSorter;
+
+	/**
+	 * Constructs a ParallelRadixSorter that runs on the common ForkJoinPool.
+	 */
+	public ParallelRadixSorter() {
+		this.pool = ForkJoinPool.commonPool();
+		this.sequentialSorter = new RadixSorter<E>( DIGIT_BITS );
+	}
+
+	/**
+	 * Sorts an array of elements using parallel radix sort.
+	 *
+	 * @param data array of elements
+	 */
+	@Override
+	public void sort( E[] data ) {
+		sort( data, 0, data.length );
+	}
+
+	/**
+	 * Sorts the elements of data in the index range [from, to) using parallel
+	 * radix sort.
+	 *
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	@Override
+	public void sort( E[] data, int from, int to ) {
+
+		Objects.checkFromToIndex( from, to, data.length );
+
+		int n = to - from;
+		int chunks = ParallelScatter.chunkCount( pool, n );
+
+		if ( chunks == 1 ) {
+			sequentialSorter.sort( data, from, to );
+			return;
+		}
+
+		// Histogram every digit position in one parallel pass to find the constant ones
+		int[][][] b = new int[ chunks ][ PASSES ][ RADIX ];
+
+		ParallelScatter.forEachChunk( pool, chunks, chunk -> {
+
+			int[][] count = b[ chunk ];
+			int end = from + ParallelScatter.chunkStart( chunk + 1, chunks, n );
+
+			for ( int i = from + ParallelScatter.chunkStart( chunk, chunks, n ); i < end; i++ ) {
+
+				int key = data[ i ].getId() ^ Integer.MIN_VALUE;
+
+				for ( int pass = 0; pass < PASSES; pass++ )
+					count[ pass ][ ( key >>> ( pass * DIGIT_BITS ) ) & ( RADIX - 1 ) ]++;
+			}
+		} );
+
+		int firstKey = data[ from ].getId() ^ Integer.MIN_VALUE;
+
+		// The buffer holds the range at index 0, the input at index from
+		E[] source = data;
+		int sourceBase = from;
+		@SuppressWarnings( "unchecked" )
+		E[] target = ( E[] ) ( new Identifiable[ n ] );
+		int targetBase = 0;
+
+		for ( int pass = 0; pass < PASSES; pass++ ) {
+
+			int shift = pass * DIGIT_BITS;
+			int firstDigit = ( firstKey >>> shift ) & ( RADIX - 1 );
+			int total = 0;
+
+			for ( int chunk = 0; chunk < chunks; chunk++ )
+				total += b[ chunk ][ pass ][ firstDigit ];
+
+			// Every id has the same digit here, so this pass would not move anything
+			if ( total == n )
+				continue;
+
+			ParallelScatter.scatter( pool, chunks, source, sourceBase, target, targetBase, n, Integer.MIN_VALUE, shift,
+					RADIX - 1, RADIX );
+
+			E[] temp = source;
+			source = target;
+			target = temp;
+
+			int tempBase = sourceBase;
+			sourceBase = targetBase;
+			targetBase = tempBase;
+		}
+
+		if ( source != data )
+			System.arraycopy( source, 0, data, from, n );
+	}
+}
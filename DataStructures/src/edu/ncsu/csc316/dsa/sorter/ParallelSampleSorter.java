@@ -0,0 +1,304 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ParallelSampleSorter sorts arrays of comparable elements using a parallel
+ * sample sort. A random sample of the input, several times larger than the
+ * number of buckets, is sorted and every few sampled elements is kept as a
+ * splitter. The input is then divided into chunks, one per worker, and each
+ * worker classifies its elements into buckets by walking an implicit binary
+ * tree of splitters, moving to the left or right child by the sign of a single
+ * comparison, so every element costs exactly log(buckets) comparisons. Elements
+ * are distributed into their buckets in parallel and each bucket is then sorted
+ * independently on a {@link ForkJoinPool} with a {@link TimSorter}.
+ *
+ * When the sample contains repeated splitters, elements equal to a splitter
+ * are given a bucket of their own which needs no sorting, so inputs with a few
+ * very common keys are not funneled into one large bucket. Buckets that still
+ * end up much larger than expected are sample sorted again.
+ *
+ * Classification keeps elements that share a bucket in their original order,
+ * so this implementation is stable, and it sorts an array of n elements in
+ * O(nlogn) time.
+ *
+ * @author Will Greene
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class ParallelSampleSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/** size below which a range is sorted directly instead of being split into buckets */
+	private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	/** largest number of buckets, not counting buckets of elements equal to a splitter */
+	private static final int MAX_BUCKETS = 256;
+
+	/** smallest expected bucket size worth adding buckets for */
+	private static final int MIN_BUCKET_SIZE = 1 << 12;
+
+	/** number of sampled elements per bucket */
+	private static final int OVERSAMPLING = 16;
+
+	/** a bucket more than this many times its expected size is sample sorted again */
+	private static final int SKEW_FACTOR = 4;
+
+	/** sorter used for ranges below the threshold and for each bucket */
+	private TimSorter<E> bucketSorter;
+
+	/** pool used to classify elements and sort buckets */
+	private ForkJoinPool pool;
+
+	/**
+	 * Constructs a new ParallelSampleSorter with a specified custom Comparator.
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 */
+	public ParallelSampleSorter( Comparator<E> comparator ) {
+		super( comparator );
+		this.bucketSorter = new TimSorter<E>( comparator );
+		this.pool = ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Constructs a new ParallelSampleSorter with comparisons based on the
+	 * element's natural ordering.
+	 */
+	public ParallelSampleSorter() {
+		this( null );
+	}
+
+	/**
+	 * Sorts an array of elements using parallel sample sort.
+	 *
+	 * @param data array of elements
+	 */
+	@Override
+	public void sort( E[] data ) {
+		sort( data, 0, data.length );
+	}
+
+	/**
+	 * Sorts the elements of data in the index range [from, to) using parallel
+	 * sample sort.
+	 *
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	@Override
+	public void sort( E[] data, int from, int to ) {
+
+		Objects.checkFromToIndex( from, to, data.length );
+
+		if ( to - from < PARALLEL_THRESHOLD ) {
+			bucketSorter.sort( data, from, to );
+			return;
+		}
+
+		@SuppressWarnings( "unchecked" )
+		E[] aux = ( E[] ) ( new Comparable<?>[ to - from ] );
+
+		sampleSort( data, aux, from, from, to );
+	}
+
+	/**
+	 * Sorts data in the index range [low, high), which holds at least
+	 * PARALLEL_THRESHOLD elements.
+	 *
+	 * @param data array of elements
+	 * @param aux auxiliary array as long as the range passed to sort
+	 * @param base index of data that corresponds to index 0 of aux
+	 * @param low index of the first element to sort (inclusive)
+	 * @param high index of the last element to sort (exclusive)
+	 */
+	private void sampleSort( E[] data, E[] aux, int base, int low, int high ) {
+
+		int n = high - low;
+		int logBuckets = 31 - Integer.numberOfLeadingZeros( Math.max( 2, Math.min( MAX_BUCKETS, n / MIN_BUCKET_SIZE ) ) );
+		int k = 1 << logBuckets;
+
+		E[] splitters = chooseSplitters( data, low, high, k );
+		E[] tree = buildTree( splitters );
+
+		boolean withEquality = hasRepeatedSplitter( splitters );
+		int buckets = withEquality ? 2 * k : k;
+		int chunks = ParallelScatter.chunkCount( pool, n );
+		int[][] offsets = new int[ chunks ][ buckets ];
+		short[] oracle = new short[ n ];
+
+		// Classify each chunk, remembering each element's bucket for the distribution pass
+		ParallelScatter.forEachChunk( pool, chunks, chunk -> {
+
+			int[] count = offsets[ chunk ];
+			int to = low + ParallelScatter.chunkStart( chunk + 1, chunks, n );
+
+			for ( int i = low + ParallelScatter.chunkStart( chunk, chunks, n ); i < to; i++ ) {
+				int b = classify( tree, logBuckets, splitters, withEquality, data[ i ] );
+				oracle[ i - low ] = ( short ) b;
+				count[ b ]++;
+			}
+		} );
+
+		// Turn counts into starting offsets in aux, bucket-major so that order is preserved
+		int[] bucketStart = new int[ buckets + 1 ];
+		int offset = low - base;
+
+		for ( int b = 0; b < buckets; b++ ) {
+
+			bucketStart[ b ] = offset;
+
+			for ( int chunk = 0; chunk < chunks; chunk++ ) {
+				int c = offsets[ chunk ][ b ];
+				offsets[ chunk ][ b ] = offset;
+				offset += c;
+			}
+		}
+
+		bucketStart[ buckets ] = offset;
+
+		// Each chunk writes to its own disjoint slots of aux
+		ParallelScatter.forEachChunk( pool, chunks, chunk -> {
+
+			int[] next = offsets[ chunk ];
+			int to = low + ParallelScatter.chunkStart( chunk + 1, chunks, n );
+
+			for ( int i = low + ParallelScatter.chunkStart( chunk, chunks, n ); i < to; i++ )
+				aux[ next[ oracle[ i - low ] ]++ ] = data[ i ];
+		} );
+
+		// Copy each bucket back into place and sort it
+		ParallelScatter.forEachChunk( pool, buckets, b -> {
+
+			int start = bucketStart[ b ];
+			int size = bucketStart[ b + 1 ] - start;
+
+			System.arraycopy( aux, start, data, base + start, size );
+
+			// Buckets of elements equal to a splitter are already sorted
+			if ( withEquality && ( b & 1 ) == 1 )
+				return;
+
+			if ( size >= PARALLEL_THRESHOLD && size > SKEW_FACTOR * ( n / k ) && size < n )
+				sampleSort( data, aux, base, base + start, base + start + size );
+			else
+				bucketSorter.sort( data, base + start, base + start + size );
+		} );
+	}
+
+	/**
+	 * Returns k - 1 sorted splitters taken from a random sample of data in the
+	 * index range [low, high).
+	 *
+	 * @param data array of elements
+	 * @param low index of the first element to sample (inclusive)
+	 * @param high index of the last element to sample (exclusive)
+	 * @param k the number of buckets
+	 * @return the sorted splitters
+	 */
+	private E[] chooseSplitters( E[] data, int low, int high, int k ) {
+
+		@SuppressWarnings( "unchecked" )
+		E[] sample = ( E[] ) ( new Comparable<?>[ k * OVERSAMPLING ] );
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		for ( int i = 0; i < sample.length; i++ )
+			sample[ i ] = data[ random.nextInt( low, high ) ];
+
+		bucketSorter.sort( sample );
+
+		@SuppressWarnings( "unchecked" )
+		E[] splitters = ( E[] ) ( new Comparable<?>[ k - 1 ] );
+
+		for ( int i = 0; i < splitters.length; i++ )
+			splitters[ i ] = sample[ ( i + 1 ) * OVERSAMPLING - 1 ];
+
+		return splitters;
+	}
+
+	/**
+	 * Returns true if any two neighboring splitters compare equal.
+	 *
+	 * @param splitters the sorted splitters
+	 * @return true if a splitter is repeated
+	 */
+	private boolean hasRepeatedSplitter( E[] splitters ) {
+
+		for ( int i = 1; i < splitters.length; i++ ) {
+			if ( compare( splitters[ i - 1 ], splitters[ i ] ) == 0 )
+				return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the splitters laid out as an implicit complete binary search tree,
+	 * with the root at index 1 and the children of node j at 2j and 2j + 1.
+	 *
+	 * @param splitters the sorted splitters; there must be one fewer than a power of two
+	 * @return the splitter tree
+	 */
+	private E[] buildTree( E[] splitters ) {
+
+		@SuppressWarnings( "unchecked" )
+		E[] tree = ( E[] ) ( new Comparable<?>[ splitters.length + 1 ] );
+
+		fillTree( tree, splitters, 1, 0, splitters.length );
+
+		return tree;
+	}
+
+	/**
+	 * Places the splitters in [low, high) into the subtree rooted at node.
+	 *
+	 * @param tree the splitter tree
+	 * @param splitters the sorted splitters
+	 * @param node the root of the subtree
+	 * @param low index of the first splitter of the subtree (inclusive)
+	 * @param high index of the last splitter of the subtree (exclusive)
+	 */
+	private void fillTree( E[] tree, E[] splitters, int node, int low, int high ) {
+
+		if ( low >= high )
+			return;
+
+		int mid = ( low + high ) >>> 1;
+
+		tree[ node ] = splitters[ mid ];
+		fillTree( tree, splitters, 2 * node, low, mid );
+		fillTree( tree, splitters, 2 * node + 1, mid + 1, high );
+	}
+
+	/**
+	 * Returns the bucket of an element. Without equality buckets, bucket b holds
+	 * the elements greater than splitter b - 1 and at most splitter b. With them,
+	 * bucket 2b holds the elements strictly between those splitters and bucket
+	 * 2b + 1 holds the elements equal to splitter b.
+	 *
+	 * @param tree the splitter tree
+	 * @param logBuckets the depth of the splitter tree
+	 * @param splitters the sorted splitters
+	 * @param equalityBuckets true if elements equal to a splitter get their own bucket
+	 * @param e the element to classify
+	 * @return the bucket of e
+	 */
+	private int classify( E[] tree, int logBuckets, E[] splitters, boolean equalityBuckets, E e ) {
+
+		int j = 1;
+
+		// Step right exactly when the splitter is less than e, using the sign bit of the comparison
+		for ( int level = 0; level < logBuckets; level++ )
+			j = 2 * j + ( compare( tree[ j ], e ) >>> 31 );
+
+		int b = j - ( 1 << logBuckets );
+
+		if ( !equalityBuckets )
+			return b;
+
+		return 2 * b + ( b < splitters.length && compare( e, splitters[ b ] ) == 0 ? 1 : 0 );
+	}
+}
@@ -0,0 +1,190 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+import edu.ncsu.csc316.dsa.data.Identifiable;
+
+/**
+ * ParallelScatter performs one stable distribution pass of a counting or radix
+ * sort across the workers of a {@link ForkJoinPool}. The input is divided into
+ * contiguous chunks, one per worker. Each worker builds a histogram of the
+ * bucket numbers in its chunk, the histograms are combined into a starting
+ * offset per (chunk, bucket) pair, and each worker then moves its chunk into
+ * place. Offsets are assigned bucket by bucket and, within a bucket, chunk by
+ * chunk, so elements that share a bucket keep their relative order.
+ *
+ * The bucket number of an element is ((id - bias) &gt;&gt;&gt; shift) &amp; mask,
+ * which covers both counting sort (bias = min, shift = 0, mask = -1) and binary
+ * radix sort (bias = Integer.MIN_VALUE, which flips the sign bit).
+ *
+ * @author Will Greene
+ */
+final class ParallelScatter {
+
+	/** smallest number of elements worth handing to a separate worker */
+	static final int MIN_CHUNK_SIZE = 1 << 13;
+
+	/**
+	 * ParallelScatter only provides static helpers.
+	 */
+	private ParallelScatter() {
+		// Do not instantiate
+	}
+
+	/**
+	 * Returns the number of chunks to split n elements into for the given pool.
+	 *
+	 * @param pool the pool that will process the chunks
+	 * @param n the number of elements
+	 * @return the number of chunks, at least 1
+	 */
+	static int chunkCount( ForkJoinPool pool, int n ) {
+		return Math.max( 1, Math.min( pool.getParallelism(), n / MIN_CHUNK_SIZE ) );
+	}
+
+	/**
+	 * Returns the index of the first element of a chunk.
+	 *
+	 * @param chunk the chunk number
+	 * @param chunks the number of chunks
+	 * @param n the number of elements
+	 * @return the index of the first element of the chunk
+	 */
+	static int chunkStart( int chunk, int chunks, int n ) {
+		return ( int ) ( ( long ) n * chunk / chunks );
+	}
+
+	/**
+	 * Returns the bucket number of an id.
+	 *
+	 * @param id the id
+	 * @param bias value subtracted from the id
+	 * @param shift number of bits to shift the biased id right by
+	 * @param mask mask applied after shifting
+	 * @return the bucket number
+	 */
+	static int bucket( int id, int bias, int shift, int mask ) {
+		return ( ( id - bias ) >>> shift ) & mask;
+	}
+
+	/**
+	 * Stably distributes n elements of source, starting at sourceFrom, by bucket
+	 * number into target, starting at targetFrom.
+	 *
+	 * @param <E> the type of elements being sorted
+	 * @param pool the pool to run the chunks on
+	 * @param chunks the number of chunks to split the elements into
+	 * @param source the elements to distribute
+	 * @param sourceFrom index of the first element of source to distribute
+	 * @param target array to receive the elements
+	 * @param targetFrom index of target to write the first element to
+	 * @param n the number of elements to distribute
+	 * @param bias value subtracted from each id
+	 * @param shift number of bits to shift each biased id right by
+	 * @param mask mask applied after shifting
+	 * @param buckets the number of buckets; every bucket number must be less than this
+	 */
+	static <E extends Identifiable> void scatter( ForkJoinPool pool, int chunks, E[] source, int sourceFrom,
+			E[] target, int targetFrom, int n, int bias, int shift, int mask, int buckets ) {
+
+		int[][] offsets = new int[ chunks ][ buckets ];
+
+		// Per-chunk histograms
+		forEachChunk( pool, chunks, chunk -> {
+
+			int[] count = offsets[ chunk ];
+			int to = sourceFrom + chunkStart( chunk + 1, chunks, n );
+
+			for ( int i = sourceFrom + chunkStart( chunk, chunks, n ); i < to; i++ )
+				count[ bucket( source[ i ].getId(), bias, shift, mask ) ]++;
+		} );
+
+		// Turn counts into starting offsets, bucket-major so that order is preserved
+		int offset = targetFrom;
+
+		for ( int d = 0; d < buckets; d++ ) {
+			for ( int chunk = 0; chunk < chunks; chunk++ ) {
+				int c = offsets[ chunk ][ d ];
+				offsets[ chunk ][ d ] = offset;
+				offset += c;
+			}
+		}
+
+		// Each chunk writes to its own disjoint slots
+		forEachChunk( pool, chunks, chunk -> {
+
+			int[] next = offsets[ chunk ];
+			int to = sourceFrom + chunkStart( chunk + 1, chunks, n );
+
+			for ( int i = sourceFrom + chunkStart( chunk, chunks, n ); i < to; i++ ) {
+				E e = source[ i ];
+				target[ next[ bucket( e.getId(), bias, shift, mask ) ]++ ] = e;
+			}
+		} );
+	}
+
+	/**
+	 * Runs body once for each chunk number in [0, chunks) on the pool and waits
+	 * for all of them to finish.
+	 *
+	 * @param pool the pool to run the chunks on
+	 * @param chunks the number of chunks
+	 * @param body the work to do for one chunk
+	 */
+	static void forEachChunk( ForkJoinPool pool, int chunks, IntConsumer body ) {
+
+		if ( chunks == 1 )
+			body.accept( 0 );
+		else
+			pool.invoke( new ChunkTask( body, 0, chunks ) );
+	}
+
+	/**
+	 * ChunkTask runs the body for a range of chunk numbers, splitting the range
+	 * in half until a single chunk remains.
+	 *
+	 * @author Will Greene
+	 */
+	private static class ChunkTask extends RecursiveAction {
+
+		/** serial version UID */
+		private static final long serialVersionUID = 1L;
+
+		/** the work to do for one chunk */
+		private final IntConsumer body;
+
+		/** first chunk number (inclusive) */
+		private final int low;
+
+		/** last chunk number (exclusive) */
+		private final int high;
+
+		/**
+		 * Constructs a ChunkTask for the chunk numbers [low, high).
+		 *
+		 * @param body the work to do for one chunk
+		 * @param low first chunk number (inclusive)
+		 * @param high last chunk number (exclusive)
+		 */
+		ChunkTask( IntConsumer body, int low, int high ) {
+			this.body = body;
+			this.low = low;
+			this.high = high;
+		}
+
+		@Override
+		protected void compute() {
+
+			if ( high - low == 1 ) {
+				body.accept( low );
+				return;
+			}
+
+			int mid = ( low + high ) >>> 1;
+
+			invokeAll( new ChunkTask( body, low, mid ), new ChunkTask( body, mid, high ) );
+		}
+	}
+}
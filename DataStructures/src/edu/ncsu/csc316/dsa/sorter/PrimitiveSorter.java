@@ -0,0 +1,725 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Objects;
+
+/**
+ * PrimitiveSorter sorts arrays of int, long and double values in place, so that
+ * keys such as ids and GPAs can be sorted without boxing them or building
+ * Students around them. The algorithm is chosen when the PrimitiveSorter is
+ * constructed:
+ * <ul>
+ * <li>INSERTION, O(n^2), for small or nearly sorted arrays;</li>
+ * <li>MERGE, a top-down merge sort with one auxiliary array;</li>
+ * <li>QUICK, an introspective quicksort with median-of-three pivots, three-way
+ * partitioning and a heap sort fallback;</li>
+ * <li>RADIX, a binary LSD radix sort on 8-bit digits that skips digit positions
+ * shared by every value.</li>
+ * </ul>
+ *
+ * Doubles are ordered as by {@link Double#compare(double, double)}: -0.0 sorts
+ * before 0.0 and NaN sorts after positive infinity. They are sorted by turning
+ * each value into a long whose signed order matches that ordering, sorting the
+ * longs with the chosen algorithm and turning them back.
+ *
+ * @author Will Greene
+ */
+public class PrimitiveSorter {
+
+	/** ranges of this size or smaller are finished with insertion sort by MERGE and QUICK */
+	private static final int INSERTION_SORT_THRESHOLD = 16;
+
+	/** number of bits per radix digit */
+	private static final int DIGIT_BITS = 8;
+
+	/** number of buckets per radix pass */
+	private static final int RADIX = 1 << DIGIT_BITS;
+
+	/**
+	 * The algorithms PrimitiveSorter can sort with.
+	 *
+	 * @author Will Greene
+	 */
+	public enum Algorithm {
+		/** insertion sort */
+		INSERTION,
+		/** merge sort */
+		MERGE,
+		/** introspective quicksort */
+		QUICK,
+		/** binary LSD radix sort */
+		RADIX
+	}
+
+	/** the algorithm to sort with */
+	private Algorithm algorithm;
+
+	/**
+	 * Constructs a PrimitiveSorter that sorts with the given algorithm.
+	 *
+	 * @param algorithm the algorithm to sort with
+	 * @throws IllegalArgumentException if algorithm is null
+	 */
+	public PrimitiveSorter( Algorithm algorithm ) {
+
+		if ( algorithm == null )
+			throw new IllegalArgumentException( "Algorithm cannot be null." );
+
+		this.algorithm = algorithm;
+	}
+
+	/**
+	 * Constructs a PrimitiveSorter that sorts with radix sort.
+	 */
+	public PrimitiveSorter() {
+		this( Algorithm.RADIX );
+	}
+
+	/**
+	 * Sorts an array of ints in ascending order.
+	 *
+	 * @param data array of values
+	 */
+	public void sort( int[] data ) {
+		sort( data, 0, data.length );
+	}
+
+	/**
+	 * Sorts the values of data in the index range [from, to) in ascending order.
+	 * Values outside of the range are left untouched.
+	 *
+	 * @param data array of values
+	 * @param from index of the first value to sort (inclusive)
+	 * @param to index of the last value to sort (exclusive)
+	 * @throws IndexOutOfBoundsException if the range is not within data
+	 */
+	public void sort( int[] data, int from, int to ) {
+
+		Objects.checkFromToIndex( from, to, data.length );
+
+		if ( to - from < 2 )
+			return;
+
+		switch ( algorithm ) {
+		case INSERTION:
+			insertionSort( data, from, to );
+			break;
+		case MERGE:
+			mergeSort( data, new int[ to - from ], from, from, to );
+			break;
+		case QUICK:
+			quickSort( data, from, to - 1, 2 * floorLog2( to - from ) );
+			break;
+		default:
+			radixSort( data, from, to );
+			break;
+		}
+	}
+
+	/**
+	 * Sorts an array of longs in ascending order.
+	 *
+	 * @param data array of values
+	 */
+	public void sort( long[] data ) {
+		sort( data, 0, data.length );
+	}
+
+	/**
+	 * Sorts the values of data in the index range [from, to) in ascending order.
+	 * Values outside of the range are left untouched.
+	 *
+	 * @param data array of values
+	 * @param from index of the first value to sort (inclusive)
+	 * @param to index of the last value to sort (exclusive)
+	 * @throws IndexOutOfBoundsException if the range is not within data
+	 */
+	public void sort( long[] data, int from, int to ) {
+
+		Objects.checkFromToIndex( from, to, data.length );
+
+		if ( to - from < 2 )
+			return;
+
+		switch ( algorithm ) {
+		case INSERTION:
+			insertionSort( data, from, to );
+			break;
+		case MERGE:
+			mergeSort( data, new long[ to - from ], from, from, to );
+			break;
+		case QUICK:
+			quickSort( data, from, to - 1, 2 * floorLog2( to - from ) );
+			break;
+		default:
+			radixSort( data, from, to );
+			break;
+		}
+	}
+
+	/**
+	 * Sorts an array of doubles in ascending order.
+	 *
+	 * @param data array of values
+	 */
+	public void sort( double[] data ) {
+		sort( data, 0, data.length );
+	}
+
+	/**
+	 * Sorts the values of data in the index range [from, to) in ascending order.
+	 * Values outside of the range are left untouched.
+	 *
+	 * @param data array of values
+	 * @param from index of the first value to sort (inclusive)
+	 * @param to index of the last value to sort (exclusive)
+	 * @throws IndexOutOfBoundsException if the range is not within data
+	 */
+	public void sort( double[] data, int from, int to ) {
+
+		Objects.checkFromToIndex( from, to, data.length );
+
+		int n = to - from;
+
+		if ( n < 2 )
+			return;
+
+		long[] keys = new long[ n ];
+
+		for ( int i = 0; i < n; i++ )
+			keys[ i ] = toKey( data[ from + i ] );
+
+		sort( keys, 0, n );
+
+		for ( int i = 0; i < n; i++ )
+			data[ from + i ] = fromKey( keys[ i ] );
+	}
+
+	/**
+	 * Returns a long whose signed order matches the order of value under
+	 * {@link Double#compare(double, double)}.
+	 *
+	 * @param value the value to convert
+	 * @return a key that sorts like value
+	 */
+	private static long toKey( double value ) {
+
+		long bits = Double.doubleToLongBits( value );
+
+		// Negative values have their magnitude bits flipped so larger magnitudes sort lower
+		return bits ^ ( ( bits >> 63 ) & Long.MAX_VALUE );
+	}
+
+	/**
+	 * Returns the double that {@link #toKey(double)} turned into key.
+	 *
+	 * @param key the key to convert
+	 * @return the value key was made from
+	 */
+	private static double fromKey( long key ) {
+		return Double.longBitsToDouble( key ^ ( ( key >> 63 ) & Long.MAX_VALUE ) );
+	}
+
+	/**
+	 * Returns floor(log2(n)) for a positive n.
+	 *
+	 * @param n the value
+	 * @return floor(log2(n))
+	 */
+	private static int floorLog2( int n ) {
+		return 31 - Integer.numberOfLeadingZeros( n );
+	}
+
+	/**
+	 * Sorts a in the index range [from, to) using insertion sort.
+	 *
+	 * @param a array of values
+	 * @param from index of the first value to sort (inclusive)
+	 * @param to index of the last value to sort (exclusive)
+	 */
+	private static void insertionSort( int[] a, int from, int to ) {
+
+		for ( int i = from + 1; i < to; i++ ) {
+
+			int x = a[ i ];
+			int j = i - 1;
+
+			while ( j >= from && a[ j ] > x ) {
+				a[ j + 1 ] = a[ j ];
+				j--;
+			}
+
+			a[ j + 1 ] = x;
+		}
+	}
+
+	/**
+	 * Sorts a in the index range [low, high) using merge sort.
+	 *
+	 * @param a array of values
+	 * @param aux auxiliary array as long as the range being sorted
+	 * @param base index of a that corresponds to index 0 of aux
+	 * @param low index of the first value to sort (inclusive)
+	 * @param high index of the last value to sort (exclusive)
+	 */
+	private static void mergeSort( int[] a, int[] aux, int base, int low, int high ) {
+
+		if ( high - low <= INSERTION_SORT_THRESHOLD ) {
+			insertionSort( a, low, high );
+			return;
+		}
+
+		int mid = ( low + high ) >>> 1;
+
+		mergeSort( a, aux, base, low, mid );
+		mergeSort( a, aux, base, mid, high );
+
+		// Halves are already in order
+		if ( a[ mid - 1 ] <= a[ mid ] )
+			return;
+
+		System.arraycopy( a, low, aux, low - base, mid - low );
+
+		int left = low - base;
+		int leftEnd = mid - base;
+		int right = mid;
+		int index = low;
+
+		while ( left < leftEnd && right < high )
+			a[ index++ ] = a[ right ] < aux[ left ] ? a[ right++ ] : aux[ left++ ];
+
+		while ( left < leftEnd )
+			a[ index++ ] = aux[ left++ ];
+	}
+
+	/**
+	 * Sorts a in the index range [low, high] using introspective quicksort.
+	 *
+	 * @param a array of values
+	 * @param low index of the first value to sort
+	 * @param high index of the last value to sort
+	 * @param depthLimit number of partitioning levels left before switching to heap sort
+	 */
+	private static void quickSort( int[] a, int low, int high, int depthLimit ) {
+
+		while ( high - low + 1 > INSERTION_SORT_THRESHOLD ) {
+
+			if ( depthLimit == 0 ) {
+				heapSort( a, low, high );
+				return;
+			}
+
+			depthLimit--;
+
+			int pivot = median( a[ low ], a[ ( low + high ) >>> 1 ], a[ high ] );
+
+			// Invariant: [low, lt) < pivot, [lt, i) == pivot, (gt, high] > pivot
+			int lt = low;
+			int i = low;
+			int gt = high;
+
+			while ( i <= gt ) {
+
+				int v = a[ i ];
+
+				if ( v < pivot ) {
+					a[ i++ ] = a[ lt ];
+					a[ lt++ ] = v;
+				} else if ( v > pivot ) {
+					a[ i ] = a[ gt ];
+					a[ gt-- ] = v;
+				} else {
+					i++;
+				}
+			}
+
+			if ( lt - low < high - gt ) {
+				quickSort( a, low, lt - 1, depthLimit );
+				low = gt + 1;
+			} else {
+				quickSort( a, gt + 1, high, depthLimit );
+				high = lt - 1;
+			}
+		}
+
+		insertionSort( a, low, high + 1 );
+	}
+
+	/**
+	 * Returns the median of three values.
+	 *
+	 * @param a first value
+	 * @param b second value
+	 * @param c third value
+	 * @return the median of a, b and c
+	 */
+	private static int median( int a, int b, int c ) {
+
+		if ( a < b )
+			return b < c ? b : ( a < c ? c : a );
+
+		return a < c ? a : ( b < c ? c : b );
+	}
+
+	/**
+	 * Sorts a in the index range [low, high] using heap sort.
+	 *
+	 * @param a array of values
+	 * @param low index of the first value to sort
+	 * @param high index of the last value to sort
+	 */
+	private static void heapSort( int[] a, int low, int high ) {
+
+		int size = high - low + 1;
+
+		for ( int i = size / 2 - 1; i >= 0; i-- )
+			siftDown( a, low, i, size );
+
+		for ( int end = size - 1; end > 0; end-- ) {
+			int temp = a[ low ];
+			a[ low ] = a[ low + end ];
+			a[ low + end ] = temp;
+			siftDown( a, low, 0, end );
+		}
+	}
+
+	/**
+	 * Restores the max-heap property for the heap stored in a starting at index
+	 * base, moving the value at heap position index down.
+	 *
+	 * @param a array of values
+	 * @param base index of the root of the heap
+	 * @param index heap position of the value to move down
+	 * @param size number of values in the heap
+	 */
+	private static void siftDown( int[] a, int base, int index, int size ) {
+
+		int value = a[ base + index ];
+		int child;
+
+		while ( ( child = 2 * index + 1 ) < size ) {
+
+			if ( child + 1 < size && a[ base + child + 1 ] > a[ base + child ] )
+				child++;
+
+			if ( a[ base + child ] <= value )
+				break;
+
+			a[ base + index ] = a[ base + child ];
+			index = child;
+		}
+
+		a[ base + index ] = value;
+	}
+
+	/**
+	 * Sorts a in the index range [from, to) using LSD radix sort on 8-bit digits
+	 * of the value with its sign bit flipped.
+	 *
+	 * @param a array of values
+	 * @param from index of the first value to sort (inclusive)
+	 * @param to index of the last value to sort (exclusive)
+	 */
+	private static void radixSort( int[] a, int from, int to ) {
+
+		int n = to - from;
+		int passes = Integer.SIZE / DIGIT_BITS;
+		int[][] b = new int[ passes ][ RADIX ];
+
+		for ( int i = from; i < to; i++ ) {
+
+			int key = a[ i ] ^ Integer.MIN_VALUE;
+
+			for ( int pass = 0; pass < passes; pass++ )
+				b[ pass ][ ( key >>> ( pass * DIGIT_BITS ) ) & ( RADIX - 1 ) ]++;
+		}
+
+		int firstKey = a[ from ] ^ Integer.MIN_VALUE;
+
+		// The buffer holds the range at index 0, the input at index from
+		int[] source = a;
+		int sourceBase = from;
+		int[] target = new int[ n ];
+		int targetBase = 0;
+
+		for ( int pass = 0; pass < passes; pass++ ) {
+
+			int shift = pass * DIGIT_BITS;
+			int[] count = b[ pass ];
+
+			// Every value has the same digit here, so this pass would not move anything
+			if ( count[ ( firstKey >>> shift ) & ( RADIX - 1 ) ] == n )
+				continue;
+
+			int offset = targetBase;
+
+			for ( int d = 0; d < RADIX; d++ ) {
+				int c = count[ d ];
+				count[ d ] = offset;
+				offset += c;
+			}
+
+			for ( int i = 0; i < n; i++ ) {
+				int v = source[ sourceBase + i ];
+				target[ count[ ( ( v ^ Integer.MIN_VALUE ) >>> shift ) & ( RADIX - 1 ) ]++ ] = v;
+			}
+
+			int[] temp = source;
+			source = target;
+			target = temp;
+
+			int tempBase = sourceBase;
+			sourceBase = targetBase;
+			targetBase = tempBase;
+		}
+
+		if ( source != a )
+			System.arraycopy( source, 0, a, from, n );
+	}
+
+	/**
+	 * Sorts a in the index range [from, to) using insertion sort.
+	 *
+	 * @param a array of values
+	 * @param from index of the first value to sort (inclusive)
+	 * @param to index of the last value to sort (exclusive)
+	 */
+	private static void insertionSort( long[] a, int from, int to ) {
+
+		for ( int i = from + 1; i < to; i++ ) {
+
+			long x = a[ i ];
+			int j = i - 1;
+
+			while ( j >= from && a[ j ] > x ) {
+				a[ j + 1 ] = a[ j ];
+				j--;
+			}
+
+			a[ j + 1 ] = x;
+		}
+	}
+
+	/**
+	 * Sorts a in the index range [low, high) using merge sort.
+	 *
+	 * @param a array of values
+	 * @param aux auxiliary array as long as the range being sorted
+	 * @param base index of a that corresponds to index 0 of aux
+	 * @param low index of the first value to sort (inclusive)
+	 * @param high index of the last value to sort (exclusive)
+	 */
+	private static void mergeSort( long[] a, long[] aux, int base, int low, int high ) {
+
+		if ( high - low <= INSERTION_SORT_THRESHOLD ) {
+			insertionSort( a, low, high );
+			return;
+		}
+
+		int mid = ( low + high ) >>> 1;
+
+		mergeSort( a, aux, base, low, mid );
+		mergeSort( a, aux, base, mid, high );
+
+		// Halves are already in order
+		if ( a[ mid - 1 ] <= a[ mid ] )
+			return;
+
+		System.arraycopy( a, low, aux, low - base, mid - low );
+
+		int left = low - base;
+		int leftEnd = mid - base;
+		int right = mid;
+		int index = low;
+
+		while ( left < leftEnd && right < high )
+			a[ index++ ] = a[ right ] < aux[ left ] ? a[ right++ ] : aux[ left++ ];
+
+		while ( left < leftEnd )
+			a[ index++ ] = aux[ left++ ];
+	}
+
+	/**
+	 * Sorts a in the index range [low, high] using introspective quicksort.
+	 *
+	 * @param a array of values
+	 * @param low index of the first value to sort
+	 * @param high index of the last value to sort
+	 * @param depthLimit number of partitioning levels left before switching to heap sort
+	 */
+	private static void quickSort( long[] a, int low, int high, int depthLimit ) {
+
+		while ( high - low + 1 > INSERTION_SORT_THRESHOLD ) {
+
+			if ( depthLimit == 0 ) {
+				heapSort( a, low, high );
+				return;
+			}
+
+			depthLimit--;
+
+			long pivot = median( a[ low ], a[ ( low + high ) >>> 1 ], a[ high ] );
+
+			// Invariant: [low, lt) < pivot, [lt, i) == pivot, (gt, high] > pivot
+			int lt = low;
+			int i = low;
+			int gt = high;
+
+			while ( i <= gt ) {
+
+				long v = a[ i ];
+
+				if ( v < pivot ) {
+					a[ i++ ] = a[ lt ];
+					a[ lt++ ] = v;
+				} else if ( v > pivot ) {
+					a[ i ] = a[ gt ];
+					a[ gt-- ] = v;
+				} else {
+					i++;
+				}
+			}
+
+			if ( lt - low < high - gt ) {
+				quickSort( a, low, lt - 1, depthLimit );
+				low = gt + 1;
+			} else {
+				quickSort( a, gt + 1, high, depthLimit );
+				high = lt - 1;
+			}
+		}
+
+		insertionSort( a, low, high + 1 );
+	}
+
+	/**
+	 * Returns the median of three values.
+	 *
+	 * @param a first value
+	 * @param b second value
+	 * @param c third value
+	 * @return the median of a, b and c
+	 */
+	private static long median( long a, long b, long c ) {
+
+		if ( a < b )
+			return b < c ? b : ( a < c ? c : a );
+
+		return a < c ? a : ( b < c ? c : b );
+	}
+
+	/**
+	 * Sorts a in the index range [low, high] using heap sort.
+	 *
+	 * @param a array of values
+	 * @param low index of the first value to sort
+	 * @param high index of the last value to sort
+	 */
+	private static void heapSort( long[] a, int low, int high ) {
+
+		int size = high - low + 1;
+
+		for ( int i = size / 2 - 1; i >= 0; i-- )
+			siftDown( a, low, i, size );
+
+		for ( int end = size - 1; end > 0; end-- ) {
+			long temp = a[ low ];
+			a[ low ] = a[ low + end ];
+			a[ low + end ] = temp;
+			siftDown( a, low, 0, end );
+		}
+	}
+
+	/**
+	 * Restores the max-heap property for the heap stored in a starting at index
+	 * base, moving the value at heap position index down.
+	 *
+	 * @param a array of values
+	 * @param base index of the root of the heap
+	 * @param index heap position of the value to move down
+	 * @param size number of values in the heap
+	 */
+	private static void siftDown( long[] a, int base, int index, int size ) {
+
+		long value = a[ base + index ];
+		int child;
+
+		while ( ( child = 2 * index + 1 ) < size ) {
+
+			if ( child + 1 < size && a[ base + child + 1 ] > a[ base + child ] )
+				child++;
+
+			if ( a[ base + child ] <= value )
+				break;
+
+			a[ base + index ] = a[ base + child ];
+			index = child;
+		}
+
+		a[ base + index ] = value;
+	}
+
+	/**
+	 * Sorts a in the index range [from, to) using LSD radix sort on 8-bit digits
+	 * of the value with its sign bit flipped.
+	 *
+	 * @param a array of values
+	 * @param from index of the first value to sort (inclusive)
+	 * @param to index of the last value to sort (exclusive)
+	 */
+	private static void radixSort( long[] a, int from, int to ) {
+
+		int n = to - from;
+		int passes = Long.SIZE / DIGIT_BITS;
+		int[][] b = new int[ passes ][ RADIX ];
+
+		for ( int i = from; i < to; i++ ) {
+
+			long key = a[ i ] ^ Long.MIN_VALUE;
+
+			for ( int pass = 0; pass < passes; pass++ )
+				b[ pass ][ ( int ) ( key >>> ( pass * DIGIT_BITS ) ) & ( RADIX - 1 ) ]++;
+		}
+
+		long firstKey = a[ from ] ^ Long.MIN_VALUE;
+
+		// The buffer holds the range at index 0, the input at index from
+		long[] source = a;
+		int sourceBase = from;
+		long[] target = new long[ n ];
+		int targetBase = 0;
+
+		for ( int pass = 0; pass < passes; pass++ ) {
+
+			int shift = pass * DIGIT_BITS;
+			int[] count = b[ pass ];
+
+			// Every value has the same digit here, so this pass would not move anything
+			if ( count[ ( int ) ( firstKey >>> shift ) & ( RADIX - 1 ) ] == n )
+				continue;
+
+			int offset = targetBase;
+
+			for ( int d = 0; d < RADIX; d++ ) {
+				int c = count[ d ];
+				count[ d ] = offset;
+				offset += c;
+			}
+
+			for ( int i = 0; i < n; i++ ) {
+				long v = source[ sourceBase + i ];
+				target[ count[ ( int ) ( ( v ^ Long.MIN_VALUE ) >>> shift ) & ( RADIX - 1 ) ]++ ] = v;
+			}
+
+			long[] temp = source;
+			source = target;
+			target = temp;
+
+			int tempBase = sourceBase;
+			sourceBase = targetBase;
+			targetBase = tempBase;
+		}
+
+		if ( source != a )
+			System.arraycopy( source, 0, a, from, n );
+	}
+}
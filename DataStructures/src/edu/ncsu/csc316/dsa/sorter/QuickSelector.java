@@ -0,0 +1,146 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+
+import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.list.List;
+import edu.ncsu.csc316.dsa.priority_queue.HeapPriorityQueue;
+
+/**
+ * QuickSelector answers order-statistic queries, such as finding the median or
+ * the first k elements in sorted order, without sorting the whole input.
+ *
+ * {@link #select(Comparable[], int)} uses introselect on top of the three-way
+ * partitioning of an introspective {@link QuickSorter}, which takes O(n)
+ * expected time. {@link #partialSort(Comparable[], int)} selects and then sorts
+ * only the first k elements, in O(n + klogk) expected time.
+ * {@link #topK(Iterable, int)} makes a single pass over its source while keeping
+ * the best k elements seen so far in a bounded heap, in O(nlogk) time and O(k)
+ * space, so the source does not have to be held in memory.
+ *
+ * "First" and "top" always mean first in the order given by the Comparator, or
+ * by the natural ordering when it is null.
+ *
+ * @author Will Greene
+ * @param <E> the type of elements to select from; elements must be {@link Comparable}
+ */
+public class QuickSelector<E extends Comparable<E>> {
+
+	/** sorter whose partitioning and ordering are used for selection */
+	private QuickSorter<E> sorter;
+
+	/**
+	 * Constructs a QuickSelector that orders elements with the given Comparator.
+	 *
+	 * @param comparator a custom comparator, or null to use the natural ordering
+	 */
+	public QuickSelector( Comparator<E> comparator ) {
+		this.sorter = new QuickSorter<E>( comparator, QuickSorter.NINTHER_SELECTOR, true );
+	}
+
+	/**
+	 * Constructs a QuickSelector that uses the natural ordering of elements.
+	 */
+	public QuickSelector() {
+		this( null );
+	}
+
+	/**
+	 * Rearranges data so that data[k] is the element that would be at index k if
+	 * data were sorted, no element before it is greater and no element after it
+	 * is smaller, and returns it.
+	 *
+	 * @param data array of elements
+	 * @param k zero-based rank of the element to select
+	 * @return the element of rank k
+	 * @throws IndexOutOfBoundsException if k is not a valid index of data
+	 */
+	public E select( E[] data, int k ) {
+
+		checkRank( k, data.length );
+
+		sorter.select( data, 0, data.length - 1, k );
+
+		return data[ k ];
+	}
+
+	/**
+	 * Rearranges data so that its first k elements are the k first elements in
+	 * sorted order, in sorted order. The order of the remaining elements is
+	 * unspecified.
+	 *
+	 * @param data array of elements
+	 * @param k the number of elements to sort, between 0 and data.length
+	 * @throws IndexOutOfBoundsException if k is negative or greater than data.length
+	 */
+	public void partialSort( E[] data, int k ) {
+
+		checkRank( k, data.length + 1 );
+
+		if ( k == 0 )
+			return;
+
+		if ( k < data.length )
+			sorter.select( data, 0, data.length - 1, k - 1 );
+
+		sorter.sort( data, 0, k );
+	}
+
+	/**
+	 * Returns the k first elements of source in sorted order, or all of them if
+	 * source has fewer than k elements. Elements that compare equal to the k-th
+	 * element may be chosen in any order.
+	 *
+	 * @param source the elements to select from
+	 * @param k the maximum number of elements to return
+	 * @return a list of the first k elements of source in sorted order
+	 * @throws IllegalArgumentException if k is negative
+	 */
+	public List<E> topK( Iterable<? extends E> source, int k ) {
+
+		if ( k < 0 )
+			throw new IllegalArgumentException( "k must not be negative: " + k );
+
+		// Reversed ordering keeps the worst element kept so far at the root
+		HeapPriorityQueue<E, E> heap = new HeapPriorityQueue<E, E>( ( a, b ) -> sorter.compare( b, a ) );
+
+		if ( k > 0 ) {
+
+			for ( E element : source ) {
+
+				if ( heap.size() < k ) {
+					heap.insert( element, element );
+				} else if ( sorter.compare( element, heap.min().getKey() ) < 0 ) {
+					heap.deleteMin();
+					heap.insert( element, element );
+				}
+			}
+		}
+
+		// The heap hands out the worst element first, so drain it back to front
+		@SuppressWarnings( "unchecked" )
+		E[] kept = ( E[] ) ( new Comparable<?>[ heap.size() ] );
+
+		for ( int i = kept.length - 1; i >= 0; i-- )
+			kept[ i ] = heap.deleteMin().getKey();
+
+		ArrayBasedList<E> top = new ArrayBasedList<E>( kept.length );
+
+		for ( E element : kept )
+			top.addLast( element );
+
+		return top;
+	}
+
+	/**
+	 * Checks that k is in the range [0, bound).
+	 *
+	 * @param k the rank to check
+	 * @param bound the smallest invalid rank
+	 * @throws IndexOutOfBoundsException if k is out of range
+	 */
+	private static void checkRank( int k, int bound ) {
+		if ( k < 0 || k >= bound )
+			throw new IndexOutOfBoundsException( "Rank is invalid: " + k + " (bound=" + bound + ")" );
+	}
+}
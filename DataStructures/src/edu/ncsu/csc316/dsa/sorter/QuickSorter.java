@@ -1,7 +1,8 @@
 package edu.ncsu.csc316.dsa.sorter;
 
 import java.util.Comparator;
-import java.util.Random;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * QuickSorter sorts arrays of comparable elements using the quicksort
@@ -13,6 +14,15 @@ import java.util.Random;
  * Using the randomized pivot selection strategy ensures O(nlogn)
  * expected/average case runtime when sorting n elements that are comparable
  * 
+ * QuickSorter also offers an introspective mode. In introspective mode, ranges
+ * are split three ways (less than, equal to and greater than the pivot) so
+ * duplicate keys are never partitioned again, the smaller side is sorted
+ * recursively and the larger side iteratively so the call stack stays
+ * O(logn) deep, small ranges are finished with insertion sort, and a range that
+ * is still being partitioned after 2 * floor(log2(n)) levels is finished with
+ * heap sort. Introspective mode therefore ensures O(nlogn) worst-case runtime
+ * with any pivot selection strategy.
+ * 
  * @author Dr. King
  * @author Will Greene
  *
@@ -43,11 +53,47 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
      * each time a pivot must be selected
      */
     public static final PivotSelector RANDOM_ELEMENT_SELECTOR = new RandomElementSelector();
+    
+    /**
+     * Pivot selection strategy that uses the median of the first, middle and last
+     * elements each time a pivot must be selected
+     */
+    public static final PivotSelector MEDIAN_OF_THREE_SELECTOR = new MedianOfThreeSelector();
+    
+    /**
+     * Pivot selection strategy that uses Tukey's ninther, the median of the
+     * medians of three evenly spaced groups of three elements, each time a pivot
+     * must be selected
+     */
+    public static final PivotSelector NINTHER_SELECTOR = new NintherSelector();
+    
+    /** ranges of this size or smaller are sorted with insertion sort in introspective mode */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
 
     /** client's PivotSelector type */
     private PivotSelector selector;
+    
+    /** true if the sorter runs in introspective mode */
+    private boolean introspective;
+    
+    /** sorter used for small ranges in introspective mode */
+    private InsertionSorter<E> insertionSorter;
 	
     /**
+     * Constructs a new QuickSorter with a provided custom Comparator, a specified
+     * PivotSelector strategy, and optionally in introspective mode
+     * 
+     * @param comparator    a custom comparator to use when sorting
+     * @param selector      the pivot selection strategy to use when selecting pivots
+     * @param introspective true to sort in introspective mode
+     */
+    public QuickSorter(Comparator<E> comparator, PivotSelector selector, boolean introspective) {
+        super(comparator);
+        setSelector(selector);
+        this.introspective = introspective;
+        this.insertionSorter = new InsertionSorter<E>(comparator);
+    }
+
     /**
      * Constructs a new QuickSorter with a provided custom Comparator and a
      * specified PivotSelector strategy
@@ -56,8 +102,7 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
      * @param selector   the pivot selection strategy to use when selecting pivots
      */
     public QuickSorter(Comparator<E> comparator, PivotSelector selector) {
-        super(comparator);
-        setSelector(selector);
+        this(comparator, selector, false);
     }
 
     /**
@@ -103,7 +148,26 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
 	 */
 	@Override
 	public void sort(E[] data) {
-		quickSort( data, 0, data.length - 1 );
+		sort( data, 0, data.length );
+	}
+	
+	/**
+	 * Sorts the elements of data in the index range [from, to) using quick sort.
+	 * Elements outside of the range are left untouched.
+	 * 
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	@Override
+	public void sort( E[] data, int from, int to ) {
+		
+		Objects.checkFromToIndex( from, to, data.length );
+		
+		if ( introspective )
+			introSort( data, from, to - 1, 2 * floorLog2( to - from ) );
+		else
+			quickSort( data, from, to - 1 );
 	}
 	
 	
@@ -120,7 +184,7 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
 	
 	private int partition( E[] data, int low, int high ) {
 		
-		int pivotIndex = selector.selectPivot( low, high );
+		int pivotIndex = selector.selectPivot( data, low, high, this );
 		
 		swap( data, pivotIndex, high );
 		
@@ -146,12 +210,214 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
 	}
 	
 	
+	/**
+	 * Sorts data in the index range [low, high] in introspective mode. Each
+	 * pass partitions the range three ways around the selected pivot, sorts the
+	 * smaller outer part recursively and continues with the larger one.
+	 * 
+	 * @param data array of elements
+	 * @param low index of the first element to sort
+	 * @param high index of the last element to sort
+	 * @param depthLimit number of partitioning levels left before switching to heap sort
+	 */
+	private void introSort( E[] data, int low, int high, int depthLimit ) {
+		
+		while ( high - low + 1 > INSERTION_SORT_THRESHOLD ) {
+			
+			if ( depthLimit == 0 ) {
+				heapSort( data, low, high );
+				return;
+			}
+			
+			depthLimit--;
+			
+			long bounds = partitionThreeWay( data, low, high );
+			int lt = ( int ) ( bounds >>> 32 );
+			int gt = ( int ) bounds;
+			
+			if ( lt - low < high - gt ) {
+				introSort( data, low, lt - 1, depthLimit );
+				low = gt + 1;
+			} else {
+				introSort( data, gt + 1, high, depthLimit );
+				high = lt - 1;
+			}
+		}
+		
+		insertionSorter.sort( data, low, high + 1 );
+	}
+	
+	/**
+	 * Rearranges data in the index range [low, high] so that the element at
+	 * index k is the one that would be there if the range were sorted, with no
+	 * greater element before it and no smaller element after it. Uses introselect:
+	 * the range is partitioned three ways as in introspective mode, only the part
+	 * holding k is kept, and a range that is still being partitioned after
+	 * 2 * floor(log2(n)) levels is finished with heap sort. This takes O(n)
+	 * expected time and O(nlogn) worst-case time.
+	 * 
+	 * @param data array of elements
+	 * @param low index of the first element to consider
+	 * @param high index of the last element to consider
+	 * @param k index of the element to place, between low and high
+	 */
+	void select( E[] data, int low, int high, int k ) {
+		
+		int depthLimit = 2 * floorLog2( high - low + 1 );
+		
+		while ( high - low + 1 > INSERTION_SORT_THRESHOLD ) {
+			
+			if ( depthLimit == 0 ) {
+				heapSort( data, low, high );
+				return;
+			}
+			
+			depthLimit--;
+			
+			long bounds = partitionThreeWay( data, low, high );
+			int lt = ( int ) ( bounds >>> 32 );
+			int gt = ( int ) bounds;
+			
+			if ( k < lt )
+				high = lt - 1;
+			else if ( k > gt )
+				low = gt + 1;
+			else
+				return;
+		}
+		
+		insertionSorter.sort( data, low, high + 1 );
+	}
+	
+	/**
+	 * Partitions data in the index range [low, high] three ways around the
+	 * selected pivot: elements less than the pivot, then elements equal to it,
+	 * then elements greater than it.
+	 * 
+	 * @param data array of elements
+	 * @param low index of the first element to partition
+	 * @param high index of the last element to partition
+	 * @return the index of the first element equal to the pivot in the high 32
+	 *         bits and the index of the last one in the low 32 bits
+	 */
+	private long partitionThreeWay( E[] data, int low, int high ) {
+		
+		E pivot = data[ selector.selectPivot( data, low, high, this ) ];
+		
+		// Invariant: [low, lt) < pivot, [lt, i) == pivot, (gt, high] > pivot
+		int lt = low;
+		int i = low;
+		int gt = high;
+		
+		while ( i <= gt ) {
+			
+			int c = compare( data[ i ], pivot );
+			
+			if ( c < 0 )
+				swap( data, lt++, i++ );
+			else if ( c > 0 )
+				swap( data, i, gt-- );
+			else
+				i++;
+		}
+		
+		return ( ( long ) lt << 32 ) | ( gt & 0xFFFFFFFFL );
+	}
+	
+	/**
+	 * Sorts data in the index range [low, high] using heap sort.
+	 * 
+	 * @param data array of elements
+	 * @param low index of the first element to sort
+	 * @param high index of the last element to sort
+	 */
+	private void heapSort( E[] data, int low, int high ) {
+		
+		int size = high - low + 1;
+		
+		for ( int i = size / 2 - 1; i >= 0; i-- )
+			siftDown( data, low, i, size );
+		
+		for ( int end = size - 1; end > 0; end-- ) {
+			swap( data, low, low + end );
+			siftDown( data, low, 0, end );
+		}
+	}
+	
+	/**
+	 * Restores the max-heap property for the heap stored in data starting at
+	 * index base, moving the element at heap position index down.
+	 * 
+	 * @param data array of elements
+	 * @param base index of the root of the heap
+	 * @param index heap position of the element to move down
+	 * @param size number of elements in the heap
+	 */
+	private void siftDown( E[] data, int base, int index, int size ) {
+		
+		E element = data[ base + index ];
+		int child;
+		
+		while ( ( child = 2 * index + 1 ) < size ) {
+			
+			if ( child + 1 < size && compare( data[ base + child + 1 ], data[ base + child ] ) > 0 )
+				child++;
+			
+			if ( compare( data[ base + child ], element ) <= 0 )
+				break;
+			
+			data[ base + index ] = data[ base + child ];
+			index = child;
+		}
+		
+		data[ base + index ] = element;
+	}
+	
+	/**
+	 * Returns floor(log2(n)) for a positive n, or 0 if n is 0.
+	 * 
+	 * @param n the value
+	 * @return floor(log2(n))
+	 */
+	private static int floorLog2( int n ) {
+		return n == 0 ? 0 : 31 - Integer.numberOfLeadingZeros( n );
+	}
+	
 	private void swap( E[] data, int one, int two ) {
 		E temp = data[ one ];
 		data[ one ] = data[ two ];
 		data[ two ] = temp;
 	}
 	
+	/**
+	 * Returns whichever of the indices a, b and c holds the median of the three
+	 * elements.
+	 * 
+	 * @param <E> the type of elements being sorted
+	 * @param data array of elements
+	 * @param a first index
+	 * @param b second index
+	 * @param c third index
+	 * @param sorter sorter whose ordering to use
+	 * @return the index of the median element
+	 */
+	private static <E extends Comparable<E>> int medianOfThree( E[] data, int a, int b, int c,
+			AbstractComparisonSorter<E> sorter ) {
+		
+		if ( sorter.compare( data[ a ], data[ b ] ) < 0 ) {
+			
+			if ( sorter.compare( data[ b ], data[ c ] ) < 0 )
+				return b;
+			
+			return sorter.compare( data[ a ], data[ c ] ) < 0 ? c : a;
+		}
+		
+		if ( sorter.compare( data[ a ], data[ c ] ) < 0 )
+			return a;
+		
+		return sorter.compare( data[ b ], data[ c ] ) < 0 ? c : b;
+	}
+	
     /**
      * Defines the behaviors of a PivotSelector
      * 
@@ -168,6 +434,23 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
          * @return the index of the selected pivot element
          */
         int selectPivot(int low, int high);
+        
+        /**
+         * Returns the index of the selected pivot element, given access to the
+         * elements in the range. Strategies that only look at indices use
+         * {@link #selectPivot(int, int)}.
+         * 
+         * @param <E>    the type of elements being sorted
+         * @param data   - the array being sorted
+         * @param low    - the lowest index to consider
+         * @param high   - the highest index to consider
+         * @param sorter - the sorter whose ordering to use when comparing elements
+         * @return the index of the selected pivot element
+         */
+        default <E extends Comparable<E>> int selectPivot(E[] data, int low, int high,
+                AbstractComparisonSorter<E> sorter) {
+            return selectPivot(low, high);
+        }
     }
     
     /**
@@ -234,8 +517,69 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
     	
         @Override
         public int selectPivot(int low, int high) {
-        	Random rand = new Random();
-        	return rand.nextInt( high - low + 1 ) + low;
+        	return ThreadLocalRandom.current().nextInt( low, high + 1 );
+        }
+    }
+    
+    /**
+     * MedianOfThreeSelector chooses the index of the median of the first, middle
+     * and last elements of the range as the index of the pivot element that should
+     * be used when sorting. Without access to the elements it falls back to the
+     * middle index.
+     * 
+     * @author Will Greene
+     *
+     */
+    public static class MedianOfThreeSelector implements PivotSelector {
+
+        @Override
+        public int selectPivot(int low, int high) {
+            return ( low + high ) >>> 1;
+        }
+        
+        @Override
+        public <E extends Comparable<E>> int selectPivot(E[] data, int low, int high,
+                AbstractComparisonSorter<E> sorter) {
+            return medianOfThree( data, low, ( low + high ) >>> 1, high, sorter );
+        }
+    }
+    
+    /**
+     * NintherSelector chooses the index of Tukey's ninther, the median of the
+     * medians of three evenly spaced groups of three elements, as the index of the
+     * pivot element that should be used when sorting. Small ranges use the median
+     * of three instead. Without access to the elements it falls back to the middle
+     * index.
+     * 
+     * @author Will Greene
+     *
+     */
+    public static class NintherSelector implements PivotSelector {
+    	
+    	/** ranges smaller than this use the median of three */
+    	private static final int NINTHER_THRESHOLD = 40;
+
+        @Override
+        public int selectPivot(int low, int high) {
+            return ( low + high ) >>> 1;
+        }
+        
+        @Override
+        public <E extends Comparable<E>> int selectPivot(E[] data, int low, int high,
+                AbstractComparisonSorter<E> sorter) {
+        	
+        	int mid = ( low + high ) >>> 1;
+        	
+        	if ( high - low + 1 < NINTHER_THRESHOLD )
+        		return medianOfThree( data, low, mid, high, sorter );
+        	
+        	int step = ( high - low + 1 ) / 8;
+        	
+        	int first = medianOfThree( data, low, low + step, low + 2 * step, sorter );
+        	int middle = medianOfThree( data, mid - step, mid, mid + step, sorter );
+        	int last = medianOfThree( data, high - 2 * step, high - step, high, sorter );
+        	
+            return medianOfThree( data, first, middle, last, sorter );
         }
     }
 }
@@ -1,15 +1,51 @@
 package edu.ncsu.csc316.dsa.sorter;
 
+import java.util.Objects;
+
 import edu.ncsu.csc316.dsa.data.Identifiable;
 
 /**
  * RadixSorter uses the radix sort algorithm to sort data. // added a period + blank line
  * 
+ * By default the ids are sorted one decimal digit at a time, which requires
+ * non-negative ids. A RadixSorter constructed with a digit width instead sorts
+ * on binary digits of that many bits taken from the id with its sign bit
+ * flipped, so negative ids and the full 32-bit range are ordered correctly. In
+ * binary mode a single histogram pass counts every digit position up front,
+ * positions where all ids share the same digit are skipped, and the passes
+ * alternate between the input array and one buffer of the same length.
+ * 
  * @author Dr. King
  * @author Will Greene
  * @param <E> the generic type of data to sort
  */
 public class RadixSorter<E extends Identifiable> implements Sorter<E> {
+	
+	/** number of bits per digit in binary mode, or 0 to sort on decimal digits */
+	private int digitBits;
+	
+	/**
+	 * Constructs a RadixSorter that sorts on binary digits of the given width.
+	 * Widths of 8 or 11 bits are typical: 8-bit digits sort any id in at most
+	 * four passes with 256 buckets, 11-bit digits in three passes with 2048.
+	 * 
+	 * @param digitBits number of bits per digit, from 1 to 16
+	 * @throws IllegalArgumentException if digitBits is not between 1 and 16
+	 */
+	public RadixSorter( int digitBits ) {
+		
+		if ( digitBits < 1 || digitBits > 16 )
+			throw new IllegalArgumentException( "Digit width must be between 1 and 16 bits." );
+		
+		this.digitBits = digitBits;
+	}
+	
+	/**
+	 * Constructs a RadixSorter that sorts on decimal digits.
+	 */
+	public RadixSorter() {
+		this.digitBits = 0;
+	}
 		
 	/**
 	 * Sorts an array of elements using radix sort.
@@ -18,10 +54,41 @@ public class RadixSorter<E extends Identifiable> implements Sorter<E> {
 	 */
 	@Override
 	public void sort( E data[] ) {
+		sort( data, 0, data.length );
+	}
+	
+	/**
+	 * Sorts the elements of data in the index range [from, to) using radix sort.
+	 * 
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	@Override
+	public void sort( E data[], int from, int to ) {
 		
+		Objects.checkFromToIndex( from, to, data.length );
+		
+		if ( digitBits > 0 )
+			binarySort( data, from, to );
+		else
+			decimalSort( data, from, to );
+	}
+	
+	/**
+	 * Sorts the elements of data in the index range [from, to), which must have
+	 * non-negative ids, on decimal digits.
+	 * 
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	private void decimalSort( E data[], int from, int to ) {
+		
+		int n = to - from;
 		int max = 0;
 		
-		for ( int i = 0; i < data.length; i++ ) {
+		for ( int i = from; i < to; i++ ) {
 			
 			if ( data[ i ].getId() > max )
 				max = data[ i ].getId();
@@ -34,25 +101,100 @@ public class RadixSorter<E extends Identifiable> implements Sorter<E> {
 			
 			int[] b = new int[ 10 ];
 			
-			for ( int i = 0; i < data.length; i++ )
+			for ( int i = from; i < to; i++ )
 				b[ ( data[ i ].getId() / p ) % 10 ]++;
 			
 			for ( int i = 1; i <= 9; i++ )
 				b[ i ] += b[ i - 1 ];
 			
 			@SuppressWarnings( "unchecked" )
-			E[] f = ( E[] ) ( new Identifiable[ data.length ] );
+			E[] f = ( E[] ) ( new Identifiable[ n ] );
 			
-			for ( int i = data.length - 1; i >= 0; i-- ) {
+			for ( int i = to - 1; i >= from; i-- ) {
 				
 				f[ b[ ( data[ i ].getId() / p ) % 10 ] - 1 ] = data[ i ];
 				b[ ( data[ i ].getId() / p ) % 10 ]--;
 			}
 			
-			for ( int i = 0; i < data.length; i++ )
-				data[ i ] = f[ i ];
+			for ( int i = 0; i < n; i++ )
+				data[ from + i ] = f[ i ];
 			
 			p *= 10;
 		}
 	}
+	
+	/**
+	 * Sorts the elements of data in the index range [from, to) on binary digits
+	 * of the sign-flipped id.
+	 * 
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	private void binarySort( E data[], int from, int to ) {
+		
+		int n = to - from;
+		
+		if ( n < 2 )
+			return;
+		
+		int radix = 1 << digitBits;
+		int mask = radix - 1;
+		int passes = ( Integer.SIZE + digitBits - 1 ) / digitBits;
+		
+		// Histogram every digit position in a single pass over the ids
+		int[][] b = new int[ passes ][ radix ];
+		
+		for ( int i = from; i < to; i++ ) {
+			
+			int key = data[ i ].getId() ^ Integer.MIN_VALUE;
+			
+			for ( int pass = 0; pass < passes; pass++ )
+				b[ pass ][ ( key >>> ( pass * digitBits ) ) & mask ]++;
+		}
+		
+		int firstKey = data[ from ].getId() ^ Integer.MIN_VALUE;
+		
+		// The buffer holds the range at index 0, the input at index from
+		E[] source = data;
+		int sourceBase = from;
+		@SuppressWarnings( "unchecked" )
+		E[] target = ( E[] ) ( new Identifiable[ n ] );
+		int targetBase = 0;
+		
+		for ( int pass = 0; pass < passes; pass++ ) {
+			
+			int shift = pass * digitBits;
+			int[] count = b[ pass ];
+			
+			// Every id has the same digit here, so this pass would not move anything
+			if ( count[ ( firstKey >>> shift ) & mask ] == n )
+				continue;
+			
+			// Turn counts into starting offsets
+			int offset = 0;
+			
+			for ( int d = 0; d < radix; d++ ) {
+				int c = count[ d ];
+				count[ d ] = offset;
+				offset += c;
+			}
+			
+			for ( int i = 0; i < n; i++ ) {
+				E e = source[ sourceBase + i ];
+				target[ targetBase + count[ ( ( e.getId() ^ Integer.MIN_VALUE ) >>> shift ) & mask ]++ ] = e;
+			}
+			
+			E[] temp = source;
+			source = target;
+			target = temp;
+			
+			int tempBase = sourceBase;
+			sourceBase = targetBase;
+			targetBase = tempBase;
+		}
+		
+		if ( source != data )
+			System.arraycopy( source, 0, data, from, n );
+	}
 }
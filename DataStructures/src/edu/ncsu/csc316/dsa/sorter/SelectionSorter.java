@@ -1,6 +1,7 @@
 package edu.ncsu.csc316.dsa.sorter;
 
 import java.util.Comparator;
+import java.util.Objects;
 
 /**
  * SelectionSorter uses the selection sort algorithm to sort data. // added a period + blank line
@@ -34,12 +35,27 @@ public class SelectionSorter<E extends Comparable<E>> extends AbstractComparison
      */
     @Override
     public void sort( E[] data ) {
+    	sort( data, 0, data.length );
+    }
+    
+    /**
+     * Sorts the elements of data in the index range [from, to) using selection
+     * sort.
+     * 
+     * @param data array of elements
+     * @param from index of the first element to sort (inclusive)
+     * @param to index of the last element to sort (exclusive)
+     */
+    @Override
+    public void sort( E[] data, int from, int to ) {
+    	
+    	Objects.checkFromToIndex( from, to, data.length );
     	
-    	for ( int i = 0; i < data.length; i++ ) {
+    	for ( int i = from; i < to; i++ ) {
     		
     		int min = i;
     		
-    		for ( int j = i + 1; j < data.length; j++ ) {
+    		for ( int j = i + 1; j < to; j++ ) {
     			
     			if ( compare( data[ j ], data[ min ] ) < 0 )
     				min = j;
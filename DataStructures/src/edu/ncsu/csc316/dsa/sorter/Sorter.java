@@ -15,4 +15,15 @@ public interface Sorter<E> {
 	 * @param data array of elements
 	 */
 	public void sort( E[] data );
+	
+	/**
+	 * Sorts the elements of data in the index range [from, to). Elements outside
+	 * of the range are left untouched.
+	 * 
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 * @throws IndexOutOfBoundsException if the range is not within data
+	 */
+	public void sort( E[] data, int from, int to );
 }
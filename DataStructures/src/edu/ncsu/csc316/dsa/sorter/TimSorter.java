@@ -0,0 +1,774 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * TimSorter sorts arrays of comparable elements using an adaptive, run-based
+ * merge sort in the style of TimSort. The array is scanned for runs that are
+ * already ascending or strictly descending; descending runs are reversed in
+ * place, short runs are extended with binary insertion sort, and runs are then
+ * merged with galloping so that long stretches taken from one run cost only
+ * O(logn) comparisons.
+ *
+ * Presorted or reverse-sorted input is sorted with n - 1 comparisons, nearly
+ * sorted input in close to linear time, and any input in O(nlogn) worst-case
+ * time. This implementation is stable.
+ *
+ * @author Will Greene
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class TimSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/** arrays shorter than this are sorted with binary insertion sort alone */
+	private static final int MIN_MERGE = 32;
+
+	/** number of consecutive wins by one run before a merge switches to galloping */
+	private static final int MIN_GALLOP = 7;
+
+	/** maximum number of pending runs; enough for any array of length Integer.MAX_VALUE */
+	private static final int MAX_PENDING_RUNS = 49;
+
+	/**
+	 * Constructs a new TimSorter with a specified custom Comparator.
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 */
+	public TimSorter( Comparator<E> comparator ) {
+		super( comparator );
+	}
+
+	/**
+	 * Constructs a new TimSorter with comparisons based on the element's natural
+	 * ordering.
+	 */
+	public TimSorter() {
+		this( null );
+	}
+
+	/**
+	 * Sorts an array of elements using run-based merge sort.
+	 *
+	 * @param data array of elements
+	 */
+	@Override
+	public void sort( E[] data ) {
+		timSort( data, 0, data.length );
+	}
+
+	/**
+	 * Sorts the elements of data in the index range [from, to) using run-based
+	 * merge sort.
+	 *
+	 * @param data array of elements
+	 * @param from index of the first element to sort (inclusive)
+	 * @param to index of the last element to sort (exclusive)
+	 */
+	@Override
+	public void sort( E[] data, int from, int to ) {
+		Objects.checkFromToIndex( from, to, data.length );
+		timSort( data, from, to );
+	}
+
+	/**
+	 * Sorts data in the index range [low, high).
+	 *
+	 * @param data array of elements
+	 * @param low index of the first element to sort (inclusive)
+	 * @param high index of the last element to sort (exclusive)
+	 */
+	private void timSort( E[] data, int low, int high ) {
+
+		int remaining = high - low;
+
+		if ( remaining < 2 )
+			return;
+
+		if ( remaining < MIN_MERGE ) {
+			int runLength = countRunAndMakeAscending( data, low, high );
+			binaryInsertionSort( data, low, high, low + runLength );
+			return;
+		}
+
+		MergeState state = new MergeState( data );
+		int minRun = minRunLength( remaining );
+
+		do {
+			int runLength = countRunAndMakeAscending( data, low, high );
+
+			// Extend short runs to minRun elements
+			if ( runLength < minRun ) {
+				int forced = Math.min( remaining, minRun );
+				binaryInsertionSort( data, low, low + forced, low + runLength );
+				runLength = forced;
+			}
+
+			state.pushRun( low, runLength );
+			state.mergeCollapse();
+
+			low += runLength;
+			remaining -= runLength;
+
+		} while ( remaining != 0 );
+
+		state.mergeForceCollapse();
+	}
+
+	/**
+	 * Returns the length of the run beginning at index low. A run is either
+	 * ascending (each element no less than the one before it) or strictly
+	 * descending; strictly descending runs are reversed so that every run
+	 * returned is ascending. Requiring descending runs to be strict keeps the
+	 * reversal from breaking stability.
+	 *
+	 * @param data array of elements
+	 * @param low index of the first element of the run
+	 * @param high index one past the last element that may belong to the run
+	 * @return the length of the run beginning at low
+	 */
+	private int countRunAndMakeAscending( E[] data, int low, int high ) {
+
+		int runHigh = low + 1;
+
+		if ( runHigh == high )
+			return 1;
+
+		if ( compare( data[ runHigh++ ], data[ low ] ) < 0 ) {
+
+			while ( runHigh < high && compare( data[ runHigh ], data[ runHigh - 1 ] ) < 0 )
+				runHigh++;
+
+			reverseRange( data, low, runHigh );
+
+		} else {
+
+			while ( runHigh < high && compare( data[ runHigh ], data[ runHigh - 1 ] ) >= 0 )
+				runHigh++;
+		}
+
+		return runHigh - low;
+	}
+
+	/**
+	 * Reverses data in the index range [low, high).
+	 *
+	 * @param data array of elements
+	 * @param low index of the first element to reverse (inclusive)
+	 * @param high index of the last element to reverse (exclusive)
+	 */
+	private void reverseRange( E[] data, int low, int high ) {
+
+		high--;
+
+		while ( low < high ) {
+			E temp = data[ low ];
+			data[ low++ ] = data[ high ];
+			data[ high-- ] = temp;
+		}
+	}
+
+	/**
+	 * Sorts data in the index range [low, high) using binary insertion sort,
+	 * given that [low, start) is already sorted.
+	 *
+	 * @param data array of elements
+	 * @param low index of the first element to sort (inclusive)
+	 * @param high index of the last element to sort (exclusive)
+	 * @param start index of the first element not known to be sorted
+	 */
+	private void binaryInsertionSort( E[] data, int low, int high, int start ) {
+
+		if ( start == low )
+			start++;
+
+		for ( ; start < high; start++ ) {
+
+			E pivot = data[ start ];
+			int left = low;
+			int right = start;
+
+			// Insert after any equal elements to keep the sort stable
+			while ( left < right ) {
+				int mid = ( left + right ) >>> 1;
+
+				if ( compare( pivot, data[ mid ] ) < 0 )
+					right = mid;
+				else
+					left = mid + 1;
+			}
+
+			System.arraycopy( data, left, data, left + 1, start - left );
+			data[ left ] = pivot;
+		}
+	}
+
+	/**
+	 * Returns the minimum run length for an array of length n. The result lies
+	 * in [MIN_MERGE / 2, MIN_MERGE] and is chosen so that n / minRun is a power
+	 * of two or slightly less than one, which keeps the final merges balanced.
+	 *
+	 * @param n the number of elements to sort
+	 * @return the minimum run length
+	 */
+	private static int minRunLength( int n ) {
+
+		int r = 0;
+
+		while ( n >= MIN_MERGE ) {
+			r |= n & 1;
+			n >>= 1;
+		}
+
+		return n + r;
+	}
+
+	/**
+	 * Returns the index at which key should be inserted into the sorted range
+	 * [base, base + length) of data, before any elements equal to key. The
+	 * search gallops outward from base + hint before finishing with a binary
+	 * search, so it is fastest when the answer is near the hint.
+	 *
+	 * @param key the element whose insertion point to find
+	 * @param data array containing the sorted range
+	 * @param base index of the first element of the range
+	 * @param length the length of the range
+	 * @param hint offset from base at which to begin the search
+	 * @return the number of elements in the range that are less than key
+	 */
+	private int gallopLeft( E key, E[] data, int base, int length, int hint ) {
+
+		int lastOffset = 0;
+		int offset = 1;
+
+		if ( compare( key, data[ base + hint ] ) > 0 ) {
+
+			// Gallop right until data[base + hint + lastOffset] < key <= data[base + hint + offset]
+			int maxOffset = length - hint;
+
+			while ( offset < maxOffset && compare( key, data[ base + hint + offset ] ) > 0 ) {
+				lastOffset = offset;
+				offset = ( offset << 1 ) + 1;
+
+				if ( offset <= 0 )
+					offset = maxOffset;
+			}
+
+			if ( offset > maxOffset )
+				offset = maxOffset;
+
+			lastOffset += hint;
+			offset += hint;
+
+		} else {
+
+			// Gallop left until data[base + hint - offset] < key <= data[base + hint - lastOffset]
+			int maxOffset = hint + 1;
+
+			while ( offset < maxOffset && compare( key, data[ base + hint - offset ] ) <= 0 ) {
+				lastOffset = offset;
+				offset = ( offset << 1 ) + 1;
+
+				if ( offset <= 0 )
+					offset = maxOffset;
+			}
+
+			if ( offset > maxOffset )
+				offset = maxOffset;
+
+			int temp = lastOffset;
+			lastOffset = hint - offset;
+			offset = hint - temp;
+		}
+
+		lastOffset++;
+
+		while ( lastOffset < offset ) {
+			int mid = lastOffset + ( ( offset - lastOffset ) >>> 1 );
+
+			if ( compare( key, data[ base + mid ] ) > 0 )
+				lastOffset = mid + 1;
+			else
+				offset = mid;
+		}
+
+		return offset;
+	}
+
+	/**
+	 * Returns the index at which key should be inserted into the sorted range
+	 * [base, base + length) of data, after any elements equal to key. Otherwise
+	 * identical to gallopLeft.
+	 *
+	 * @param key the element whose insertion point to find
+	 * @param data array containing the sorted range
+	 * @param base index of the first element of the range
+	 * @param length the length of the range
+	 * @param hint offset from base at which to begin the search
+	 * @return the number of elements in the range that are less than or equal to key
+	 */
+	private int gallopRight( E key, E[] data, int base, int length, int hint ) {
+
+		int lastOffset = 0;
+		int offset = 1;
+
+		if ( compare( key, data[ base + hint ] ) < 0 ) {
+
+			// Gallop left until data[base + hint - offset] <= key < data[base + hint - lastOffset]
+			int maxOffset = hint + 1;
+
+			while ( offset < maxOffset && compare( key, data[ base + hint - offset ] ) < 0 ) {
+				lastOffset = offset;
+				offset = ( offset << 1 ) + 1;
+
+				if ( offset <= 0 )
+					offset = maxOffset;
+			}
+
+			if ( offset > maxOffset )
+				offset = maxOffset;
+
+			int temp = lastOffset;
+			lastOffset = hint - offset;
+			offset = hint - temp;
+
+		} else {
+
+			// Gallop right until data[base + hint + lastOffset] <= key < data[base + hint + offset]
+			int maxOffset = length - hint;
+
+			while ( offset < maxOffset && compare( key, data[ base + hint + offset ] ) >= 0 ) {
+				lastOffset = offset;
+				offset = ( offset << 1 ) + 1;
+
+				if ( offset <= 0 )
+					offset = maxOffset;
+			}
+
+			if ( offset > maxOffset )
+				offset = maxOffset;
+
+			lastOffset += hint;
+			offset += hint;
+		}
+
+		lastOffset++;
+
+		while ( lastOffset < offset ) {
+			int mid = lastOffset + ( ( offset - lastOffset ) >>> 1 );
+
+			if ( compare( key, data[ base + mid ] ) < 0 )
+				offset = mid;
+			else
+				lastOffset = mid + 1;
+		}
+
+		return offset;
+	}
+
+	/**
+	 * MergeState holds the stack of pending runs and the merge buffer for a
+	 * single call to sort.
+	 *
+	 * @author Will Greene
+	 */
+	private class MergeState {
+
+		/** array being sorted */
+		private final E[] data;
+
+		/** merge buffer, grown on demand */
+		private E[] buffer;
+
+		/** starting index of each pending run */
+		private final int[] runBase;
+
+		/** length of each pending run */
+		private final int[] runLength;
+
+		/** number of pending runs */
+		private int stackSize;
+
+		/** current threshold for entering galloping mode; adapts to the data */
+		private int minGallop;
+
+		/**
+		 * Constructs a MergeState for sorting data.
+		 *
+		 * @param data array being sorted
+		 */
+		MergeState( E[] data ) {
+			@SuppressWarnings( "unchecked" )
+			E[] initial = ( E[] ) ( new Comparable<?>[ Math.min( data.length >>> 1, 256 ) ] );
+
+			this.data = data;
+			this.buffer = initial;
+			this.runBase = new int[ MAX_PENDING_RUNS ];
+			this.runLength = new int[ MAX_PENDING_RUNS ];
+			this.stackSize = 0;
+			this.minGallop = MIN_GALLOP;
+		}
+
+		/**
+		 * Pushes a run onto the pending-run stack.
+		 *
+		 * @param base index of the first element of the run
+		 * @param length length of the run
+		 */
+		void pushRun( int base, int length ) {
+			runBase[ stackSize ] = base;
+			runLength[ stackSize ] = length;
+			stackSize++;
+		}
+
+		/**
+		 * Merges pending runs until the stack invariants hold again:
+		 * runLength[i - 2] > runLength[i - 1] + runLength[i] and
+		 * runLength[i - 1] > runLength[i] for the top runs. Keeping run
+		 * lengths growing at least as fast as the Fibonacci numbers bounds
+		 * the stack depth and keeps merges balanced.
+		 */
+		void mergeCollapse() {
+
+			while ( stackSize > 1 ) {
+
+				int n = stackSize - 2;
+
+				if ( ( n > 0 && runLength[ n - 1 ] <= runLength[ n ] + runLength[ n + 1 ] )
+						|| ( n > 1 && runLength[ n - 2 ] <= runLength[ n ] + runLength[ n - 1 ] ) ) {
+
+					if ( runLength[ n - 1 ] < runLength[ n + 1 ] )
+						n--;
+
+				} else if ( runLength[ n ] > runLength[ n + 1 ] ) {
+					break;
+				}
+
+				mergeAt( n );
+			}
+		}
+
+		/**
+		 * Merges all pending runs into one. Called once after the last run has
+		 * been pushed.
+		 */
+		void mergeForceCollapse() {
+
+			while ( stackSize > 1 ) {
+
+				int n = stackSize - 2;
+
+				if ( n > 0 && runLength[ n - 1 ] < runLength[ n + 1 ] )
+					n--;
+
+				mergeAt( n );
+			}
+		}
+
+		/**
+		 * Merges the two pending runs at stack indices i and i + 1. Elements of
+		 * the first run that are already in place, and elements of the second run
+		 * that are already in place, are skipped before the merge begins.
+		 *
+		 * @param i stack index of the first of the two runs
+		 */
+		private void mergeAt( int i ) {
+
+			int base1 = runBase[ i ];
+			int length1 = runLength[ i ];
+			int base2 = runBase[ i + 1 ];
+			int length2 = runLength[ i + 1 ];
+
+			runLength[ i ] = length1 + length2;
+
+			if ( i == stackSize - 3 ) {
+				runBase[ i + 1 ] = runBase[ i + 2 ];
+				runLength[ i + 1 ] = runLength[ i + 2 ];
+			}
+
+			stackSize--;
+
+			// Skip elements of run 1 that are no greater than the first element of run 2
+			int skipped = gallopRight( data[ base2 ], data, base1, length1, 0 );
+			base1 += skipped;
+			length1 -= skipped;
+
+			if ( length1 == 0 )
+				return;
+
+			// Skip elements of run 2 that are no less than the last element of run 1
+			length2 = gallopLeft( data[ base1 + length1 - 1 ], data, base2, length2, length2 - 1 );
+
+			if ( length2 == 0 )
+				return;
+
+			if ( length1 <= length2 )
+				mergeLow( base1, length1, base2, length2 );
+			else
+				mergeHigh( base1, length1, base2, length2 );
+		}
+
+		/**
+		 * Merges two adjacent runs front to back, buffering the shorter first run.
+		 * The first element of run 2 must be less than the first element of run 1,
+		 * and the last element of run 1 must be greater than every element of run 2.
+		 *
+		 * @param base1 index of the first element of run 1
+		 * @param length1 length of run 1
+		 * @param base2 index of the first element of run 2
+		 * @param length2 length of run 2
+		 */
+		private void mergeLow( int base1, int length1, int base2, int length2 ) {
+
+			E[] temp = ensureCapacity( length1 );
+			System.arraycopy( data, base1, temp, 0, length1 );
+
+			int cursor1 = 0;
+			int cursor2 = base2;
+			int dest = base1;
+
+			data[ dest++ ] = data[ cursor2++ ];
+
+			if ( --length2 == 0 ) {
+				System.arraycopy( temp, cursor1, data, dest, length1 );
+				return;
+			}
+
+			if ( length1 == 1 ) {
+				System.arraycopy( data, cursor2, data, dest, length2 );
+				data[ dest + length2 ] = temp[ cursor1 ];
+				return;
+			}
+
+			int gallop = minGallop;
+
+			outer:
+			while ( true ) {
+
+				int count1 = 0;
+				int count2 = 0;
+
+				// Merge one element at a time until one run starts winning consistently
+				do {
+					if ( compare( data[ cursor2 ], temp[ cursor1 ] ) < 0 ) {
+						data[ dest++ ] = data[ cursor2++ ];
+						count2++;
+						count1 = 0;
+
+						if ( --length2 == 0 )
+							break outer;
+					} else {
+						data[ dest++ ] = temp[ cursor1++ ];
+						count1++;
+						count2 = 0;
+
+						if ( --length1 == 1 )
+							break outer;
+					}
+				} while ( ( count1 | count2 ) < gallop );
+
+				// Gallop until neither run is winning consistently
+				do {
+					count1 = gallopRight( data[ cursor2 ], temp, cursor1, length1, 0 );
+
+					if ( count1 != 0 ) {
+						System.arraycopy( temp, cursor1, data, dest, count1 );
+						dest += count1;
+						cursor1 += count1;
+						length1 -= count1;
+
+						if ( length1 <= 1 )
+							break outer;
+					}
+
+					data[ dest++ ] = data[ cursor2++ ];
+
+					if ( --length2 == 0 )
+						break outer;
+
+					count2 = gallopLeft( temp[ cursor1 ], data, cursor2, length2, 0 );
+
+					if ( count2 != 0 ) {
+						System.arraycopy( data, cursor2, data, dest, count2 );
+						dest += count2;
+						cursor2 += count2;
+						length2 -= count2;
+
+						if ( length2 == 0 )
+							break outer;
+					}
+
+					data[ dest++ ] = temp[ cursor1++ ];
+
+					if ( --length1 == 1 )
+						break outer;
+
+					gallop--;
+
+				} while ( count1 >= MIN_GALLOP || count2 >= MIN_GALLOP );
+
+				if ( gallop < 0 )
+					gallop = 0;
+
+				// Penalize leaving galloping mode
+				gallop += 2;
+			}
+
+			minGallop = Math.max( gallop, 1 );
+
+			if ( length1 == 1 ) {
+				System.arraycopy( data, cursor2, data, dest, length2 );
+				data[ dest + length2 ] = temp[ cursor1 ];
+			} else if ( length1 == 0 ) {
+				throw new IllegalArgumentException( "Comparator is inconsistent." );
+			} else {
+				System.arraycopy( temp, cursor1, data, dest, length1 );
+			}
+		}
+
+		/**
+		 * Merges two adjacent runs back to front, buffering the shorter second run.
+		 * Has the same preconditions as mergeLow.
+		 *
+		 * @param base1 index of the first element of run 1
+		 * @param length1 length of run 1
+		 * @param base2 index of the first element of run 2
+		 * @param length2 length of run 2
+		 */
+		private void mergeHigh( int base1, int length1, int base2, int length2 ) {
+
+			E[] temp = ensureCapacity( length2 );
+			System.arraycopy( data, base2, temp, 0, length2 );
+
+			int cursor1 = base1 + length1 - 1;
+			int cursor2 = length2 - 1;
+			int dest = base2 + length2 - 1;
+
+			data[ dest-- ] = data[ cursor1-- ];
+
+			if ( --length1 == 0 ) {
+				System.arraycopy( temp, 0, data, dest - ( length2 - 1 ), length2 );
+				return;
+			}
+
+			if ( length2 == 1 ) {
+				dest -= length1;
+				cursor1 -= length1;
+				System.arraycopy( data, cursor1 + 1, data, dest + 1, length1 );
+				data[ dest ] = temp[ cursor2 ];
+				return;
+			}
+
+			int gallop = minGallop;
+
+			outer:
+			while ( true ) {
+
+				int count1 = 0;
+				int count2 = 0;
+
+				// Merge one element at a time until one run starts winning consistently
+				do {
+					if ( compare( temp[ cursor2 ], data[ cursor1 ] ) < 0 ) {
+						data[ dest-- ] = data[ cursor1-- ];
+						count1++;
+						count2 = 0;
+
+						if ( --length1 == 0 )
+							break outer;
+					} else {
+						data[ dest-- ] = temp[ cursor2-- ];
+						count2++;
+						count1 = 0;
+
+						if ( --length2 == 1 )
+							break outer;
+					}
+				} while ( ( count1 | count2 ) < gallop );
+
+				// Gallop until neither run is winning consistently
+				do {
+					count1 = length1 - gallopRight( temp[ cursor2 ], data, base1, length1, length1 - 1 );
+
+					if ( count1 != 0 ) {
+						dest -= count1;
+						cursor1 -= count1;
+						length1 -= count1;
+						System.arraycopy( data, cursor1 + 1, data, dest + 1, count1 );
+
+						if ( length1 == 0 )
+							break outer;
+					}
+
+					data[ dest-- ] = temp[ cursor2-- ];
+
+					if ( --length2 == 1 )
+						break outer;
+
+					count2 = length2 - gallopLeft( data[ cursor1 ], temp, 0, length2, length2 - 1 );
+
+					if ( count2 != 0 ) {
+						dest -= count2;
+						cursor2 -= count2;
+						length2 -= count2;
+						System.arraycopy( temp, cursor2 + 1, data, dest + 1, count2 );
+
+						if ( length2 <= 1 )
+							break outer;
+					}
+
+					data[ dest-- ] = data[ cursor1-- ];
+
+					if ( --length1 == 0 )
+						break outer;
+
+					gallop--;
+
+				} while ( count1 >= MIN_GALLOP || count2 >= MIN_GALLOP );
+
+				if ( gallop < 0 )
+					gallop = 0;
+
+				// Penalize leaving galloping mode
+				gallop += 2;
+			}
+
+			minGallop = Math.max( gallop, 1 );
+
+			if ( length2 == 1 ) {
+				dest -= length1;
+				cursor1 -= length1;
+				System.arraycopy( data, cursor1 + 1, data, dest + 1, length1 );
+				data[ dest ] = temp[ cursor2 ];
+			} else if ( length2 == 0 ) {
+				throw new IllegalArgumentException( "Comparator is inconsistent." );
+			} else {
+				System.arraycopy( temp, 0, data, dest - ( length2 - 1 ), length2 );
+			}
+		}
+
+		/**
+		 * Returns the merge buffer, growing it if it is shorter than minCapacity.
+		 * The buffer grows to the next power of two, capped at half the array.
+		 *
+		 * @param minCapacity the number of elements the buffer must hold
+		 * @return the merge buffer
+		 */
+		private E[] ensureCapacity( int minCapacity ) {
+
+			if ( buffer.length < minCapacity ) {
+
+				int capacity = Integer.highestOneBit( minCapacity ) << 1;
+
+				if ( capacity < 0 || capacity > data.length >>> 1 )
+					capacity = Math.max( minCapacity, data.length >>> 1 );
+
+				@SuppressWarnings( "unchecked" )
+				E[] grown = ( E[] ) ( new Comparable<?>[ capacity ] );
+				buffer = grown;
+			}
+
+			return buffer;
+		}
+	}
+}
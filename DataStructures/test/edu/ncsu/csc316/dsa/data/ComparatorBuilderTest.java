@@ -0,0 +1,130 @@
+package edu.ncsu.csc316.dsa.data;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests ComparatorBuilder.java.
+ *
+ * @author Will Greene
+ */
+public class ComparatorBuilderTest {
+
+	/**
+	 * Tests that a built comparator matches the natural ordering of Students,
+	 * including names that share their leading characters.
+	 */
+	@Test
+	public void testNaturalOrdering() {
+
+		Comparator<Student> comparator = new ComparatorBuilder<Student>()
+				.thenString( Student::getLast, Student::getLastKey )
+				.thenString( Student::getFirst, Student::getFirstKey )
+				.thenInt( Student::getId )
+				.build();
+
+		String[] names = { "", "A", "Ab", "Abc", "Abcd", "Abcde", "Abcdf", "Rock", "Rocket", "a", "\uffff" };
+		Random random = new Random( 31 );
+		Student[] students = new Student[ 500 ];
+
+		for ( int i = 0; i < students.length; i++ ) {
+			students[ i ] = new Student( names[ random.nextInt( names.length ) ], names[ random.nextInt( names.length ) ],
+					random.nextInt(), 1, 1.0, "u" + i );
+		}
+
+		for ( Student a : students ) {
+			for ( int j = 0; j < 50; j++ ) {
+				Student b = students[ random.nextInt( students.length ) ];
+				assertEquals( Integer.signum( a.compareTo( b ) ), Integer.signum( comparator.compare( a, b ) ) );
+			}
+		}
+	}
+
+	/**
+	 * Tests int fields at the extremes of their range in both directions.
+	 */
+	@Test
+	public void testIntFields() {
+
+		Comparator<int[]> ascending = new ComparatorBuilder<int[]>().thenInt( a -> a[ 0 ] ).build();
+		Comparator<int[]> descending = new ComparatorBuilder<int[]>().thenIntDescending( a -> a[ 0 ] ).build();
+
+		int[] low = { Integer.MIN_VALUE };
+		int[] high = { Integer.MAX_VALUE };
+
+		assertTrue( ascending.compare( low, high ) < 0 );
+		assertTrue( ascending.compare( high, low ) > 0 );
+		assertTrue( descending.compare( low, high ) > 0 );
+		assertEquals( 0, descending.compare( high, new int[] { Integer.MAX_VALUE } ) );
+	}
+
+	/**
+	 * Tests that double fields order NaN last in both directions and treat -0.0
+	 * and 0.0 as equal.
+	 */
+	@Test
+	public void testDoubleFields() {
+
+		Double[] values = { Double.NaN, 1.5, -0.0, Double.NEGATIVE_INFINITY, 0.0, Double.POSITIVE_INFINITY, -2.0 };
+
+		Double[] ascending = values.clone();
+		Arrays.sort( ascending, new ComparatorBuilder<Double>().thenDouble( d -> d ).build() );
+
+		assertEquals( Double.NEGATIVE_INFINITY, ascending[ 0 ], 0 );
+		assertEquals( -2.0, ascending[ 1 ], 0 );
+		assertEquals( 1.5, ascending[ 4 ], 0 );
+		assertEquals( Double.POSITIVE_INFINITY, ascending[ 5 ], 0 );
+		assertTrue( Double.isNaN( ascending[ 6 ] ) );
+
+		Double[] descending = values.clone();
+		Arrays.sort( descending, new ComparatorBuilder<Double>().thenDoubleDescending( d -> d ).build() );
+
+		assertEquals( Double.POSITIVE_INFINITY, descending[ 0 ], 0 );
+		assertEquals( 1.5, descending[ 1 ], 0 );
+		assertEquals( Double.NEGATIVE_INFINITY, descending[ 5 ], 0 );
+		assertTrue( Double.isNaN( descending[ 6 ] ) );
+
+		assertEquals( 0, new ComparatorBuilder<Double>().thenDouble( d -> d ).build().compare( -0.0, 0.0 ) );
+	}
+
+	/**
+	 * Tests that fields are compared in the order they were added, and that
+	 * later changes to the builder do not affect a built comparator.
+	 */
+	@Test
+	public void testFieldOrder() {
+
+		ComparatorBuilder<Student> builder = new ComparatorBuilder<Student>().thenDoubleDescending( Student::getGpa );
+		Comparator<Student> byGpa = builder.build();
+		Comparator<Student> byGpaThenName = builder.thenString( Student::getLast ).build();
+
+		Student a = new Student( "F", "Zed", 1, 1, 3.5, "a" );
+		Student b = new Student( "F", "Amy", 2, 1, 3.5, "b" );
+		Student c = new Student( "F", "Amy", 3, 1, 4.0, "c" );
+
+		assertEquals( 0, byGpa.compare( a, b ) );
+		assertTrue( byGpaThenName.compare( a, b ) > 0 );
+		assertTrue( byGpaThenName.compare( c, a ) < 0 );
+		assertEquals( 0, new ComparatorBuilder<Student>().build().compare( a, c ) );
+	}
+
+	/**
+	 * Tests that collation keys order Strings like String.compareTo() whenever
+	 * the keys differ.
+	 */
+	@Test
+	public void testCollationKey() {
+
+		assertTrue( ComparatorBuilder.collationKey( "" ) < ComparatorBuilder.collationKey( "A" ) );
+		assertTrue( ComparatorBuilder.collationKey( "Ab" ) < ComparatorBuilder.collationKey( "Abc" ) );
+		assertTrue( ComparatorBuilder.collationKey( "Zz" ) < ComparatorBuilder.collationKey( "a" ) );
+		assertTrue( ComparatorBuilder.collationKey( "a" ) < ComparatorBuilder.collationKey( "\uffff" ) );
+		assertEquals( ComparatorBuilder.collationKey( "Rock" ), ComparatorBuilder.collationKey( "Rocket" ) );
+		assertEquals( ComparatorBuilder.collationKey( "" ), ComparatorBuilder.collationKey( null ) );
+	}
+}
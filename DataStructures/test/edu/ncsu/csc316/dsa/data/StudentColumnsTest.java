@@ -0,0 +1,125 @@
+package edu.ncsu.csc316.dsa.data;
+
+import static org.junit.Assert.*;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.io.StudentReader;
+import edu.ncsu.csc316.dsa.sorter.TimSorter;
+
+/**
+ * Tests StudentColumns.java.
+ *
+ * @author Will Greene
+ */
+public class StudentColumnsTest {
+
+	/**
+	 * Tests that rows hold the fields they were added with and that names are
+	 * stored once in the dictionary.
+	 */
+	@Test
+	public void testAddAndGet() {
+		StudentColumns columns = new StudentColumns( 1 );
+
+		assertEquals( 0, columns.add( new Student( "Amber", "Ab", 1, 12, 3.5, "aab" ) ) );
+		assertEquals( 1, columns.add( "Ara", "Ab", 2, 15, 2.5, "azed" ) );
+		assertEquals( 2, columns.add( "Amber", "Zed", 3, 9, 4.0, "azed2" ) );
+
+		assertEquals( 3, columns.size() );
+		assertEquals( 7, columns.dictionarySize() );
+		assertEquals( "Ara", columns.getFirst( 1 ) );
+		assertEquals( "Ab", columns.getLast( 1 ) );
+		assertEquals( "azed2", columns.getUnityID( 2 ) );
+		assertEquals( 3, columns.getId( 2 ) );
+		assertEquals( 15, columns.getCreditHours( 1 ) );
+		assertEquals( 3.5, columns.getGpa( 0 ), 0 );
+
+		Student s = columns.get( 2 );
+		assertEquals( new Student( "Amber", "Zed", 3, 9, 4.0, "azed2" ), s );
+		assertEquals( "azed2", s.getUnityID() );
+		assertEquals( 9, s.getCreditHours() );
+
+		assertThrows( IndexOutOfBoundsException.class, () -> columns.get( 3 ) );
+		assertThrows( IndexOutOfBoundsException.class, () -> columns.getId( -1 ) );
+		assertThrows( IllegalArgumentException.class, () -> new StudentColumns( -1 ) );
+	}
+
+	/**
+	 * Tests every ordering of the input files against TimSorter.
+	 */
+	@Test
+	public void testOrderFiles() {
+		for ( String file : new String[] { "input/student_ascendingID.csv", "input/student_descendingID.csv",
+				"input/student_randomOrder.csv" } ) {
+			assertOrders( StudentReader.readInputAsArray( file ) );
+		}
+	}
+
+	/**
+	 * Tests every ordering of a roster with repeated names, ids and GPAs,
+	 * signed zero GPAs and NaN GPAs.
+	 */
+	@Test
+	public void testOrderDuplicates() {
+		Random random = new Random( 19 );
+		String[] names = { "Ab", "Abb", "", "Zed", "Müller", "ab" };
+		double[] gpas = { 0.0, -0.0, 2.5, 4.0, Double.NaN, 3.999 };
+		Student[] roster = new Student[ 500 ];
+
+		for ( int i = 0; i < roster.length; i++ ) {
+			roster[ i ] = new Student( names[ random.nextInt( names.length ) ], names[ random.nextInt( names.length ) ],
+					random.nextInt( 40 ) - 20, i, gpas[ random.nextInt( gpas.length ) ], "u" + i );
+		}
+
+		assertOrders( roster );
+		assertOrders( new Student[ 0 ] );
+	}
+
+	/**
+	 * Checks that each ordering of a roster matches a stable sort with the
+	 * equivalent comparator.
+	 *
+	 * @param roster the students to store
+	 */
+	private void assertOrders( Student[] roster ) {
+		StudentColumns columns = StudentColumns.of( roster );
+
+		assertSameStudents( sorted( roster, null ), columns.toArray( columns.order() ) );
+		assertSameStudents( sorted( roster, new StudentIDComparator() ), columns.toArray( columns.orderById() ) );
+		assertSameStudents( sorted( roster, new StudentGPAComparator() ), columns.toArray( columns.orderByGpa() ) );
+	}
+
+	/**
+	 * Returns a stably sorted copy of a roster.
+	 *
+	 * @param roster the students to sort
+	 * @param comparator the ordering, or null for natural order
+	 * @return the sorted copy
+	 */
+	private Student[] sorted( Student[] roster, Comparator<Student> comparator ) {
+		Student[] copy = roster.clone();
+		new TimSorter<Student>( comparator ).sort( copy );
+		return copy;
+	}
+
+	/**
+	 * Checks that two arrays hold students with the same fields in the same order.
+	 *
+	 * @param expected the expected students
+	 * @param actual the students materialized from the columns
+	 */
+	private void assertSameStudents( Student[] expected, Student[] actual ) {
+		assertEquals( expected.length, actual.length );
+
+		for ( int i = 0; i < expected.length; i++ ) {
+			assertEquals( expected[ i ], actual[ i ] );
+			assertEquals( expected[ i ].getUnityID(), actual[ i ].getUnityID() );
+			assertEquals( expected[ i ].getCreditHours(), actual[ i ].getCreditHours() );
+			assertEquals( Double.doubleToLongBits( expected[ i ].getGpa() ), Double.doubleToLongBits( actual[ i ].getGpa() ) );
+		}
+	}
+}
@@ -62,4 +62,20 @@ public class StudentGPAComparatorTest {
 
 		assertTrue(comparator1.compare(sOne, sThree) == 0);
 	}
+
+	/**
+	 * Tests that StudentGPAComparator.compare() orders NaN after every other GPA
+	 * and treats -0.0 and 0.0 as equal.
+	 */
+	@Test
+	public void testCompareSpecialGpas() {
+		Student nan = new Student("NanFirst", "NanLast", 3, 1, Double.NaN, "nanUnityID");
+		Student zero = new Student("ZeroFirst", "ZeroLast", 4, 1, 0.0, "zeroUnityID");
+		Student negativeZero = new Student("ZeroFirst", "ZeroLast", 4, 1, -0.0, "zeroUnityID");
+		
+		assertTrue(comparator1.compare(sOne, nan) < 0);
+		assertTrue(comparator1.compare(nan, zero) > 0);
+		assertTrue(comparator1.compare(nan, nan) == 0);
+		assertTrue(comparator1.compare(zero, negativeZero) == 0);
+	}
 }
@@ -51,4 +51,16 @@ public class StudentIDComparatorTest {
 		assertTrue(comparator.compare(sOne, sTwo) < 0);
 		assertFalse(comparator.compare(sTwo, sOne) < 0);
 	}
+
+	/**
+	 * Tests that StudentIDComparator.compare() does not overflow for ids far apart.
+	 */
+	@Test
+	public void testCompareExtremeIds() {
+		Student low = new Student("LowFirst", "LowLast", Integer.MIN_VALUE, 1, 1.0, "lowUnityID");
+		Student high = new Student("HighFirst", "HighLast", Integer.MAX_VALUE, 1, 1.0, "highUnityID");
+		
+		assertTrue(new StudentIDComparator().compare(low, high) < 0);
+		assertTrue(new StudentIDComparator().compare(high, low) > 0);
+	}
 }
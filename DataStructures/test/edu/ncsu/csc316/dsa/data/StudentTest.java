@@ -145,4 +145,28 @@ public class StudentTest {
 		assertTrue(sOne.compareTo(sOneOne) < 0);
 		assertTrue(sOneOne.compareTo(sOne) > 0);
 	}
+
+	/**
+	 * Tests that Student.compareTo() agrees with comparing names directly when
+	 * names share their leading characters, and after names change.
+	 */
+	@Test
+	public void testCompareToCollationKeys() {
+		Student rock = new Student("Ann", "Rock", 5, 1, 1.0, "rockUnityID");
+		Student rocket = new Student("Ann", "Rocket", 6, 1, 1.0, "rocketUnityID");
+		Student low = new Student("Ann", "Rock", Integer.MIN_VALUE, 1, 1.0, "lowUnityID");
+		
+		assertEquals(rock.getLastKey(), rocket.getLastKey());
+		assertTrue(rock.compareTo(rocket) < 0);
+		assertTrue(low.compareTo(rock) < 0);
+		assertTrue(rock.compareTo(low) > 0);
+		
+		rocket.setLast("Apple");
+		assertTrue(rocket.getLastKey() < rock.getLastKey());
+		assertTrue(rocket.compareTo(rock) < 0);
+		
+		rocket.setLast("Rock");
+		rocket.setFirst("Anna");
+		assertTrue(rock.compareTo(rocket) < 0);
+	}
 }
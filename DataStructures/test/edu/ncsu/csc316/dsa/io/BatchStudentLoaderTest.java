@@ -0,0 +1,125 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Tests BatchStudentLoader.java.
+ *
+ * @author Will Greene
+ */
+public class BatchStudentLoaderTest {
+
+	/** input files that load */
+	private static final String[] INPUTS = { "input/student_ascendingID.csv", "input/student_descendingID.csv",
+			"input/student_randomOrder.csv" };
+
+	/**
+	 * Tests that every file reads the same as with StudentReader.readInputAsArray(),
+	 * and that missing and malformed files are reported without stopping the others.
+	 *
+	 * @throws IOException if the malformed file cannot be used
+	 */
+	@Test
+	public void testReadAll() throws IOException {
+		Path malformed = Files.createTempFile( "roster", ".csv" );
+
+		try {
+			Files.write( malformed, List.of( ExternalStudentSorter.HEADER, "Amber,Ab,aab,x,3.5,12" ) );
+
+			BatchStudentLoader.Result result = BatchStudentLoader.readAll( INPUTS[ 0 ], "input/missing.csv",
+					malformed.toString(), INPUTS[ 1 ], INPUTS[ 2 ] );
+
+			assertEquals( 5, result.size() );
+			assertTrue( result.hasErrors() );
+			assertNull( result.getMerged() );
+			assertEquals( "input/missing.csv", result.getPath( 1 ) );
+			assertTrue( result.getError( 1 ) instanceof IllegalArgumentException );
+			assertNull( result.getRoster( 1 ) );
+			assertTrue( result.getError( 2 ) instanceof IllegalArgumentException );
+			assertNull( result.getRoster( 2 ) );
+
+			int[] loaded = { 0, 3, 4 };
+			for ( int i = 0; i < loaded.length; i++ ) {
+				assertNull( result.getError( loaded[ i ] ) );
+				assertArrayEquals( StudentReader.readInputAsArray( INPUTS[ i ] ), result.getRoster( loaded[ i ] ) );
+			}
+		} finally {
+			Files.deleteIfExists( malformed );
+		}
+
+		BatchStudentLoader.Result empty = BatchStudentLoader.readAll();
+		assertEquals( 0, empty.size() );
+		assertFalse( empty.hasErrors() );
+	}
+
+	/**
+	 * Tests that merged rosters keep one student per id, from the earliest file
+	 * that has it, in the requested order.
+	 *
+	 * @throws IOException if the input files cannot be used
+	 */
+	@Test
+	public void testReadMerged() throws IOException {
+		Path first = Files.createTempFile( "campus1", ".csv" );
+		Path second = Files.createTempFile( "campus2", ".csv" );
+
+		try {
+			Files.write( first, List.of( ExternalStudentSorter.HEADER, "Zed,Ab,zab,5,3.5,12", "Ara,Marsh,marsha,3,2.25,11",
+					"Ara,Repeat,repeat,3,1.0,11" ) );
+			Files.write( second, List.of( ExternalStudentSorter.HEADER, "Lacie,Mott,mottl,4,2.94,18",
+					"Other,Campus,other,5,1.0,9", "Amber,Michael,michaea,1,1.10,10" ) );
+
+			BatchStudentLoader.Result result = BatchStudentLoader.readMerged( new StudentIDComparator(),
+					second.toString(), "input/missing.csv", first.toString() );
+
+			assertTrue( result.getError( 1 ) instanceof IllegalArgumentException );
+			assertEquals( 3, result.getRoster( 2 ).length );
+
+			Student[] merged = result.getMerged();
+			assertEquals( 4, merged.length );
+			assertEquals( "michaea", merged[ 0 ].getUnityID() );
+			assertEquals( "marsha", merged[ 1 ].getUnityID() );
+			assertEquals( "mottl", merged[ 2 ].getUnityID() );
+			assertEquals( "other", merged[ 3 ].getUnityID() );
+
+			// Natural order, with the input files read alongside
+			merged = BatchStudentLoader.readMerged( null, first.toString(), second.toString(), INPUTS[ 2 ] ).getMerged();
+			for ( int i = 1; i < merged.length; i++ )
+				assertTrue( merged[ i - 1 ].compareTo( merged[ i ] ) < 0 );
+			assertEquals( "zab", BatchStudentLoader.readMerged( null, first.toString(), second.toString() ).getMerged()[ 0 ]
+					.getUnityID() );
+		} finally {
+			Files.deleteIfExists( first );
+			Files.deleteIfExists( second );
+		}
+	}
+
+	/**
+	 * Tests that the executor runs tasks on whichever threads the runtime offers.
+	 *
+	 * @throws Exception if a task fails
+	 */
+	@Test
+	public void testNewExecutor() throws Exception {
+		ExecutorService executor = BatchStudentLoader.newExecutor( 3 );
+
+		try {
+			Future<Integer> sum = executor.submit( () -> 1 + 2 );
+			assertEquals( 3, ( int ) sum.get() );
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
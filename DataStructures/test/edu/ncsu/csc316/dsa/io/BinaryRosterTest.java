@@ -0,0 +1,191 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * Tests BinaryRoster.java.
+ *
+ * @author Will Greene
+ */
+public class BinaryRosterTest {
+
+	/** directory holding the files of each test */
+	private Path directory;
+
+	/** CSV roster in the directory */
+	private Path csv;
+
+	/** binary roster in the directory */
+	private Path binary;
+
+	/**
+	 * Copies a CSV roster into a new directory.
+	 *
+	 * @throws IOException if the files cannot be created
+	 */
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory( "roster" );
+		csv = Files.copy( Path.of( "input/student_randomOrder.csv" ), directory.resolve( "roster.csv" ) );
+		binary = directory.resolve( "roster.bin" );
+	}
+
+	/**
+	 * Deletes the files of each test.
+	 *
+	 * @throws IOException if the files cannot be deleted
+	 */
+	@After
+	public void tearDown() throws IOException {
+		for ( String name : new String[] { "roster.csv", "roster.bin" } )
+			Files.deleteIfExists( directory.resolve( name ) );
+
+		Files.delete( directory );
+	}
+
+	/**
+	 * Tests that a roster reads back with the same fields, including unusual
+	 * names and GPAs, and that repeated strings are stored once.
+	 */
+	@Test
+	public void testWriteAndRead() {
+		Student[] roster = { new Student( "Zoë", "Müller", Integer.MIN_VALUE, 0, -0.0, "zmul" ),
+				new Student( "", "Müller", Integer.MAX_VALUE, 18, Double.NaN, "zoe" ),
+				new Student( "Zoë", "Zoë", 7, 12, 3.999, "zmul" ) };
+
+		BinaryRoster.write( roster, csv.toString(), binary.toString() );
+
+		Student[] read = BinaryRoster.read( binary.toString() );
+
+		assertSameStudents( roster, read );
+		assertSame( read[ 0 ].getFirst(), read[ 2 ].getLast() );
+
+		BinaryRoster.write( new Student[ 0 ], csv.toString(), binary.toString() );
+		assertEquals( 0, BinaryRoster.read( binary.toString() ).length );
+	}
+
+	/**
+	 * Tests that the binary roster is written on the first load and used on the
+	 * next while the CSV file is unchanged.
+	 */
+	@Test
+	public void testReadInputAsArray() {
+		Student[] expected = StudentReader.readInputAsArray( csv.toString() );
+
+		assertFalse( BinaryRoster.isCurrent( csv.toString(), binary.toString() ) );
+		assertSameStudents( expected, BinaryRoster.readInputAsArray( csv.toString(), binary.toString() ) );
+		assertTrue( BinaryRoster.isCurrent( csv.toString(), binary.toString() ) );
+
+		// A roster that differs from the CSV shows the binary roster was used
+		Student[] marker = { new Student( "Only", "Binary", 1, 1, 1.0, "bin" ) };
+		BinaryRoster.write( marker, csv.toString(), binary.toString() );
+
+		assertSameStudents( marker, BinaryRoster.readInputAsArray( csv.toString(), binary.toString() ) );
+	}
+
+	/**
+	 * Tests that a CSV file changed after the binary roster was written is parsed again.
+	 *
+	 * @throws IOException if the files cannot be changed
+	 */
+	@Test
+	public void testStale() throws IOException {
+		BinaryRoster.write( new Student[] { new Student( "Only", "Binary", 1, 1, 1.0, "bin" ) }, csv.toString(),
+				binary.toString() );
+		Files.setLastModifiedTime( csv, FileTime.fromMillis( Files.getLastModifiedTime( csv ).toMillis() + 1000 ) );
+
+		assertFalse( BinaryRoster.isCurrent( csv.toString(), binary.toString() ) );
+		assertSameStudents( StudentReader.readInputAsArray( csv.toString() ),
+				BinaryRoster.readInputAsArray( csv.toString(), binary.toString() ) );
+		assertTrue( BinaryRoster.isCurrent( csv.toString(), binary.toString() ) );
+	}
+
+	/**
+	 * Tests that the parsed CSV is still returned when the binary roster cannot
+	 * be written, either because its directory is missing or because a
+	 * non-empty directory is in its place.
+	 */
+	@Test
+	public void testUnwritable() {
+		Student[] expected = StudentReader.readInputAsArray( csv.toString() );
+
+		for ( Path unwritable : new Path[] { directory.resolve( "missing" ).resolve( "roster.bin" ), directory } ) {
+			assertSameStudents( expected, BinaryRoster.readInputAsArray( csv.toString(), unwritable.toString() ) );
+			assertFalse( BinaryRoster.isCurrent( csv.toString(), unwritable.toString() ) );
+		}
+	}
+
+	/**
+	 * Tests that corrupt files and other versions are rejected by read() and
+	 * replaced by readInputAsArray().
+	 *
+	 * @throws IOException if the files cannot be changed
+	 */
+	@Test
+	public void testCorruptAndVersion() throws IOException {
+		Student[] expected = StudentReader.readInputAsArray( csv.toString() );
+		BinaryRoster.write( expected, csv.toString(), binary.toString() );
+		byte[] good = Files.readAllBytes( binary );
+
+		// Flip one bit of a GPA
+		byte[] corrupt = good.clone();
+		corrupt[ BinaryRoster.HEADER_SIZE + 21 ] ^= 1;
+		Files.write( binary, corrupt );
+
+		assertTrue( BinaryRoster.isCurrent( csv.toString(), binary.toString() ) );
+		assertThrows( IllegalArgumentException.class, () -> BinaryRoster.read( binary.toString() ) );
+		assertSameStudents( expected, BinaryRoster.readInputAsArray( csv.toString(), binary.toString() ) );
+		assertArrayEquals( good, Files.readAllBytes( binary ) );
+
+		// Another version
+		byte[] version = good.clone();
+		ByteBuffer.wrap( version ).order( ByteOrder.LITTLE_ENDIAN ).putInt( BinaryRoster.VERSION_POSITION,
+				BinaryRoster.VERSION + 1 );
+		Files.write( binary, version );
+
+		assertFalse( BinaryRoster.isCurrent( csv.toString(), binary.toString() ) );
+		assertThrows( IllegalArgumentException.class, () -> BinaryRoster.read( binary.toString() ) );
+
+		// Truncated and not a roster at all
+		Files.write( binary, Arrays.copyOf( good, good.length - 1 ) );
+		assertThrows( IllegalArgumentException.class, () -> BinaryRoster.read( binary.toString() ) );
+
+		Files.write( binary, "FIRST_NAME,LAST_NAME".getBytes( StandardCharsets.UTF_8 ) );
+		assertFalse( BinaryRoster.isCurrent( csv.toString(), binary.toString() ) );
+		assertThrows( IllegalArgumentException.class, () -> BinaryRoster.read( binary.toString() ) );
+
+		assertThrows( IllegalArgumentException.class, () -> BinaryRoster.read( directory.resolve( "missing.bin" ).toString() ) );
+	}
+
+	/**
+	 * Checks that two arrays hold students with the same fields in the same order.
+	 *
+	 * @param expected the expected students
+	 * @param actual the students read
+	 */
+	private void assertSameStudents( Student[] expected, Student[] actual ) {
+		assertEquals( expected.length, actual.length );
+
+		for ( int i = 0; i < expected.length; i++ ) {
+			assertEquals( expected[ i ], actual[ i ] );
+			assertEquals( expected[ i ].getUnityID(), actual[ i ].getUnityID() );
+			assertEquals( expected[ i ].getCreditHours(), actual[ i ].getCreditHours() );
+			assertEquals( Double.doubleToLongBits( expected[ i ].getGpa() ), Double.doubleToLongBits( actual[ i ].getGpa() ) );
+		}
+	}
+}
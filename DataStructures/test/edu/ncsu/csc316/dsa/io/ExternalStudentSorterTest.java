@@ -0,0 +1,205 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.sorter.InsertionSorter;
+import edu.ncsu.csc316.dsa.sorter.Sorter;
+
+/**
+ * Tests ExternalStudentSorter.java.
+ *
+ * @author Will Greene
+ */
+public class ExternalStudentSorterTest {
+
+	/**
+	 * Tests sorting by id with chunks small enough to need several merge passes.
+	 *
+	 * @throws IOException if the output file cannot be used
+	 */
+	@Test
+	public void testSortById() throws IOException {
+		assertSortsLike( new StudentIDComparator(), 3, 2 );
+	}
+
+	/**
+	 * Tests sorting by GPA in a single merge pass, which must keep the relative
+	 * order of students with equal GPAs.
+	 *
+	 * @throws IOException if the output file cannot be used
+	 */
+	@Test
+	public void testSortByGpa() throws IOException {
+		assertSortsLike( new StudentGPAComparator(), 4, ExternalStudentSorter.DEFAULT_MERGE_WIDTH );
+	}
+
+	/**
+	 * Tests sorting a file with a chunk size larger than the file.
+	 *
+	 * @throws IOException if the output file cannot be used
+	 */
+	@Test
+	public void testSingleChunk() throws IOException {
+		assertSortsLike( Comparator.naturalOrder(), ExternalStudentSorter.DEFAULT_CHUNK_SIZE,
+				ExternalStudentSorter.DEFAULT_MERGE_WIDTH );
+	}
+
+	/**
+	 * Tests sorting a file that has only a header line.
+	 *
+	 * @throws IOException if the files cannot be used
+	 */
+	@Test
+	public void testEmptyFile() throws IOException {
+		Path input = Files.createTempFile( "roster", ".csv" );
+		Path output = Files.createTempFile( "sorted", ".csv" );
+
+		try {
+			Files.write( input, List.of( ExternalStudentSorter.HEADER ) );
+
+			new ExternalStudentSorter( new InsertionSorter<Student>(), Comparator.naturalOrder() )
+					.sort( input.toString(), output.toString() );
+
+			assertEquals( List.of( ExternalStudentSorter.HEADER ), Files.readAllLines( output ) );
+		} finally {
+			Files.deleteIfExists( input );
+			Files.deleteIfExists( output );
+		}
+	}
+
+	/**
+	 * Tests that invalid arguments are rejected.
+	 */
+	@Test
+	public void testInvalid() {
+		ExternalStudentSorter sorter = new ExternalStudentSorter( new InsertionSorter<Student>(),
+				Comparator.naturalOrder() );
+
+		assertThrows( IllegalArgumentException.class, () -> sorter.sort( "input/missing.csv", "output.csv" ) );
+		assertThrows( IllegalArgumentException.class,
+				() -> new ExternalStudentSorter( new InsertionSorter<Student>(), Comparator.naturalOrder(), 0, 2, null ) );
+		assertThrows( IllegalArgumentException.class,
+				() -> new ExternalStudentSorter( new InsertionSorter<Student>(), Comparator.naturalOrder(), 1, 1, null ) );
+	}
+
+	/**
+	 * Tests merging presorted files, including an empty one, into one sorted file.
+	 *
+	 * @throws IOException if the files cannot be used
+	 */
+	@Test
+	public void testMergeFiles() throws IOException {
+		Comparator<Student> comparator = new StudentIDComparator();
+		Student[] roster = StudentReader.readInputAsArray( "input/student_randomOrder.csv" );
+		Path[] inputs = new Path[ 3 ];
+		Path output = Files.createTempFile( "merged", ".csv" );
+
+		try {
+			// Split the roster between two sorted files, and leave a third file empty
+			Student[] even = new Student[ ( roster.length + 1 ) / 2 ];
+			Student[] odd = new Student[ roster.length / 2 ];
+
+			for ( int i = 0; i < roster.length; i++ ) {
+				if ( i % 2 == 0 )
+					even[ i / 2 ] = roster[ i ];
+				else
+					odd[ i / 2 ] = roster[ i ];
+			}
+
+			new InsertionSorter<Student>( comparator ).sort( even );
+			new InsertionSorter<Student>( comparator ).sort( odd );
+
+			inputs[ 0 ] = Files.createTempFile( "campus", ".csv" );
+			inputs[ 1 ] = Files.createTempFile( "campus", ".csv" );
+			inputs[ 2 ] = Files.createTempFile( "campus", ".csv" );
+
+			writeRoster( inputs[ 0 ], even );
+			writeRoster( inputs[ 1 ], new Student[ 0 ] );
+			writeRoster( inputs[ 2 ], odd );
+
+			ExternalStudentSorter.mergeFiles( comparator, output.toString(), inputs[ 0 ].toString(),
+					inputs[ 1 ].toString(), inputs[ 2 ].toString() );
+
+			Student[] actual = StudentReader.readInputAsArray( output.toString() );
+
+			assertEquals( roster.length, actual.length );
+
+			for ( int i = 1; i < actual.length; i++ )
+				assertTrue( actual[ i - 1 ].getId() <= actual[ i ].getId() );
+
+			assertThrows( IllegalArgumentException.class,
+					() -> ExternalStudentSorter.mergeFiles( comparator, output.toString(), "input/missing.csv" ) );
+		} finally {
+			for ( Path input : inputs ) {
+				if ( input != null )
+					Files.deleteIfExists( input );
+			}
+
+			Files.deleteIfExists( output );
+		}
+	}
+
+	/**
+	 * Sorts student_randomOrder.csv externally and checks that the output holds
+	 * the same students in the same order as an in-memory insertion sort.
+	 *
+	 * @param comparator the order to sort by
+	 * @param chunkSize number of students sorted in memory at a time
+	 * @param mergeWidth maximum number of runs merged at a time
+	 * @throws IOException if the output file cannot be used
+	 */
+	private void assertSortsLike( Comparator<Student> comparator, int chunkSize, int mergeWidth ) throws IOException {
+		Sorter<Student> sorter = new InsertionSorter<Student>( comparator );
+		Path output = Files.createTempFile( "sorted", ".csv" );
+
+		try {
+			new ExternalStudentSorter( sorter, comparator, chunkSize, mergeWidth, null )
+					.sort( "input/student_randomOrder.csv", output.toString() );
+
+			Student[] expected = StudentReader.readInputAsArray( "input/student_randomOrder.csv" );
+			sorter.sort( expected );
+
+			Student[] actual = StudentReader.readInputAsArray( output.toString() );
+
+			assertEquals( expected.length, actual.length );
+
+			for ( int i = 0; i < expected.length; i++ ) {
+				assertEquals( expected[ i ].getUnityID(), actual[ i ].getUnityID() );
+				assertEquals( expected[ i ].getId(), actual[ i ].getId() );
+				assertEquals( expected[ i ].getGpa(), actual[ i ].getGpa(), 0 );
+				assertEquals( expected[ i ].getCreditHours(), actual[ i ].getCreditHours() );
+			}
+		} finally {
+			Files.deleteIfExists( output );
+		}
+	}
+
+	/**
+	 * Writes students to a CSV file with a header line.
+	 *
+	 * @param file the file to write
+	 * @param students the students to write
+	 * @throws IOException if the file cannot be written
+	 */
+	private void writeRoster( Path file, Student[] students ) throws IOException {
+		List<String> lines = new ArrayList<String>();
+		lines.add( ExternalStudentSorter.HEADER );
+
+		for ( Student s : students )
+			lines.add( ExternalStudentSorter.formatLine( s ) );
+
+		Files.write( file, lines );
+	}
+}
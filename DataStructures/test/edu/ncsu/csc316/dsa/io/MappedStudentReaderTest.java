@@ -0,0 +1,153 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * Tests MappedStudentReader.java.
+ *
+ * @author Will Greene
+ */
+public class MappedStudentReaderTest {
+
+	/**
+	 * Tests that every input file reads the same as with StudentReader.readInputAsArray().
+	 */
+	@Test
+	public void testReadFiles() {
+		for ( String file : new String[] { "input/student_ascendingID.csv", "input/student_descendingID.csv",
+				"input/student_randomOrder.csv" } ) {
+			assertSameStudents( StudentReader.readInputAsArray( file ), MappedStudentReader.readInputAsArray( file ) );
+		}
+	}
+
+	/**
+	 * Tests line endings, blank lines, signs, unusual GPAs and non-ASCII names.
+	 *
+	 * @throws IOException if the file cannot be used
+	 */
+	@Test
+	public void testUnusualLines() throws IOException {
+		Path file = Files.createTempFile( "roster", ".csv" );
+
+		try {
+			String contents = ExternalStudentSorter.HEADER + "\r\n" + "Amber,Ab,aab,-2147483648,3.5,12\r\n" + "\n"
+					+ "Zoë,Müller,zmul,2147483647,-0.0,+15\n" + "Ara,Zed,azed,7,2.5e0,0,extra\n"
+					+ "Lacie,Mott,mottl,4,0.1234567890123456789,18\n" + "Tyree,Runyon,runyont,14,NaN,10";
+			Files.write( file, contents.getBytes( StandardCharsets.UTF_8 ) );
+
+			Student[] students = MappedStudentReader.readInputAsArray( file.toString() );
+
+			assertEquals( 5, students.length );
+			assertEquals( Integer.MIN_VALUE, students[ 0 ].getId() );
+			assertEquals( 3.5, students[ 0 ].getGpa(), 0 );
+			assertEquals( "Zoë", students[ 1 ].getFirst() );
+			assertEquals( "Müller", students[ 1 ].getLast() );
+			assertEquals( Integer.MAX_VALUE, students[ 1 ].getId() );
+			assertEquals( Double.doubleToLongBits( -0.0 ), Double.doubleToLongBits( students[ 1 ].getGpa() ) );
+			assertEquals( 15, students[ 1 ].getCreditHours() );
+			assertEquals( 2.5, students[ 2 ].getGpa(), 0 );
+			assertEquals( 0, students[ 2 ].getCreditHours() );
+			assertEquals( 0.1234567890123456789, students[ 3 ].getGpa(), 0 );
+			assertTrue( Double.isNaN( students[ 4 ].getGpa() ) );
+			assertEquals( "runyont", students[ 4 ].getUnityID() );
+		} finally {
+			Files.deleteIfExists( file );
+		}
+	}
+
+	/**
+	 * Tests that GPAs parsed from bytes match Double.parseDouble() exactly.
+	 *
+	 * @throws IOException if the file cannot be used
+	 */
+	@Test
+	public void testParseGpas() throws IOException {
+		Path file = Files.createTempFile( "roster", ".csv" );
+		String[] gpas = { "0", "4.0", "3.999", "0.1", "0.3", "1.", ".5", "123456789.012345", "2.675", "0.000001" };
+		StringBuilder contents = new StringBuilder( ExternalStudentSorter.HEADER ).append( '\n' );
+
+		for ( int i = 0; i < gpas.length; i++ )
+			contents.append( "F,L,u," ).append( i ).append( ',' ).append( gpas[ i ] ).append( ",1\n" );
+
+		try {
+			Files.write( file, contents.toString().getBytes( StandardCharsets.UTF_8 ) );
+
+			Student[] students = MappedStudentReader.readInputAsArray( file.toString() );
+
+			for ( int i = 0; i < gpas.length; i++ )
+				assertEquals( gpas[ i ], Double.parseDouble( gpas[ i ] ), students[ i ].getGpa(), 0 );
+		} finally {
+			Files.deleteIfExists( file );
+		}
+	}
+
+	/**
+	 * Tests that mapping a file in small windows gives the same students as
+	 * mapping it all at once.
+	 *
+	 * @throws IOException if the file cannot be used
+	 */
+	@Test
+	public void testSmallWindows() throws IOException {
+		Student[] expected = StudentReader.readInputAsArray( "input/student_randomOrder.csv" );
+
+		try ( FileChannel channel = MappedStudentReader.open( "input/student_randomOrder.csv" ) ) {
+			long size = channel.size();
+			long start = MappedStudentReader.nextLineStart( channel, 0, size );
+
+			for ( int window : new int[] { 40, 64, 100 } )
+				assertSameStudents( expected, MappedStudentReader.parse( channel, start, size, window ) );
+
+			assertThrows( IllegalArgumentException.class, () -> MappedStudentReader.parse( channel, start, size, 8 ) );
+		}
+	}
+
+	/**
+	 * Tests that missing files and malformed lines are rejected.
+	 *
+	 * @throws IOException if the file cannot be used
+	 */
+	@Test
+	public void testInvalid() throws IOException {
+		assertThrows( IllegalArgumentException.class, () -> MappedStudentReader.readInputAsArray( "input/missing.csv" ) );
+
+		Path file = Files.createTempFile( "roster", ".csv" );
+
+		try {
+			for ( String line : new String[] { "Amber,Ab,aab,1,3.5", "Amber,Ab,aab,x,3.5,12", "Amber,Ab,aab,1,3.5,",
+					"Amber,Ab,aab,99999999999,3.5,12", "Amber,Ab,aab,1,3..5,12" } ) {
+				Files.write( file, ( ExternalStudentSorter.HEADER + "\n" + line + "\n" ).getBytes( StandardCharsets.UTF_8 ) );
+				assertThrows( line, IllegalArgumentException.class, () -> MappedStudentReader.readInputAsArray( file.toString() ) );
+			}
+		} finally {
+			Files.deleteIfExists( file );
+		}
+	}
+
+	/**
+	 * Checks that two arrays hold students with the same fields in the same order.
+	 *
+	 * @param expected the expected students
+	 * @param actual the students read
+	 */
+	private void assertSameStudents( Student[] expected, Student[] actual ) {
+		assertEquals( expected.length, actual.length );
+
+		for ( int i = 0; i < expected.length; i++ ) {
+			assertEquals( expected[ i ], actual[ i ] );
+			assertEquals( expected[ i ].getUnityID(), actual[ i ].getUnityID() );
+			assertEquals( expected[ i ].getGpa(), actual[ i ].getGpa(), 0 );
+			assertEquals( expected[ i ].getCreditHours(), actual[ i ].getCreditHours() );
+		}
+	}
+}
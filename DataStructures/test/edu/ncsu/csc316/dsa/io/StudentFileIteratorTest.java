@@ -0,0 +1,100 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * Tests StudentFileIterator.java.
+ *
+ * @author Will Greene
+ */
+public class StudentFileIteratorTest {
+
+	/**
+	 * Tests that iterating a file yields the same students as StudentReader.readInputAsArray().
+	 */
+	@Test
+	public void testIterateFile() {
+		Student[] expected = StudentReader.readInputAsArray( "input/student_randomOrder.csv" );
+
+		try ( StudentFileIterator students = new StudentFileIterator( "input/student_randomOrder.csv" ) ) {
+			for ( Student s : expected ) {
+				assertTrue( students.hasNext() );
+				assertEquals( s, students.next() );
+			}
+
+			assertFalse( students.hasNext() );
+			assertThrows( NoSuchElementException.class, () -> students.next() );
+		}
+	}
+
+	/**
+	 * Tests that blank lines are skipped and that closing early ends the iteration.
+	 *
+	 * @throws IOException if the file cannot be used
+	 */
+	@Test
+	public void testBlankLinesAndClose() throws IOException {
+		Path file = Files.createTempFile( "roster", ".csv" );
+
+		try {
+			Files.write( file, List.of( ExternalStudentSorter.HEADER, "", "Amber,Ab,aab,1,3.5,12", "",
+					"Ara,Zed,azed,2,2.5,15" ) );
+
+			StudentFileIterator students = new StudentFileIterator( file.toString() );
+
+			assertEquals( "aab", students.next().getUnityID() );
+			assertTrue( students.hasNext() );
+
+			students.close();
+
+			assertFalse( students.hasNext() );
+		} finally {
+			Files.deleteIfExists( file );
+		}
+	}
+
+	/**
+	 * Tests that a malformed line is reported as an IllegalArgumentException,
+	 * whether it is the first student line or one in the middle of the file,
+	 * and that the file is closed.
+	 *
+	 * @throws IOException if the file cannot be used
+	 */
+	@Test
+	public void testMalformedLines() throws IOException {
+		Path file = Files.createTempFile( "roster", ".csv" );
+
+		try {
+			Files.write( file, List.of( ExternalStudentSorter.HEADER, "Amber,Ab,aab,x,3.5,12", "Ara,Zed,azed,2,2.5,15" ) );
+			assertThrows( IllegalArgumentException.class, () -> new StudentFileIterator( file.toString() ) );
+
+			Files.write( file, List.of( ExternalStudentSorter.HEADER, "Amber,Ab,aab,1,3.5,12", "",
+					"Ara,Zed,azed,2,2.5", "Lacie,Mott,mottl,4,3.0,18" ) );
+			StudentFileIterator students = new StudentFileIterator( file.toString() );
+
+			Exception e = assertThrows( IllegalArgumentException.class, () -> students.next() );
+			assertTrue( e.getMessage(), e.getMessage().contains( "line 4" ) );
+			assertFalse( students.hasNext() );
+		} finally {
+			Files.deleteIfExists( file );
+		}
+	}
+
+	/**
+	 * Tests opening a missing file.
+	 */
+	@Test
+	public void testMissingFile() {
+		assertThrows( IllegalArgumentException.class, () -> new StudentFileIterator( "input/missing.csv" ) );
+	}
+}
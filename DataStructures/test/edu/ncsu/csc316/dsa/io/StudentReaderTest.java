@@ -2,6 +2,14 @@ package edu.ncsu.csc316.dsa.io;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.Test;
 
 import edu.ncsu.csc316.dsa.data.Student;
@@ -92,4 +100,80 @@ public class StudentReaderTest {
 	public void testFileNotFound() {
 		assertThrows(IllegalArgumentException.class, () -> StudentReader.readInputAsArray("not_a_file.csv"));
 	}
+	
+	/**
+	 * Tests that StudentReader.readInputAsArrayParallel() matches StudentReader.readInputAsArray()
+	 * for every input file, whether the file is parsed in one chunk or split across workers.
+	 */
+	@Test
+	public void testReadFileParallel() {
+		for (String file : new String[] {"input/student_ascendingID.csv", "input/student_descendingID.csv",
+				"input/student_randomOrder.csv"}) {
+			Student[] expected = StudentReader.readInputAsArray(file);
+			
+			for (long minChunkBytes : new long[] {StudentReader.MIN_CHUNK_BYTES, 1, 50}) {
+				Student[] actual = StudentReader.readInputAsArrayParallel(file, minChunkBytes);
+				assertEquals(expected.length, actual.length);
+				
+				for (int i = 0; i < expected.length; i++) {
+					assertEquals(expected[i], actual[i]);
+					assertEquals(expected[i].getUnityID(), actual[i].getUnityID());
+					assertEquals(expected[i].getGpa(), actual[i].getGpa(), 0);
+					assertEquals(expected[i].getCreditHours(), actual[i].getCreditHours());
+				}
+			}
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> StudentReader.readInputAsArrayParallel("not_a_file.csv"));
+	}
+	
+	/**
+	 * Tests StudentReader.iterator() and StudentReader.forEach() against StudentReader.readInputAsArray().
+	 */
+	@Test
+	public void testIteratorAndForEach() {
+		Student[] expected = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		
+		try (StudentFileIterator students = StudentReader.iterator("input/student_randomOrder.csv")) {
+			for (Student s : expected) {
+				assertEquals(s, students.next());
+			}
+			assertFalse(students.hasNext());
+		}
+		
+		List<Student> seen = new ArrayList<Student>();
+		StudentReader.forEach("input/student_randomOrder.csv", seen::add);
+		assertEquals(Arrays.asList(expected), seen);
+		
+		assertThrows(IllegalArgumentException.class, () -> StudentReader.forEach("not_a_file.csv", seen::add));
+	}
+	
+	/**
+	 * Tests aggregating StudentReader.stream() in one pass, average GPA by credit hour band.
+	 */
+	@Test
+	public void testStream() {
+		Student[] roster = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		Map<Integer, Double> expected = new HashMap<Integer, Double>();
+		Map<Integer, Integer> counts = new HashMap<Integer, Integer>();
+		
+		for (Student s : roster) {
+			expected.merge(s.getCreditHours() / 5, s.getGpa(), Double::sum);
+			counts.merge(s.getCreditHours() / 5, 1, Integer::sum);
+		}
+		
+		try (Stream<Student> students = StudentReader.stream("input/student_randomOrder.csv")) {
+			Map<Integer, Double> averages = students.collect(
+					Collectors.groupingBy(s -> s.getCreditHours() / 5, Collectors.averagingDouble(Student::getGpa)));
+			
+			assertEquals(expected.keySet(), averages.keySet());
+			for (Integer band : averages.keySet()) {
+				assertEquals(expected.get(band) / counts.get(band), averages.get(band), 1e-9);
+			}
+		}
+		
+		try (Stream<Student> students = StudentReader.stream("input/student_randomOrder.csv")) {
+			assertEquals(roster[0], students.findFirst().get());
+		}
+	}
 }
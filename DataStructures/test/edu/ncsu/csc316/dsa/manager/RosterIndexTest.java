@@ -0,0 +1,190 @@
+package edu.ncsu.csc316.dsa.manager;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.io.StudentReader;
+import edu.ncsu.csc316.dsa.manager.RosterIndex.Field;
+import edu.ncsu.csc316.dsa.sorter.TimSorter;
+
+/**
+ * Tests RosterIndex.java.
+ *
+ * @author Will Greene
+ */
+public class RosterIndexTest {
+
+	/**
+	 * Tests range queries on the input file against a scan of the roster.
+	 */
+	@Test
+	public void testRanges() {
+		Student[] roster = StudentReader.readInputAsArray( "input/student_randomOrder.csv" );
+		RosterIndex index = new RosterIndex( roster );
+
+		assertEquals( roster.length, index.size() );
+		assertArrayEquals( roster, index.query().execute() );
+		assertArrayEquals( select( roster, s -> s.getGpa() >= 3.5 && s.getCreditHours() < 12 ),
+				index.query().atLeast( Field.GPA, 3.5 ).lessThan( Field.CREDIT_HOURS, 12 ).execute() );
+		assertArrayEquals( select( roster, s -> s.getId() > 5 && s.getId() <= 10 ),
+				index.query().greaterThan( Field.ID, 5 ).atMost( Field.ID, 10 ).execute() );
+		assertArrayEquals( select( roster, s -> s.getCreditHours() == 15 ),
+				index.query().equalTo( Field.CREDIT_HOURS, 15 ).execute() );
+		assertArrayEquals( select( roster, s -> s.getGpa() >= 2.0 && s.getGpa() <= 3.0 ),
+				index.query().between( Field.GPA, 1.0, 3.0 ).between( Field.GPA, 2.0, 4.0 ).execute() );
+		assertEquals( 0, index.query().atLeast( Field.GPA, 3.0 ).atMost( Field.GPA, 2.0 ).execute().length );
+
+		assertThrows( IllegalArgumentException.class, () -> index.query().atLeast( Field.GPA, Double.NaN ) );
+		assertThrows( IllegalArgumentException.class, () -> index.query().limit( -1 ) );
+	}
+
+	/**
+	 * Tests random queries, with and without orders and limits, against a scan
+	 * and a stable sort of a roster with repeated values, signed zeros and NaN GPAs.
+	 */
+	@Test
+	public void testRandomQueries() {
+		Random random = new Random( 23 );
+		double[] gpas = { 0.0, -0.0, 1.5, 2.5, 3.0, 3.5, 4.0, Double.NaN };
+		Student[] roster = new Student[ 400 ];
+
+		for ( int i = 0; i < roster.length; i++ ) {
+			roster[ i ] = new Student( "F", "L" + random.nextInt( 50 ), random.nextInt( 200 ), random.nextInt( 20 ),
+					gpas[ random.nextInt( gpas.length ) ], "u" + i );
+		}
+
+		RosterIndex index = new RosterIndex( roster );
+
+		for ( int trial = 0; trial < 300; trial++ ) {
+			RosterIndex.Query query = index.query();
+			Predicate<Student> expected = s -> true;
+
+			for ( Field field : Field.values() ) {
+				if ( random.nextBoolean() ) {
+					double low = field == Field.GPA ? gpas[ random.nextInt( 7 ) ] : random.nextInt( 200 );
+					double high = field == Field.GPA ? 4.0 : low + random.nextInt( 60 );
+					boolean strict = random.nextBoolean();
+					query = strict ? query.greaterThan( field, low ).atMost( field, high ) : query.between( field, low, high );
+					Predicate<Student> previous = expected;
+					expected = s -> previous.test( s ) && ( strict ? value( field, s ) > low : value( field, s ) >= low )
+							&& value( field, s ) <= high;
+				}
+			}
+
+			if ( random.nextInt( 4 ) == 0 ) {
+				query.filter( s -> s.getLast().compareTo( "L25" ) < 0 );
+				Predicate<Student> previous = expected;
+				expected = s -> previous.test( s ) && s.getLast().compareTo( "L25" ) < 0;
+			}
+
+			Student[] matches = select( roster, expected );
+
+			if ( random.nextBoolean() ) {
+				Field field = Field.values()[ random.nextInt( 3 ) ];
+				boolean descending = random.nextBoolean();
+				Comparator<Student> byField = ( one, two ) -> Double.compare( value( field, one ) + 0.0, value( field, two ) + 0.0 );
+				new TimSorter<Student>( descending ? byField.reversed() : byField ).sort( matches );
+				query.orderBy( field, descending );
+			}
+
+			if ( random.nextBoolean() ) {
+				int limit = random.nextInt( 30 );
+				matches = Arrays.copyOf( matches, Math.min( limit, matches.length ) );
+				query.limit( limit );
+			}
+
+			assertArrayEquals( "trial " + trial, matches, query.execute() );
+		}
+	}
+
+	/**
+	 * Tests that a selective query reads only the smallest matching range, and
+	 * that an ordered, limited query stops once it has enough results.
+	 */
+	@Test
+	public void testReadsOnlyCandidates() {
+		int[] reads = new int[ 1 ];
+		Student[] roster = new Student[ 1000 ];
+
+		for ( int i = 0; i < roster.length; i++ ) {
+			roster[ i ] = new Student( "F", "L", i, i % 2 == 0 ? 12 : 15, i / 250.0, "u" + i ) {
+				@Override
+				public int getCreditHours() {
+					reads[ 0 ]++;
+					return super.getCreditHours();
+				}
+			};
+		}
+
+		RosterIndex index = new RosterIndex( roster );
+
+		// GPAs of at least 3.9 are the last 25 students; credit hours of 12 are half the roster
+		reads[ 0 ] = 0;
+		Student[] found = index.query().atLeast( Field.GPA, 3.9 ).equalTo( Field.CREDIT_HOURS, 12 ).execute();
+		assertEquals( 12, found.length );
+		assertEquals( 25, reads[ 0 ] );
+
+		// Ids 999 down to 995 hold the first three odd ids
+		reads[ 0 ] = 0;
+		found = index.query().orderBy( Field.ID, true ).equalTo( Field.CREDIT_HOURS, 15 ).limit( 3 ).execute();
+		assertEquals( 3, found.length );
+		assertEquals( 999, found[ 0 ].getId() );
+		assertEquals( 995, found[ 2 ].getId() );
+		assertEquals( 5, reads[ 0 ] );
+	}
+
+	/**
+	 * Tests that StudentManager queries reflect changes to the roster.
+	 */
+	@Test
+	public void testManagerQuery() {
+		StudentManager manager = new StudentManager( StudentReader.readInputAsArray( "input/student_ascendingID.csv" ),
+				new TimSorter<Student>() );
+		int before = manager.query().atLeast( Field.GPA, 3.9 ).execute().length;
+
+		manager.addStudent( new Student( "Amber", "Aardvark", 0, 12, 4.0, "aaardva" ) );
+		assertEquals( before + 1, manager.query().atLeast( Field.GPA, 3.9 ).execute().length );
+
+		manager.update( new Student[] { new Student( "Amber", "Aardvark", 0, 12, 1.0, "aaardva" ) }, new int[0] );
+		assertEquals( before, manager.query().atLeast( Field.GPA, 3.9 ).execute().length );
+		assertEquals( "aaardva", manager.query().equalTo( Field.ID, 0 ).execute()[ 0 ].getUnityID() );
+
+		// Sorting moves students, so results follow the new roster order
+		manager = new StudentManager( StudentReader.readInputAsArray( "input/student_randomOrder.csv" ),
+				new TimSorter<Student>() );
+		Student[] unsorted = manager.query().execute();
+		Student[] sorted = manager.sort();
+		assertFalse( Arrays.equals( unsorted, sorted ) );
+		assertArrayEquals( sorted, manager.query().execute() );
+		assertEquals( sorted[ 0 ], manager.query().limit( 1 ).execute()[ 0 ] );
+	}
+
+	/**
+	 * Returns the value of a field of a student.
+	 *
+	 * @param field the field
+	 * @param s the student
+	 * @return the value of the field
+	 */
+	private static double value( Field field, Student s ) {
+		return field == Field.ID ? s.getId() : field == Field.GPA ? s.getGpa() : s.getCreditHours();
+	}
+
+	/**
+	 * Returns the students of a roster that pass a predicate, in roster order.
+	 *
+	 * @param roster the students
+	 * @param predicate the predicate
+	 * @return the matching students
+	 */
+	private static Student[] select( Student[] roster, Predicate<Student> predicate ) {
+		return Arrays.stream( roster ).filter( predicate ).toArray( Student[]::new );
+	}
+}
@@ -2,10 +2,21 @@ package edu.ncsu.csc316.dsa.manager;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.io.StudentReader;
+import edu.ncsu.csc316.dsa.sorter.TimSorter;
 
 /**
  * Tests StudentManager.java.
@@ -48,4 +59,275 @@ public class StudentManagerTest {
 		assertEquals("Loise", sorted[14].getFirst());
 		assertEquals("Nichole", sorted[15].getFirst());
 	}
+
+	/**
+	 * Tests that a StudentManager loading through a binary roster sorts the
+	 * same as one reading the CSV file, both when the binary roster is written
+	 * and when it is reused.
+	 * 
+	 * @throws IOException if the binary roster cannot be used
+	 */
+	@Test
+	public void testBinaryRoster() throws IOException {
+		Path binary = Files.createTempFile("roster", ".bin");
+		Files.delete(binary);
+		
+		try {
+			Student[] expected = sm.sort();
+			
+			for (int i = 0; i < 2; i++) {
+				StudentManager cached = new StudentManager("input/student_ascendingID.csv", binary.toString(), new TimSorter<Student>());
+				assertArrayEquals(expected, cached.sort());
+				assertTrue(Files.exists(binary));
+			}
+		} finally {
+			Files.deleteIfExists(binary);
+		}
+	}
+
+	/**
+	 * Tests StudentManager.getById() and StudentManager.getByUnityID().
+	 */
+	@Test
+	public void testLookups() {
+		for (Student s : StudentReader.readInputAsArray("input/student_ascendingID.csv")) {
+			assertEquals(s, sm.getById(s.getId()));
+			assertEquals(s, sm.getByUnityID(s.getUnityID()));
+		}
+		
+		assertNull(sm.getById(-1));
+		assertNull(sm.getByUnityID("nobody"));
+		
+		// Sorting the roster does not disturb the indexes
+		sm.sort();
+		assertEquals("Tanner", sm.getByUnityID(sm.sort()[0].getUnityID()).getFirst());
+	}
+	
+	/**
+	 * Tests that sorted views are cached per Comparator and match a fresh sort.
+	 */
+	@Test
+	public void testSortedBy() {
+		Student[] roster = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		StudentManager manager = new StudentManager(roster.clone(), new TimSorter<Student>());
+		StudentGPAComparator gpa = new StudentGPAComparator();
+		
+		Student[] byGpa = manager.sortedBy(gpa);
+		assertArrayEquals(sorted(roster, gpa), byGpa);
+		assertSame(byGpa, manager.sortedBy(gpa));
+		
+		Student[] natural = manager.sortedBy(null);
+		assertArrayEquals(sorted(roster, null), natural);
+		assertSame(natural, manager.sortedBy(null));
+		assertNotSame(natural, manager.sortedBy(new StudentIDComparator()));
+		
+		// Fresh instances of the same comparator class share one view
+		for (int i = 0; i < 1000; i++) {
+			assertSame(byGpa, manager.sortedBy(new StudentGPAComparator()));
+		}
+		
+		Student[] sortedRoster = manager.sort();
+		assertSame(sortedRoster, manager.sort());
+	}
+	
+	/**
+	 * Tests that at most StudentManager.MAX_VIEWS views are cached, evicting
+	 * the oldest first.
+	 */
+	@Test
+	public void testSortedByBound() {
+		Student[] roster = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		StudentManager manager = new StudentManager(roster.clone(), new TimSorter<Student>());
+		Student[] byGpa = manager.sortedBy(new StudentGPAComparator());
+		
+		// Each call makes a new Comparator instance that equals no other
+		for (int i = 1; i < StudentManager.MAX_VIEWS; i++) {
+			manager.sortedBy(Comparator.comparing(Student::getUnityID));
+		}
+		assertSame(byGpa, manager.sortedBy(new StudentGPAComparator()));
+		
+		// One more view evicts the oldest, the view by GPA
+		Comparator<Student> byId = Comparator.comparingInt(Student::getId);
+		Student[] ids = manager.sortedBy(byId);
+		assertSame(ids, manager.sortedBy(byId));
+		Student[] again = manager.sortedBy(new StudentGPAComparator());
+		assertNotSame(byGpa, again);
+		assertArrayEquals(byGpa, again);
+	}
+	
+	/**
+	 * Tests that adding and removing students updates the indexes and the
+	 * sorted views.
+	 */
+	@Test
+	public void testAddAndRemove() {
+		Student[] roster = StudentReader.readInputAsArray("input/student_ascendingID.csv");
+		StudentManager manager = new StudentManager(roster.clone(), new TimSorter<Student>(new StudentIDComparator()));
+		StudentIDComparator byId = new StudentIDComparator();
+		Student[] before = manager.sortedBy(byId);
+		
+		Student added = new Student("Amber", "Aardvark", 0, 12, 4.0, "aaardva");
+		manager.addStudent(added);
+		
+		assertEquals(roster.length + 1, manager.size());
+		assertSame(added, manager.getById(0));
+		assertSame(added, manager.getByUnityID("aaardva"));
+		assertNotSame(before, manager.sortedBy(byId));
+		assertSame(added, manager.sortedBy(byId)[0]);
+		assertSame(added, manager.sort()[0]);
+		
+		assertSame(added, manager.removeStudent(0));
+		assertNull(manager.removeStudent(0));
+		assertNull(manager.getById(0));
+		assertNull(manager.getByUnityID("aaardva"));
+		assertEquals(roster.length, manager.size());
+		assertArrayEquals(sorted(roster, byId), manager.sortedBy(byId));
+		assertArrayEquals(sorted(roster, byId), manager.sort());
+		
+		// A student sharing a unity ID is findable again after the other is removed
+		Student twin = new Student("Twin", "Tanner", 0, 12, 3.0, roster[0].getUnityID());
+		manager.addStudent(twin);
+		assertSame(twin, manager.getByUnityID(roster[0].getUnityID()));
+		assertSame(twin, manager.removeStudent(0));
+		assertSame(roster[0], manager.getById(roster[0].getId()));
+		assertSame(roster[0], manager.getByUnityID(roster[0].getUnityID()));
+		assertEquals(roster.length, manager.size());
+	}
+	
+	/**
+	 * Tests that removing an id removes every student with it, both through
+	 * StudentManager.removeStudent() and StudentManager.update(), and leaves
+	 * no index entry for any of them.
+	 */
+	@Test
+	public void testRemoveSharedId() {
+		Student[] roster = StudentReader.readInputAsArray("input/student_ascendingID.csv");
+		StudentIDComparator byId = new StudentIDComparator();
+		Student[] expected = sorted(roster, byId);
+		Student original = expected[0];
+		int id = original.getId();
+		Student[] rest = Arrays.copyOfRange(expected, 1, expected.length);
+		
+		for (int i = 0; i < 2; i++) {
+			StudentManager manager = new StudentManager(roster.clone(), new TimSorter<Student>(byId));
+			manager.sort();
+			Student twin = new Student("Twin", "Tanner", id, 12, 3.0, "twin");
+			manager.addStudent(twin);
+			
+			if (i == 0) {
+				assertSame(twin, manager.removeStudent(id));
+			} else {
+				manager.update(new Student[0], new int[] {id});
+			}
+			
+			assertNull(manager.getById(id));
+			assertNull(manager.getByUnityID(original.getUnityID()));
+			assertNull(manager.getByUnityID("twin"));
+			assertEquals(roster.length - 1, manager.size());
+			assertArrayEquals(rest, manager.sort());
+			assertNull(manager.removeStudent(id));
+		}
+	}
+	
+	/**
+	 * Returns a stably sorted copy of a roster.
+	 * 
+	 * @param roster the students to sort
+	 * @param comparator the ordering, or null for natural order
+	 * @return the sorted copy
+	 */
+	private Student[] sorted(Student[] roster, Comparator<Student> comparator) {
+		Student[] copy = roster.clone();
+		new TimSorter<Student>(comparator).sort(copy);
+		return copy;
+	}
+
+	/**
+	 * Tests that batches of changes merged by StudentManager.update() give the
+	 * same order as sorting the changed roster from scratch.
+	 */
+	@Test
+	public void testUpdate() {
+		Random random = new Random(22);
+		StudentGPAComparator gpa = new StudentGPAComparator();
+		StudentIDComparator byId = new StudentIDComparator();
+		Student[] roster = new Student[300];
+		
+		for (int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("F" + random.nextInt(20), "L" + random.nextInt(20), i, 12, random.nextInt(9) / 2.0, "u" + i);
+		}
+		
+		StudentManager manager = new StudentManager(roster.clone(), new TimSorter<Student>(gpa));
+		
+		// Updating before the first sort leaves the roster unsorted
+		manager.update(new Student[] {new Student("New", "Student", 1000, 12, 4.0, "new")}, new int[] {0});
+		manager.update(new Student[0], new int[] {1000});
+		roster[0] = new Student("Moved", "Student", 0, 12, 2.0, "moved");
+		manager.update(new Student[] {roster[0]}, new int[0]);
+		
+		manager.sort();
+		manager.sortedBy(null);
+		manager.sortedBy(byId);
+		
+		for (int batch = 0; batch < 20; batch++) {
+			// Ids of changed students are distinct, so they come from a stride through the ids
+			int changes = random.nextInt(10);
+			int start = random.nextInt(roster.length + 50);
+			Student[] changed = new Student[changes];
+			
+			for (int i = 0; i < changes; i++) {
+				int id = start + 37 * i;
+				changed[i] = new Student("F" + random.nextInt(20), "L" + random.nextInt(20), id, 12, random.nextInt(9) / 2.0, "u" + id);
+			}
+			int[] removed = {random.nextInt(roster.length + 50), random.nextInt(roster.length + 50)};
+			
+			manager.update(changed, removed);
+			roster = expectedUpdate(roster, changed, removed);
+			
+			assertEquals(roster.length, manager.size());
+			assertArrayEquals(sorted(roster, gpa), manager.sort());
+			assertArrayEquals(sorted(roster, null), manager.sortedBy(null));
+			assertArrayEquals(sorted(roster, byId), manager.sortedBy(byId));
+			
+			for (Student s : roster) {
+				assertSame(s, manager.getById(s.getId()));
+				assertSame(s, manager.getByUnityID(s.getUnityID()));
+			}
+			for (int id : removed) {
+				if (manager.getById(id) == null) {
+					assertNull(manager.getByUnityID("u" + id));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Returns a roster with students replaced, added and removed by id.
+	 * 
+	 * @param roster the roster to change
+	 * @param changed students to add or replace by id
+	 * @param removed ids of students to remove
+	 * @return the changed roster
+	 */
+	private Student[] expectedUpdate(Student[] roster, Student[] changed, int[] removed) {
+		Student[] result = new Student[roster.length + changed.length];
+		int count = 0;
+		
+		for (Student s : roster) {
+			boolean keep = true;
+			for (Student c : changed) {
+				keep &= c.getId() != s.getId();
+			}
+			for (int id : removed) {
+				keep &= id != s.getId();
+			}
+			if (keep) {
+				result[count++] = s;
+			}
+		}
+		for (Student c : changed) {
+			result[count++] = c;
+		}
+		return Arrays.copyOf(result, count);
+	}
 }
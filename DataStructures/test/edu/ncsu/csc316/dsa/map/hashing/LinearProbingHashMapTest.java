@@ -1,8 +1,10 @@
 package edu.ncsu.csc316.dsa.map.hashing;
 
 import static org.junit.Assert.*;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -169,4 +171,102 @@ public class LinearProbingHashMapTest {
         assertFalse( it.hasNext() );
         assertThrows( NoSuchElementException.class, () -> it.next() );
     }
-}
\ No newline at end of file
+    
+    /**
+     * Test Robin Hood placement and backward-shift removal. When testing, keys
+     * 6, 13 and 20 all have home bucket 0, key 0 has home bucket 1, and key 1
+     * has home bucket 2, so entrySet() shows the order of the buckets.
+     */
+    @Test
+    public void testRobinHood() {
+        LinearProbingHashMap<Integer, String> robin = new LinearProbingHashMap<Integer, String>(17, true, true);
+        
+        // Key 0 starts in its home bucket, then gives it up to keys further from home
+        robin.put(0, "zero");
+        robin.put(6, "six");
+        robin.put(13, "thirteen");
+        robin.put(20, "twenty");
+        assertEquals("[6, 13, 20, 0]", keys(robin));
+        
+        // Plain linear probing leaves key 0 where it was first placed
+        LinearProbingHashMap<Integer, String> linear = new LinearProbingHashMap<Integer, String>(17, true);
+        for (int key : new int[] {0, 6, 13, 20}) {
+            linear.put(key, "");
+        }
+        assertEquals("[6, 0, 13, 20]", keys(linear));
+        
+        // Removing shifts the following entries back rather than leaving a deleted entry
+        assertEquals("thirteen", robin.remove(13));
+        assertEquals("[6, 20, 0]", keys(robin));
+        assertEquals(3, robin.size());
+        assertEquals("zero", robin.get(0));
+        assertEquals("twenty", robin.get(20));
+        assertNull(robin.get(13));
+        assertNull(robin.remove(13));
+        
+        robin.put(1, "one");
+        assertEquals("[6, 20, 0, 1]", keys(robin));
+        assertEquals("one", robin.put(1, "uno"));
+        assertEquals("uno", robin.get(1));
+        assertEquals(4, robin.size());
+        
+        assertEquals("six", robin.remove(6));
+        assertEquals("[20, 0, 1]", keys(robin));
+        assertEquals("twenty", robin.remove(20));
+        assertEquals("zero", robin.remove(0));
+        assertEquals("uno", robin.remove(1));
+        assertTrue(robin.isEmpty());
+    }
+    
+    /**
+     * Test that Robin Hood mode fills the table past a load factor of 0.5 before
+     * resizing, and stays consistent with java.util.HashMap under put and remove churn
+     */
+    @Test
+    public void testRobinHoodChurn() {
+        LinearProbingHashMap<Integer, Integer> robin = new LinearProbingHashMap<Integer, Integer>(101, false, true);
+        for (int key = 0; key < 80; key++) {
+            robin.put(key, key);
+        }
+        assertEquals(101, robin.capacity());
+        robin.put(80, 80);
+        robin.put(81, 81);
+        assertEquals(203, robin.capacity());
+        
+        robin = new LinearProbingHashMap<Integer, Integer>(17, false, true);
+        HashMap<Integer, Integer> expected = new HashMap<Integer, Integer>();
+        Random random = new Random(25);
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), robin.remove(key));
+            } else if (random.nextBoolean()) {
+                assertEquals(expected.put(key, i), robin.put(key, i));
+            } else {
+                assertEquals(expected.get(key), robin.get(key));
+            }
+            assertEquals(expected.size(), robin.size());
+        }
+        
+        int count = 0;
+        for (Map.Entry<Integer, Integer> entry : robin.entrySet()) {
+            assertEquals(expected.get(entry.getKey()), entry.getValue());
+            count++;
+        }
+        assertEquals(expected.size(), count);
+    }
+    
+    /**
+     * Returns the keys of a map in the order of its entry set
+     * 
+     * @param hashMap the map
+     * @return the keys as a String such as [1, 2]
+     */
+    private String keys(LinearProbingHashMap<Integer, String> hashMap) {
+        StringBuilder keys = new StringBuilder("[");
+        for (Map.Entry<Integer, String> entry : hashMap.entrySet()) {
+            keys.append(keys.length() > 1 ? ", " : "").append(entry.getKey());
+        }
+        return keys.append("]").toString();
+    }
+}
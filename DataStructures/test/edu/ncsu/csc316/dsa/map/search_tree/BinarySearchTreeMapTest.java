@@ -1,9 +1,15 @@
 package edu.ncsu.csc316.dsa.map.search_tree;
 
 import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 import org.junit.Before;
 import org.junit.Test;
 
+import edu.ncsu.csc316.dsa.map.Map.Entry;
+
 /**
  * Test class for BinarySearchTreeMap
  * Checks the expected outputs of the Map and Tree abstract data type behaviors when using
@@ -107,4 +113,49 @@ public class BinarySearchTreeMapTest {
         assertEquals( "six", tree.right(tree.root()).getElement().getValue() );
         assertEquals( "two", tree.left(tree.right(tree.root())).getElement().getValue() );
     }
-}
\ No newline at end of file
+    
+    /**
+     * Test the output of the ascendingEntries(k) and descendingEntries(k) behaviors
+     */
+    @Test
+    public void testRangeEntries() {
+        assertFalse(tree.ascendingEntries(null).iterator().hasNext());
+        assertFalse(tree.descendingEntries(5).iterator().hasNext());
+        
+        for (int key : new int[] {50, 20, 80, 10, 30, 70, 90, 60, 40}) {
+            tree.put(key, "v" + key);
+        }
+        
+        assertEquals("[10, 20, 30, 40, 50, 60, 70, 80, 90]", keys(tree.ascendingEntries(null)));
+        assertEquals("[30, 40, 50, 60, 70, 80, 90]", keys(tree.ascendingEntries(30)));
+        assertEquals("[40, 50, 60, 70, 80, 90]", keys(tree.ascendingEntries(35)));
+        assertEquals("[]", keys(tree.ascendingEntries(95)));
+        assertEquals("[90, 80, 70, 60, 50, 40, 30, 20, 10]", keys(tree.descendingEntries(null)));
+        assertEquals("[60, 50, 40, 30, 20, 10]", keys(tree.descendingEntries(65)));
+        assertEquals("[10]", keys(tree.descendingEntries(10)));
+        assertEquals("[]", keys(tree.descendingEntries(5)));
+        
+        Iterator<Entry<Integer, String>> it = tree.ascendingEntries(90).iterator();
+        assertEquals("v90", it.next().getValue());
+        try {
+            it.next();
+            fail();
+        } catch (NoSuchElementException e) {
+            assertFalse(it.hasNext());
+        }
+    }
+    
+    /**
+     * Returns the keys of entries in iteration order
+     * 
+     * @param entries the entries
+     * @return the keys as a String such as [1, 2]
+     */
+    private String keys(Iterable<Entry<Integer, String>> entries) {
+        StringBuilder keys = new StringBuilder("[");
+        for (Entry<Integer, String> e : entries) {
+            keys.append(keys.length() > 1 ? ", " : "").append(e.getKey());
+        }
+        return keys.append("]").toString();
+    }
+}
@@ -0,0 +1,150 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Tests AutoSorter.java.
+ *
+ * @author Will Greene
+ */
+public class AutoSorterTest {
+
+	/**
+	 * Tests the strategies picked for comparison-only inputs.
+	 */
+	@Test
+	public void testComparisonStrategies() {
+
+		AutoSorter<Integer> sorter = new AutoSorter<Integer>();
+		Random random = new Random( 11 );
+
+		assertNull( sorter.getLastStrategy() );
+
+		assertSorts( sorter, randomIntegers( 20, 100, random ), AutoSorter.Strategy.INSERTION );
+		assertSorts( sorter, randomIntegers( 1000, 1000000, random ), AutoSorter.Strategy.INTROSORT );
+
+		Integer[] ascending = new Integer[ 1000 ];
+		Integer[] descending = new Integer[ 1000 ];
+
+		for ( int i = 0; i < 1000; i++ ) {
+			ascending[ i ] = i;
+			descending[ i ] = 1000 - i;
+		}
+
+		// A few values out of place still count as presorted
+		ascending[ 10 ] = -5;
+		ascending[ 500 ] = 5000;
+
+		assertSorts( sorter, ascending, AutoSorter.Strategy.RUN_MERGE );
+		assertSorts( sorter, descending, AutoSorter.Strategy.RUN_MERGE );
+
+		assertSorts( sorter, randomIntegers( 100000, 8, random ), AutoSorter.Strategy.INTROSORT );
+
+		AutoSorter.Strategy large = ForkJoinPool.getCommonPoolParallelism() > 1 ? AutoSorter.Strategy.PARALLEL_MERGE
+				: AutoSorter.Strategy.INTROSORT;
+
+		assertSorts( sorter, randomIntegers( 100000, Integer.MAX_VALUE, random ), large );
+	}
+
+	/**
+	 * Tests that Students sorted by id are routed to counting or radix sort
+	 * depending on the id range.
+	 */
+	@Test
+	public void testIdStrategies() {
+
+		AutoSorter<Student> sorter = new AutoSorter<Student>( new StudentIDComparator() );
+		Random random = new Random( 12 );
+
+		Student[] dense = new Student[ 500 ];
+		Student[] sparse = new Student[ 500 ];
+
+		for ( int i = 0; i < dense.length; i++ ) {
+			dense[ i ] = new Student( "F" + i, "L" + i, random.nextInt( 1000 ), 15, 3.0, "u" + i );
+			sparse[ i ] = new Student( "F" + i, "L" + i, random.nextInt( 1 << 30 ), 15, 3.0, "u" + i );
+		}
+
+		sorter.sort( dense );
+		assertEquals( AutoSorter.Strategy.COUNTING, sorter.getLastStrategy() );
+
+		sorter.sort( sparse );
+		assertEquals( AutoSorter.Strategy.RADIX, sorter.getLastStrategy() );
+
+		for ( int i = 1; i < dense.length; i++ ) {
+			assertTrue( dense[ i - 1 ].getId() <= dense[ i ].getId() );
+			assertTrue( sparse[ i - 1 ].getId() <= sparse[ i ].getId() );
+		}
+
+		// Other comparators never sort by id alone
+		AutoSorter<Student> natural = new AutoSorter<Student>();
+		natural.sort( dense );
+		assertEquals( AutoSorter.Strategy.INTROSORT, natural.getLastStrategy() );
+	}
+
+	/**
+	 * Tests AutoSorter.sort() on a range, leaving the rest of the array untouched.
+	 */
+	@Test
+	public void testSortRange() {
+
+		Random random = new Random( 17 );
+		Integer[] data = new Integer[ 1000 ];
+
+		for ( int i = 0; i < data.length; i++ )
+			data[ i ] = random.nextInt( 1000 );
+
+		Integer[] expected = data.clone();
+		Arrays.sort( expected, 250, 750 );
+
+		AutoSorter<Integer> sorter = new AutoSorter<Integer>();
+		sorter.sort( data, 250, 750 );
+
+		assertArrayEquals( expected, data );
+		assertThrows( IndexOutOfBoundsException.class, () -> sorter.sort( data, 1, 1001 ) );
+	}
+
+	/**
+	 * Sorts data and checks the result and the strategy picked.
+	 *
+	 * @param sorter the sorter to use
+	 * @param data the data to sort
+	 * @param expected the strategy the sorter should pick
+	 */
+	private void assertSorts( AutoSorter<Integer> sorter, Integer[] data, AutoSorter.Strategy expected ) {
+
+		Integer[] sorted = data.clone();
+		Arrays.sort( sorted );
+
+		sorter.sort( data );
+
+		assertEquals( expected, sorter.getLastStrategy() );
+		assertArrayEquals( sorted, data );
+	}
+
+	/**
+	 * Returns an array of random values in [0, bound).
+	 *
+	 * @param n the number of values
+	 * @param bound the exclusive upper bound of the values
+	 * @param random the source of random values
+	 * @return an array of random values
+	 */
+	private Integer[] randomIntegers( int n, int bound, Random random ) {
+
+		Integer[] values = new Integer[ n ];
+
+		for ( int i = 0; i < n; i++ )
+			values[ i ] = random.nextInt( bound );
+
+		return values;
+	}
+}
@@ -2,6 +2,9 @@ package edu.ncsu.csc316.dsa.sorter;
 
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.Test;
 
 import edu.ncsu.csc316.dsa.data.Student;
@@ -157,4 +160,26 @@ public class BubbleSorterTest {
 		assertEquals( s5, tdeAscending[ 4 ] );
 		assertEquals( s6, tdeAscending[ 5 ] );
 	}
+
+	/**
+	 * Tests BubbleSorter.sort() on a range, leaving the rest of the array untouched.
+	 */
+	@Test
+	public void testSortRange() {
+
+		Random random = new Random( 17 );
+		Integer[] data = new Integer[ 200 ];
+
+		for ( int i = 0; i < data.length; i++ )
+			data[ i ] = random.nextInt( 1000 );
+
+		Integer[] expected = data.clone();
+		Arrays.sort( expected, 50, 150 );
+
+		BubbleSorter<Integer> sorter = new BubbleSorter<Integer>();
+		sorter.sort( data, 50, 150 );
+
+		assertArrayEquals( expected, data );
+		assertThrows( IndexOutOfBoundsException.class, () -> sorter.sort( data, 1, 201 ) );
+	}
 }
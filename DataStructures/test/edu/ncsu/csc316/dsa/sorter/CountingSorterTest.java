@@ -1,9 +1,16 @@
 package edu.ncsu.csc316.dsa.sorter;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 
 //import java.util.Comparator;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -61,4 +68,81 @@ public class CountingSorterTest {
 		assertEquals(sFour, original[3]);
 		assertEquals(sFive, original[4]);
 	}
+	
+	/**
+	 * Tests that CountingSorter.sort() reports counting sort for a dense id range.
+	 */
+	@Test
+	public void testSortDenseStrategy() {
+		assertNull(sorter.getLastStrategy());
+		Student[] original = { sFive, sThree, sOne };
+		sorter.sort(original);
+		assertEquals(CountingSorter.Strategy.COUNTING, sorter.getLastStrategy());
+		assertEquals(sOne, original[0]);
+		assertEquals(sThree, original[1]);
+		assertEquals(sFive, original[2]);
+	}
+	
+	/**
+	 * Tests CountingSorter.sort() on sparse id ranges that would overflow or
+	 * exceed the memory budget if counted.
+	 */
+	@Test
+	public void testSortSparseStrategy() {
+		Student sMin = new Student("MinFirst", "MinLast", Integer.MIN_VALUE, 1, 1.0, "minUnityID");
+		Student sMax = new Student("MaxFirst", "MaxLast", Integer.MAX_VALUE, 1, 1.0, "maxUnityID");
+		Student[] original = { sMax, sTwo, sMin };
+		sorter.sort(original);
+		assertEquals(CountingSorter.Strategy.INSERTION, sorter.getLastStrategy());
+		assertEquals(sMin, original[0]);
+		assertEquals(sTwo, original[1]);
+		assertEquals(sMax, original[2]);
+		
+		Student[] roster = new Student[1000];
+		for (int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First", "Last", (roster.length - i) * 2000000, i, 4.0, "unity");
+		}
+		sorter.sort(roster);
+		assertEquals(CountingSorter.Strategy.RADIX, sorter.getLastStrategy());
+		for (int i = 0; i < roster.length; i++) {
+			assertEquals((i + 1) * 2000000, roster[i].getId());
+		}
+	}
+	
+	/**
+	 * Tests that CountingSorter.sort() respects its memory budget.
+	 */
+	@Test
+	public void testSortMemoryBudget() {
+		CountingSorter<Student> smallBudget = new CountingSorter<Student>(8);
+		Student[] original = { sFour, sTwo, sFive, sOne, sThree };
+		smallBudget.sort(original);
+		assertEquals(CountingSorter.Strategy.INSERTION, smallBudget.getLastStrategy());
+		assertEquals(sOne, original[0]);
+		assertEquals(sFive, original[4]);
+		
+		assertThrows(IllegalArgumentException.class, () -> new CountingSorter<Student>(-1));
+	}
+
+	/**
+	 * Tests CountingSorter.sort() on a range, leaving the rest of the array untouched.
+	 */
+	@Test
+	public void testSortRange() {
+
+		Random random = new Random( 17 );
+		Student[] data = new Student[ 1000 ];
+
+		for ( int i = 0; i < data.length; i++ )
+			data[ i ] = new Student( "F" + i, "L" + i, random.nextInt( 1000 ), 15, 3.0, "u" + i );
+
+		Student[] expected = data.clone();
+		Arrays.sort( expected, 250, 750, Comparator.comparingInt( Student::getId ) );
+
+		CountingSorter<Student> sorter = new CountingSorter<Student>();
+		sorter.sort( data, 250, 750 );
+
+		assertArrayEquals( expected, data );
+		assertThrows( IndexOutOfBoundsException.class, () -> sorter.sort( data, -1, 5 ) );
+	}
 }
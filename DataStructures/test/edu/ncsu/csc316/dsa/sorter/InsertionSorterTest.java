@@ -224,4 +224,27 @@ public class InsertionSorterTest /* <E extends Comparable<E>> */ {
 		assertEquals( s5, tdeAscending[ 4 ] );
 		assertEquals( s6, tdeAscending[ 5 ] );
 	}
+	
+	/**
+	 * Tests InsertionSorter.sort() on an index range.
+	 */
+	@Test
+	public void testSortRange() {
+		
+		Student s1 = new Student( "Kendrick", "Lamar", 1, 15, 4.0, "kdot" );
+		Student s2 = new Student( "Schoolboy", "Q", 2, 15, 4.0, "q" );
+		Student s3 = new Student( "Jay", "Rock", 3, 15, 4.0, "rock" );
+		Student s4 = new Student( "Ab", "Soul", 4, 15, 4.0, "SOUL" );
+		
+		Student[] tde = { s4, s3, s2, s1 };
+		
+		InsertionSorter<Student> studentSorter = new InsertionSorter<Student>( new StudentIDComparator() );
+		
+		studentSorter.sort( tde, 1, 3 );
+		
+		assertEquals( s4, tde[ 0 ] );
+		assertEquals( s2, tde[ 1 ] );
+		assertEquals( s3, tde[ 2 ] );
+		assertEquals( s1, tde[ 3 ] );
+	}
 }
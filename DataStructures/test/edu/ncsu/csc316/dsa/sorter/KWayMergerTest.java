@@ -0,0 +1,127 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Tests KWayMerger.java.
+ *
+ * @author Will Greene
+ */
+public class KWayMergerTest {
+
+	/**
+	 * Tests merging every number of sorted arrays from 1 to 9, including empty
+	 * arrays, against Arrays.sort().
+	 */
+	@Test
+	public void testMergeArrays() {
+
+		Random random = new Random( 51 );
+
+		for ( int k = 1; k <= 9; k++ ) {
+
+			Integer[][] arrays = new Integer[ k ][];
+			int total = 0;
+
+			for ( int i = 0; i < k; i++ ) {
+
+				arrays[ i ] = new Integer[ i % 4 == 3 ? 0 : random.nextInt( 200 ) ];
+
+				for ( int j = 0; j < arrays[ i ].length; j++ )
+					arrays[ i ][ j ] = random.nextInt( 100 );
+
+				Arrays.sort( arrays[ i ] );
+				total += arrays[ i ].length;
+			}
+
+			Integer[] expected = new Integer[ total ];
+			int index = 0;
+
+			for ( Integer[] array : arrays ) {
+				System.arraycopy( array, 0, expected, index, array.length );
+				index += array.length;
+			}
+
+			Arrays.sort( expected );
+
+			assertArrayEquals( "k=" + k, expected, KWayMerger.merge( null, arrays ) );
+		}
+	}
+
+	/**
+	 * Tests that Students with equal ids come out in source order.
+	 */
+	@Test
+	public void testMergeStable() {
+
+		Student a = new Student( "A", "Campus1", 1, 15, 3.0, "a" );
+		Student b = new Student( "B", "Campus1", 2, 15, 3.0, "b" );
+		Student c = new Student( "C", "Campus2", 1, 15, 3.0, "c" );
+		Student d = new Student( "D", "Campus3", 2, 15, 3.0, "d" );
+		Student e = new Student( "E", "Campus3", 3, 15, 3.0, "e" );
+
+		KWayMerger<Student> merger = KWayMerger.ofIterables( new StudentIDComparator(), List.of( a, b ), List.of( c ),
+				List.of( d, e ) );
+
+		for ( Student expected : new Student[] { a, c, b, d, e } ) {
+			assertTrue( merger.hasNext() );
+			assertSame( expected, merger.next() );
+		}
+
+		assertFalse( merger.hasNext() );
+		assertThrows( NoSuchElementException.class, () -> merger.next() );
+	}
+
+	/**
+	 * Tests that sources are read lazily, one element ahead at most.
+	 */
+	@Test
+	public void testStreaming() {
+
+		int[] reads = new int[ 1 ];
+
+		Iterator<Integer> counting = new Iterator<Integer>() {
+
+			private int next = 0;
+
+			@Override
+			public boolean hasNext() {
+				return true;
+			}
+
+			@Override
+			public Integer next() {
+				reads[ 0 ]++;
+				return next++;
+			}
+		};
+
+		KWayMerger<Integer> merger = new KWayMerger<Integer>( null, counting, List.of( 5 ).iterator() );
+
+		for ( int i = 0; i < 10; i++ )
+			merger.next();
+
+		assertEquals( 10, reads[ 0 ] );
+	}
+
+	/**
+	 * Tests merging no sources.
+	 */
+	@Test
+	public void testNoSources() {
+
+		assertFalse( KWayMerger.<Integer>ofArrays( null ).hasNext() );
+		assertEquals( 0, KWayMerger.<Integer>merge( null ).length );
+	}
+}
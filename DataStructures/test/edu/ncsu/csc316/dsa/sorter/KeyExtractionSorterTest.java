@@ -0,0 +1,154 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Tests KeyExtractionSorter.java.
+ *
+ * @author Will Greene
+ */
+public class KeyExtractionSorterTest {
+
+	/** last names with shared prefixes, to exercise ties on the name key */
+	private static final String[] LAST_NAMES = { "Lamar", "Lamarr", "Lam", "Q", "Rock", "Rocket", "Soul", "Rashad", "None" };
+
+	/**
+	 * Returns a roster of random Students with many duplicate GPAs and names.
+	 *
+	 * @param size the number of Students
+	 * @return a roster of random Students
+	 */
+	private Student[] randomRoster( int size ) {
+		Random rand = new Random( 316 );
+		Student[] roster = new Student[ size ];
+
+		for ( int i = 0; i < size; i++ ) {
+			String last = LAST_NAMES[ rand.nextInt( LAST_NAMES.length ) ];
+			roster[ i ] = new Student( "First" + rand.nextInt( 5 ), last, rand.nextInt( 2000 ) - 1000, 15,
+					rand.nextInt( 401 ) / 100.0, "unity" );
+		}
+
+		return roster;
+	}
+
+	/**
+	 * Tests KeyExtractionSorter.byId() against TimSorter with a StudentIDComparator.
+	 */
+	@Test
+	public void testSortById() {
+		Student[] actual = randomRoster( 5000 );
+		Student[] expected = actual.clone();
+
+		new TimSorter<Student>( new StudentIDComparator() ).sort( expected );
+		KeyExtractionSorter.byId().sort( actual );
+
+		// Both sorts are stable, so even Students with equal ids line up
+		for ( int i = 0; i < actual.length; i++ )
+			assertSame( expected[ i ], actual[ i ] );
+	}
+
+	/**
+	 * Tests KeyExtractionSorter.byGpa() against MergeSorter with a StudentGPAComparator.
+	 */
+	@Test
+	public void testSortByGpa() {
+		Student[] actual = randomRoster( 5000 );
+		Student[] expected = actual.clone();
+
+		StudentGPAComparator comparator = new StudentGPAComparator();
+		new MergeSorter<Student>( comparator ).sort( expected );
+		KeyExtractionSorter.byGpa().sort( actual );
+
+		for ( int i = 0; i < actual.length; i++ )
+			assertEquals( 0, comparator.compare( expected[ i ], actual[ i ] ) );
+	}
+
+	/**
+	 * Tests KeyExtractionSorter.byName() against MergeSorter with natural ordering.
+	 */
+	@Test
+	public void testSortByName() {
+		Student[] actual = randomRoster( 5000 );
+		Student[] expected = actual.clone();
+
+		new MergeSorter<Student>().sort( expected );
+		KeyExtractionSorter.byName().sort( actual );
+
+		for ( int i = 0; i < actual.length; i++ )
+			assertEquals( 0, expected[ i ].compareTo( actual[ i ] ) );
+	}
+
+	/**
+	 * Tests that the key helpers order values the same way as the values themselves.
+	 */
+	@Test
+	public void testKeys() {
+		double[] values = { Double.NEGATIVE_INFINITY, -3.5, -0.25, 0.0, 1e-300, 2.0, 4.0, Double.POSITIVE_INFINITY, Double.NaN };
+
+		for ( int i = 1; i < values.length; i++ )
+			assertTrue( KeyExtractionSorter.sortableKey( values[ i - 1 ] ) < KeyExtractionSorter.sortableKey( values[ i ] ) );
+
+		assertEquals( KeyExtractionSorter.sortableKey( 0.0 ), KeyExtractionSorter.sortableKey( -0.0 ) );
+
+		assertTrue( KeyExtractionSorter.prefixKey( "" ) < KeyExtractionSorter.prefixKey( "A" ) );
+		assertTrue( KeyExtractionSorter.prefixKey( "Ab" ) < KeyExtractionSorter.prefixKey( "Abc" ) );
+		assertTrue( KeyExtractionSorter.prefixKey( "Zz" ) < KeyExtractionSorter.prefixKey( "a" ) );
+		assertTrue( KeyExtractionSorter.prefixKey( "a" ) < KeyExtractionSorter.prefixKey( "\uffff" ) );
+		assertEquals( KeyExtractionSorter.prefixKey( "Rock" ), KeyExtractionSorter.prefixKey( "Rocket" ) );
+	}
+
+	/**
+	 * Tests KeyExtractionSorter.sort() on a range, leaving the rest of the array untouched.
+	 */
+	@Test
+	public void testSortRange() {
+
+		Random random = new Random( 17 );
+		Student[] data = new Student[ 1000 ];
+
+		for ( int i = 0; i < data.length; i++ )
+			data[ i ] = new Student( "F" + i, "L" + i, random.nextInt( 1000 ), 15, 3.0, "u" + i );
+
+		Student[] expected = data.clone();
+		Arrays.sort( expected, 250, 750, Comparator.comparingInt( Student::getId ) );
+
+		KeyExtractionSorter<Student> sorter = KeyExtractionSorter.byId();
+		sorter.sort( data, 250, 750 );
+
+		assertArrayEquals( expected, data );
+		assertThrows( IndexOutOfBoundsException.class, () -> sorter.sort( data, -1, 5 ) );
+	}
+
+	/**
+	 * Tests that KeyExtractionSorter.byGpa() orders NaN GPAs last, like StudentGPAComparator.
+	 */
+	@Test
+	public void testSortByGpaNaN() {
+		Student[] actual = randomRoster( 200 );
+
+		for ( int i = 0; i < actual.length; i += 7 )
+			actual[ i ].setGpa( Double.NaN );
+
+		Student[] expected = actual.clone();
+
+		StudentGPAComparator comparator = new StudentGPAComparator();
+		new MergeSorter<Student>( comparator ).sort( expected );
+		KeyExtractionSorter.byGpa().sort( actual );
+
+		for ( int i = 0; i < actual.length; i++ )
+			assertEquals( 0, comparator.compare( expected[ i ], actual[ i ] ) );
+
+		assertTrue( Double.isNaN( actual[ actual.length - 1 ].getGpa() ) );
+		assertFalse( Double.isNaN( actual[ 0 ].getGpa() ) );
+	}
+}
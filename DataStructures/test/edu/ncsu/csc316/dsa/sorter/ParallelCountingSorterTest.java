@@ -0,0 +1,98 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * Tests ParallelCountingSorter.java.
+ *
+ * @author Will Greene
+ */
+public class ParallelCountingSorterTest {
+
+	/** ParallelCountingSorter instance */
+	private ParallelCountingSorter<Student> sorter;
+
+	/**
+	 * Initializes a ParallelCountingSorter instance.
+	 */
+	@Before
+	public void setUp() {
+		sorter = new ParallelCountingSorter<Student>();
+	}
+
+	/**
+	 * Tests ParallelCountingSorter.sort() on a small array.
+	 */
+	@Test
+	public void testSortStudent() {
+		Student sOne = new Student("OneFirst", "OneLast", 1, 1, 1.0, "oneUnityID");
+		Student sTwo = new Student("TwoFirst", "TwoLast", 2, 2, 2.0, "twoUnityID");
+		Student sThree = new Student("ThreeFirst", "ThreeLast", 3, 3, 3.0, "threeUnityID");
+
+		Student[] original = { sThree, sOne, sTwo };
+		sorter.sort(original);
+		assertEquals(sOne, original[0]);
+		assertEquals(sTwo, original[1]);
+		assertEquals(sThree, original[2]);
+	}
+
+	/**
+	 * Tests that ParallelCountingSorter.sort() orders and keeps stable a large
+	 * array with a dense id range and one with a sparse id range.
+	 */
+	@Test
+	public void testSortLargeStable() {
+		Random rand = new Random(316);
+		Student[] dense = new Student[200000];
+		Student[] sparse = new Student[200000];
+
+		// creditHours records the original position
+		for (int i = 0; i < dense.length; i++) {
+			dense[i] = new Student("First", "Last", 1000 + rand.nextInt(10000), i, 4.0, "unity");
+			sparse[i] = new Student("First", "Last", rand.nextInt(), i, 4.0, "unity");
+		}
+
+		for (Student[] roster : new Student[][] { dense, sparse }) {
+			sorter.sort(roster);
+
+			for (int i = 1; i < roster.length; i++) {
+				assertTrue(roster[i - 1].getId() <= roster[i].getId());
+
+				if (roster[i - 1].getId() == roster[i].getId()) {
+					assertTrue(roster[i - 1].getCreditHours() < roster[i].getCreditHours());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests ParallelCountingSorter.sort() on a range, leaving the rest of the array untouched.
+	 */
+	@Test
+	public void testSortRange() {
+
+		Random random = new Random( 17 );
+		Student[] data = new Student[ 100000 ];
+
+		for ( int i = 0; i < data.length; i++ )
+			data[ i ] = new Student( "F" + i, "L" + i, random.nextInt( 1000 ), 15, 3.0, "u" + i );
+
+		Student[] expected = data.clone();
+		Arrays.sort( expected, 25000, 75000, Comparator.comparingInt( Student::getId ) );
+
+		ParallelCountingSorter<Student> sorter = new ParallelCountingSorter<Student>();
+		sorter.sort( data, 25000, 75000 );
+
+		assertArrayEquals( expected, data );
+		assertThrows( IndexOutOfBoundsException.class, () -> sorter.sort( data, -1, 5 ) );
+	}
+}
@@ -0,0 +1,128 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Tests ParallelMergeSorter.java.
+ *
+ * @author Will Greene
+ */
+public class ParallelMergeSorterTest {
+
+	/**
+	 * Tests ParallelMergeSorter.sort() with a NaturalOrder Comparator.
+	 */
+	@Test
+	public void testSortStudentGeneral() {
+
+		Student s1 = new Student( "Kendrick", "Lamar", 1, 15, 4.0, "kdot" );
+		Student s2 = new Student( "Schoolboy", "Q", 2, 15, 4.0, "q" );
+		Student s3 = new Student( "Jay", "Rock", 3, 15, 4.0, "rock" );
+		Student s4 = new Student( "Ab", "Soul", 4, 15, 4.0, "SOUL" );
+		Student s5 = new Student( "Isaiah", "Rashad", 5, 15, 4.0, "zay" );
+		Student s6 = new Student( "SZA", "None", 6, 15, 4.0, "sizz" );
+
+		Student[] tde = { s4, s3, s5, s2, s6, s1 };
+
+		ParallelMergeSorter<Student> studentSorter = new ParallelMergeSorter<Student>( null, 2 );
+
+		studentSorter.sort( tde );
+
+		assertEquals( s1, tde[ 0 ] );
+		assertEquals( s6, tde[ 1 ] );
+		assertEquals( s2, tde[ 2 ] );
+		assertEquals( s5, tde[ 3 ] );
+		assertEquals( s3, tde[ 4 ] );
+		assertEquals( s4, tde[ 5 ] );
+	}
+
+	/**
+	 * Tests ParallelMergeSorter.sort() with a StudentGPAComparator Comparator.
+	 */
+	@Test
+	public void testSortStudentGPA() {
+
+		Student s1 = new Student( "Kendrick", "Lamar", 1, 15, 3.9, "kdot" );
+		Student s2 = new Student( "Schoolboy", "Q", 2, 15, 3.8, "q" );
+		Student s3 = new Student( "Jay", "Rock", 3, 15, 4.0, "rock" );
+		Student s4 = new Student( "Ab", "Soul", 4, 15, 3.6, "SOUL" );
+		Student s5 = new Student( "Isaiah", "Rashad", 5, 15, 3.5, "zay" );
+		Student s6 = new Student( "SZA", "None", 6, 15, 3.7, "sizz" );
+
+		Student[] tde = { s1, s2, s3, s4, s5, s6 };
+
+		ParallelMergeSorter<Student> studentSorter = new ParallelMergeSorter<Student>( new StudentGPAComparator() );
+
+		studentSorter.sort( tde );
+
+		assertEquals( s3, tde[ 0 ] );
+		assertEquals( s1, tde[ 1 ] );
+		assertEquals( s2, tde[ 2 ] );
+		assertEquals( s6, tde[ 3 ] );
+		assertEquals( s4, tde[ 4 ] );
+		assertEquals( s5, tde[ 5 ] );
+	}
+
+	/**
+	 * Tests that ParallelMergeSorter.sort() is stable on an array large enough
+	 * to be split across tasks.
+	 */
+	@Test
+	public void testSortLargeStable() {
+
+		Random rand = new Random( 316 );
+		Student[] roster = new Student[ 50000 ];
+
+		// Few distinct ids, with creditHours recording the original position
+		for ( int i = 0; i < roster.length; i++ )
+			roster[ i ] = new Student( "First", "Last", rand.nextInt( 100 ), i, 4.0, "unity" );
+
+		new ParallelMergeSorter<Student>( new StudentIDComparator() ).sort( roster );
+
+		for ( int i = 1; i < roster.length; i++ ) {
+			assertTrue( roster[ i - 1 ].getId() <= roster[ i ].getId() );
+
+			if ( roster[ i - 1 ].getId() == roster[ i ].getId() )
+				assertTrue( roster[ i - 1 ].getCreditHours() < roster[ i ].getCreditHours() );
+		}
+	}
+
+	/**
+	 * Tests ParallelMergeSorter with an invalid cutoff.
+	 */
+	@Test
+	public void testInvalidCutoff() {
+		assertThrows( IllegalArgumentException.class, () -> new ParallelMergeSorter<Student>( null, 0 ) );
+	}
+
+	/**
+	 * Tests ParallelMergeSorter.sort() on a range, leaving the rest of the array untouched.
+	 */
+	@Test
+	public void testSortRange() {
+
+		Random random = new Random( 17 );
+		Integer[] data = new Integer[ 40000 ];
+
+		for ( int i = 0; i < data.length; i++ )
+			data[ i ] = random.nextInt( 1000 );
+
+		Integer[] expected = data.clone();
+		Arrays.sort( expected, 10000, 30000 );
+
+		ParallelMergeSorter<Integer> sorter = new ParallelMergeSorter<Integer>();
+		sorter.sort( data, 10000, 30000 );
+
+		assertArrayEquals( expected, data );
+		assertThrows( IndexOutOfBoundsException.class, () -> sorter.sort( data, 1, 40001 ) );
+	}
+}
@@ -0,0 +1,135 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Tests ParallelSampleSorter.java.
+ *
+ * @author Will Greene
+ */
+public class ParallelSampleSorterTest {
+
+	/**
+	 * Tests ParallelSampleSorter.sort() with a NaturalOrder Comparator on an
+	 * array too small to split into buckets.
+	 */
+	@Test
+	public void testSortStudentGeneral() {
+
+		Student s1 = new Student( "Kendrick", "Lamar", 1, 15, 4.0, "kdot" );
+		Student s2 = new Student( "Schoolboy", "Q", 2, 15, 4.0, "q" );
+		Student s3 = new Student( "Jay", "Rock", 3, 15, 4.0, "rock" );
+		Student s4 = new Student( "Ab", "Soul", 4, 15, 4.0, "SOUL" );
+		Student s5 = new Student( "Isaiah", "Rashad", 5, 15, 4.0, "zay" );
+		Student s6 = new Student( "SZA", "None", 6, 15, 4.0, "sizz" );
+
+		Student[] tde = { s4, s3, s5, s2, s6, s1 };
+
+		new ParallelSampleSorter<Student>().sort( tde );
+
+		assertEquals( s1, tde[ 0 ] );
+		assertEquals( s6, tde[ 1 ] );
+		assertEquals( s2, tde[ 2 ] );
+		assertEquals( s5, tde[ 3 ] );
+		assertEquals( s3, tde[ 4 ] );
+		assertEquals( s4, tde[ 5 ] );
+	}
+
+	/**
+	 * Tests ParallelSampleSorter.sort() against Arrays.sort() on large inputs
+	 * with distinct values, few distinct values and one dominant value.
+	 */
+	@Test
+	public void testSortLarge() {
+
+		Random random = new Random( 41 );
+		ParallelSampleSorter<Integer> sorter = new ParallelSampleSorter<Integer>();
+
+		for ( int bound : new int[] { Integer.MAX_VALUE, 50, 0 } ) {
+
+			Integer[] data = new Integer[ 200000 ];
+
+			for ( int i = 0; i < data.length; i++ ) {
+				if ( bound == 0 )
+					data[ i ] = random.nextInt( 10 ) == 0 ? random.nextInt() : 7;
+				else
+					data[ i ] = random.nextInt( bound );
+			}
+
+			Integer[] expected = data.clone();
+			Arrays.sort( expected );
+
+			sorter.sort( data );
+
+			assertArrayEquals( "bound=" + bound, expected, data );
+		}
+	}
+
+	/**
+	 * Tests that ParallelSampleSorter.sort() with a StudentGPAComparator is
+	 * stable on an array large enough to be split into buckets.
+	 */
+	@Test
+	public void testSortLargeStable() {
+
+		Random rand = new Random( 316 );
+		Student[] roster = new Student[ 100000 ];
+
+		// Few distinct GPAs and ids, with creditHours recording the original position
+		for ( int i = 0; i < roster.length; i++ )
+			roster[ i ] = new Student( "First", "Last", rand.nextInt( 100 ), i, rand.nextInt( 5 ), "unity" );
+
+		Student[] expected = roster.clone();
+		StudentGPAComparator comparator = new StudentGPAComparator();
+
+		new TimSorter<Student>( comparator ).sort( expected );
+		new ParallelSampleSorter<Student>( comparator ).sort( roster );
+
+		for ( int i = 0; i < roster.length; i++ )
+			assertSame( expected[ i ], roster[ i ] );
+
+		// Put the roster back in its original order before sorting by id
+		for ( Student s : expected )
+			roster[ s.getCreditHours() ] = s;
+
+		new ParallelSampleSorter<Student>( new StudentIDComparator() ).sort( roster );
+
+		for ( int i = 1; i < roster.length; i++ ) {
+			assertTrue( roster[ i - 1 ].getId() <= roster[ i ].getId() );
+
+			if ( roster[ i - 1 ].getId() == roster[ i ].getId() )
+				assertTrue( roster[ i - 1 ].getCreditHours() < roster[ i ].getCreditHours() );
+		}
+	}
+
+	/**
+	 * Tests ParallelSampleSorter.sort() on a range, leaving the rest of the array untouched.
+	 */
+	@Test
+	public void testSortRange() {
+
+		Random random = new Random( 17 );
+		Integer[] data = new Integer[ 150000 ];
+
+		for ( int i = 0; i < data.length; i++ )
+			data[ i ] = random.nextInt( 100000 );
+
+		Integer[] expected = data.clone();
+		Arrays.sort( expected, 20000, 130000 );
+
+		ParallelSampleSorter<Integer> sorter = new ParallelSampleSorter<Integer>();
+		sorter.sort( data, 20000, 130000 );
+
+		assertArrayEquals( expected, data );
+		assertThrows( IndexOutOfBoundsException.class, () -> sorter.sort( data, 1, 150001 ) );
+	}
+}
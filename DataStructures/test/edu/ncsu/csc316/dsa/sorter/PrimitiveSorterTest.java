@@ -0,0 +1,167 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests PrimitiveSorter.java.
+ *
+ * @author Will Greene
+ */
+public class PrimitiveSorterTest {
+
+	/** array sizes to test, covering empty, tiny and multi-level inputs */
+	private static final int[] SIZES = { 0, 1, 2, 15, 17, 100, 5000 };
+
+	/**
+	 * Tests sorting ints with every algorithm against Arrays.sort(), including
+	 * negative values, duplicates and presorted input.
+	 */
+	@Test
+	public void testSortInts() {
+
+		Random random = new Random( 21 );
+
+		for ( PrimitiveSorter.Algorithm algorithm : PrimitiveSorter.Algorithm.values() ) {
+
+			PrimitiveSorter sorter = new PrimitiveSorter( algorithm );
+
+			for ( int n : SIZES ) {
+
+				int[] wide = new int[ n ];
+				int[] narrow = new int[ n ];
+				int[] ascending = new int[ n ];
+
+				for ( int i = 0; i < n; i++ ) {
+					wide[ i ] = random.nextInt();
+					narrow[ i ] = random.nextInt( 8 ) - 4;
+					ascending[ i ] = i;
+				}
+
+				for ( int[] data : new int[][] { wide, narrow, ascending } ) {
+
+					int[] expected = data.clone();
+					Arrays.sort( expected );
+
+					sorter.sort( data );
+
+					assertArrayEquals( algorithm + " n=" + n, expected, data );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests sorting longs with every algorithm against Arrays.sort().
+	 */
+	@Test
+	public void testSortLongs() {
+
+		Random random = new Random( 22 );
+
+		for ( PrimitiveSorter.Algorithm algorithm : PrimitiveSorter.Algorithm.values() ) {
+
+			PrimitiveSorter sorter = new PrimitiveSorter( algorithm );
+
+			for ( int n : SIZES ) {
+
+				long[] data = new long[ n ];
+
+				for ( int i = 0; i < n; i++ )
+					data[ i ] = i % 3 == 0 ? random.nextInt( 16 ) : random.nextLong();
+
+				long[] expected = data.clone();
+				Arrays.sort( expected );
+
+				sorter.sort( data );
+
+				assertArrayEquals( algorithm + " n=" + n, expected, data );
+			}
+		}
+	}
+
+	/**
+	 * Tests sorting doubles with every algorithm against Arrays.sort(), which
+	 * orders -0.0 before 0.0 and NaN last.
+	 */
+	@Test
+	public void testSortDoubles() {
+
+		Random random = new Random( 23 );
+		double[] special = { Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+				Double.MIN_VALUE, -Double.MAX_VALUE };
+
+		for ( PrimitiveSorter.Algorithm algorithm : PrimitiveSorter.Algorithm.values() ) {
+
+			PrimitiveSorter sorter = new PrimitiveSorter( algorithm );
+
+			for ( int n : SIZES ) {
+
+				double[] data = new double[ n ];
+
+				for ( int i = 0; i < n; i++ )
+					data[ i ] = i % 5 == 0 ? special[ random.nextInt( special.length ) ] : random.nextGaussian() * 4;
+
+				double[] expected = data.clone();
+				Arrays.sort( expected );
+
+				sorter.sort( data );
+
+				assertArrayEquals( algorithm + " n=" + n, expected, data, 0 );
+
+				for ( int i = 0; i < n; i++ )
+					assertEquals( Double.doubleToLongBits( expected[ i ] ), Double.doubleToLongBits( data[ i ] ) );
+			}
+		}
+	}
+
+	/**
+	 * Tests sorting a range, leaving the rest of the array untouched.
+	 */
+	@Test
+	public void testSortRange() {
+
+		Random random = new Random( 24 );
+
+		for ( PrimitiveSorter.Algorithm algorithm : PrimitiveSorter.Algorithm.values() ) {
+
+			PrimitiveSorter sorter = new PrimitiveSorter( algorithm );
+
+			int[] ints = random.ints( 1000, -500, 500 ).toArray();
+			long[] longs = random.longs( 1000 ).toArray();
+			double[] doubles = random.doubles( 1000 ).toArray();
+
+			int[] expectedInts = ints.clone();
+			long[] expectedLongs = longs.clone();
+			double[] expectedDoubles = doubles.clone();
+
+			Arrays.sort( expectedInts, 100, 900 );
+			Arrays.sort( expectedLongs, 100, 900 );
+			Arrays.sort( expectedDoubles, 100, 900 );
+
+			sorter.sort( ints, 100, 900 );
+			sorter.sort( longs, 100, 900 );
+			sorter.sort( doubles, 100, 900 );
+
+			assertArrayEquals( expectedInts, ints );
+			assertArrayEquals( expectedLongs, longs );
+			assertArrayEquals( expectedDoubles, doubles, 0 );
+
+			assertThrows( IndexOutOfBoundsException.class, () -> sorter.sort( ints, 10, 5 ) );
+			assertThrows( IndexOutOfBoundsException.class, () -> sorter.sort( longs, 0, 1001 ) );
+			assertThrows( IndexOutOfBoundsException.class, () -> sorter.sort( doubles, -1, 5 ) );
+		}
+	}
+
+	/**
+	 * Tests that a null algorithm is rejected.
+	 */
+	@Test
+	public void testInvalidAlgorithm() {
+		assertThrows( IllegalArgumentException.class, () -> new PrimitiveSorter( null ) );
+	}
+}
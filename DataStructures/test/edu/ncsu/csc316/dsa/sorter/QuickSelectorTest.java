@@ -0,0 +1,141 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.list.List;
+
+/**
+ * Tests QuickSelector.java.
+ *
+ * @author Will Greene
+ */
+public class QuickSelectorTest {
+
+	/**
+	 * Tests QuickSelector.select() against a fully sorted copy for every rank.
+	 */
+	@Test
+	public void testSelect() {
+
+		Integer[] values = randomValues( 200, 50, 1 );
+		Integer[] sorted = values.clone();
+		Arrays.sort( sorted );
+
+		QuickSelector<Integer> selector = new QuickSelector<Integer>();
+
+		for ( int k = 0; k < values.length; k++ ) {
+
+			Integer[] data = values.clone();
+
+			assertEquals( sorted[ k ], selector.select( data, k ) );
+
+			for ( int i = 0; i < k; i++ )
+				assertTrue( data[ i ] <= data[ k ] );
+
+			for ( int i = k + 1; i < data.length; i++ )
+				assertTrue( data[ i ] >= data[ k ] );
+		}
+
+		assertThrows( IndexOutOfBoundsException.class, () -> selector.select( values.clone(), -1 ) );
+		assertThrows( IndexOutOfBoundsException.class, () -> selector.select( values.clone(), values.length ) );
+		assertThrows( IndexOutOfBoundsException.class, () -> selector.select( new Integer[ 0 ], 0 ) );
+	}
+
+	/**
+	 * Tests QuickSelector.select() with a Comparator on Students.
+	 */
+	@Test
+	public void testSelectStudent() {
+
+		Student s1 = new Student( "Kendrick", "Lamar", 1, 15, 4.0, "kdot" );
+		Student s2 = new Student( "Schoolboy", "Q", 2, 12, 3.5, "q" );
+		Student s3 = new Student( "Jay", "Rock", 3, 9, 2.5, "rock" );
+		Student s4 = new Student( "Ab", "Soul", 4, 18, 3.0, "SOUL" );
+		Student s5 = new Student( "Isaiah", "Rashad", 5, 6, 2.0, "zay" );
+
+		Student[] students = { s3, s1, s5, s2, s4 };
+
+		assertEquals( s3, new QuickSelector<Student>( new StudentIDComparator() ).select( students, 2 ) );
+		assertEquals( s1, new QuickSelector<Student>( new StudentGPAComparator() ).select( students, 0 ) );
+		assertEquals( s5, new QuickSelector<Student>( new StudentGPAComparator() ).select( students, 4 ) );
+	}
+
+	/**
+	 * Tests QuickSelector.partialSort() for a range of k.
+	 */
+	@Test
+	public void testPartialSort() {
+
+		Integer[] values = randomValues( 1000, 1000, 2 );
+		Integer[] sorted = values.clone();
+		Arrays.sort( sorted );
+
+		QuickSelector<Integer> selector = new QuickSelector<Integer>();
+
+		for ( int k : new int[] { 0, 1, 10, 100, 999, 1000 } ) {
+
+			Integer[] data = values.clone();
+			selector.partialSort( data, k );
+
+			assertArrayEquals( Arrays.copyOf( sorted, k ), Arrays.copyOf( data, k ) );
+
+			Integer[] rest = Arrays.copyOfRange( data, k, data.length );
+			Arrays.sort( rest );
+			assertArrayEquals( Arrays.copyOfRange( sorted, k, sorted.length ), rest );
+		}
+
+		assertThrows( IndexOutOfBoundsException.class, () -> selector.partialSort( values.clone(), 1001 ) );
+	}
+
+	/**
+	 * Tests QuickSelector.topK() on an Iterable, including k larger than the
+	 * source and k of zero.
+	 */
+	@Test
+	public void testTopK() {
+
+		Integer[] values = randomValues( 1000, 100000, 3 );
+		Integer[] sorted = values.clone();
+		Arrays.sort( sorted, ( a, b ) -> b.compareTo( a ) );
+
+		QuickSelector<Integer> selector = new QuickSelector<Integer>( ( a, b ) -> b.compareTo( a ) );
+
+		List<Integer> top = selector.topK( Arrays.asList( values ), 100 );
+
+		assertEquals( 100, top.size() );
+
+		for ( int i = 0; i < 100; i++ )
+			assertEquals( sorted[ i ], top.get( i ) );
+
+		assertEquals( 1000, selector.topK( Arrays.asList( values ), 5000 ).size() );
+		assertTrue( selector.topK( Arrays.asList( values ), 0 ).isEmpty() );
+		assertThrows( IllegalArgumentException.class, () -> selector.topK( Arrays.asList( values ), -1 ) );
+	}
+
+	/**
+	 * Returns an array of random values in [0, bound).
+	 *
+	 * @param n the number of values
+	 * @param bound the exclusive upper bound of the values
+	 * @param seed the random seed
+	 * @return an array of random values
+	 */
+	private Integer[] randomValues( int n, int bound, long seed ) {
+
+		Random random = new Random( seed );
+		Integer[] values = new Integer[ n ];
+
+		for ( int i = 0; i < n; i++ )
+			values[ i ] = random.nextInt( bound );
+
+		return values;
+	}
+}
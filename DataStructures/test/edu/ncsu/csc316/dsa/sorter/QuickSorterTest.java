@@ -2,6 +2,9 @@ package edu.ncsu.csc316.dsa.sorter;
 
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.Test;
 
 import edu.ncsu.csc316.dsa.data.Student;
@@ -205,4 +208,116 @@ public class QuickSorterTest {
 		assertEquals( s5, tdeAscending[ 4 ] );
 		assertEquals( s6, tdeAscending[ 5 ] );
 	}
+	
+	/**
+	 * Tests QuickSorter.sort() in introspective mode with a StudentGPAComparator
+	 * on a roster where most students share a GPA.
+	 */
+	@Test
+	public void testSortIntrospectiveDuplicates() {
+		
+		Random rand = new Random( 316 );
+		Student[] roster = new Student[ 20000 ];
+		
+		for ( int i = 0; i < roster.length; i++ )
+			roster[ i ] = new Student( "First", "Last", rand.nextInt( 1000000 ), 15, rand.nextInt( 4 ), "unity" );
+		
+		StudentGPAComparator comparator = new StudentGPAComparator();
+		Student[] expected = roster.clone();
+		new MergeSorter<Student>( comparator ).sort( expected );
+		
+		assertSortsLike( expected, roster, new QuickSorter<Student>( comparator, QuickSorter.MEDIAN_OF_THREE_SELECTOR, true ) );
+		assertSortsLike( expected, roster, new QuickSorter<Student>( comparator, QuickSorter.NINTHER_SELECTOR, true ) );
+		assertSortsLike( expected, roster, new QuickSorter<Student>( comparator, QuickSorter.RANDOM_ELEMENT_SELECTOR, true ) );
+	}
+	
+	/**
+	 * Tests QuickSorter.sort() on a range, leaving the rest of the array untouched.
+	 */
+	@Test
+	public void testSortRange() {
+
+		Random random = new Random( 17 );
+		Integer[] data = new Integer[ 1000 ];
+
+		for ( int i = 0; i < data.length; i++ )
+			data[ i ] = random.nextInt( 1000 );
+
+		Integer[] expected = data.clone();
+		Arrays.sort( expected, 250, 750 );
+
+		QuickSorter<Integer> sorter = new QuickSorter<Integer>( null, QuickSorter.NINTHER_SELECTOR, true );
+		sorter.sort( data, 250, 750 );
+
+		assertArrayEquals( expected, data );
+		assertThrows( IndexOutOfBoundsException.class, () -> sorter.sort( data, 1, 1001 ) );
+	}
+
+	/**
+	 * Sorts a copy of roster with sorter and checks it against expected.
+	 * 
+	 * @param expected the roster in sorted order
+	 * @param roster the roster to copy and sort
+	 * @param sorter the sorter to use
+	 */
+	private void assertSortsLike( Student[] expected, Student[] roster, QuickSorter<Student> sorter ) {
+		
+		Student[] actual = roster.clone();
+		sorter.sort( actual );
+		
+		for ( int i = 0; i < actual.length; i++ )
+			assertEquals( expected[ i ], actual[ i ] );
+	}
+	
+	/**
+	 * Tests QuickSorter.sort() in introspective mode on presorted input with the
+	 * FIRST_ELEMENT_SELECTOR, which is quadratic and recurses n levels deep
+	 * outside of introspective mode.
+	 */
+	@Test
+	public void testSortIntrospectiveAdversarial() {
+		
+		Student[] roster = new Student[ 100000 ];
+		
+		for ( int i = 0; i < roster.length; i++ )
+			roster[ i ] = new Student( "First", "Last", i, 15, 4.0, "unity" );
+		
+		QuickSorter<Student> studentSorter = new QuickSorter<Student>( new StudentIDComparator(),
+				QuickSorter.FIRST_ELEMENT_SELECTOR, true );
+		
+		studentSorter.sort( roster );
+		
+		for ( int i = 0; i < roster.length; i++ )
+			assertEquals( i, roster[ i ].getId() );
+	}
+	
+	/**
+	 * Tests QuickSorter.sort() with the median-of-three and ninther selectors
+	 * outside of introspective mode.
+	 */
+	@Test
+	public void testSortMedianSelectors() {
+		
+		Student s1 = new Student( "Kendrick", "Lamar", 1, 15, 3.9, "kdot" );
+		Student s2 = new Student( "Schoolboy", "Q", 2, 15, 3.8, "q" );
+		Student s3 = new Student( "Jay", "Rock", 3, 15, 4.0, "rock" );
+		Student s4 = new Student( "Ab", "Soul", 4, 15, 3.6, "SOUL" );
+		Student s5 = new Student( "Isaiah", "Rashad", 5, 15, 3.5, "zay" );
+		Student s6 = new Student( "SZA", "None", 6, 15, 3.7, "sizz" );
+		
+		Student[] tdeMedian = { s5, s4, s6, s2, s1, s3 };
+		Student[] tdeNinther = { s1, s2, s3, s4, s5, s6 };
+		
+		StudentGPAComparator comparator = new StudentGPAComparator();
+		
+		new QuickSorter<Student>( comparator, QuickSorter.MEDIAN_OF_THREE_SELECTOR ).sort( tdeMedian );
+		new QuickSorter<Student>( comparator, QuickSorter.NINTHER_SELECTOR ).sort( tdeNinther );
+		
+		Student[] expected = { s3, s1, s2, s6, s4, s5 };
+		
+		for ( int i = 0; i < expected.length; i++ ) {
+			assertEquals( expected[ i ], tdeMedian[ i ] );
+			assertEquals( expected[ i ], tdeNinther[ i ] );
+		}
+	}
 }
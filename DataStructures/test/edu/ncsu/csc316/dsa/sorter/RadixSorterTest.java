@@ -2,6 +2,10 @@ package edu.ncsu.csc316.dsa.sorter;
 
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -59,4 +63,73 @@ public class RadixSorterTest {
 		assertEquals(sFour, original[3]);
 		assertEquals(sFive, original[4]);
 	}
+	
+	/**
+	 * Tests RadixSorter.sort() in binary mode with negative and full-range ids.
+	 */
+	@Test
+	public void testSortBinaryNegativeIds() {
+		Student sMin = new Student("MinFirst", "MinLast", Integer.MIN_VALUE, 1, 1.0, "minUnityID");
+		Student sNegative = new Student("NegFirst", "NegLast", -5, 1, 1.0, "negUnityID");
+		Student sZero = new Student("ZeroFirst", "ZeroLast", 0, 1, 1.0, "zeroUnityID");
+		Student sMax = new Student("MaxFirst", "MaxLast", Integer.MAX_VALUE, 1, 1.0, "maxUnityID");
+		
+		for (int bits : new int[] { 8, 11 }) {
+			Student[] original = { sMax, sTwo, sNegative, sZero, sMin, sOne };
+			new RadixSorter<Student>(bits).sort(original);
+			assertEquals(sMin, original[0]);
+			assertEquals(sNegative, original[1]);
+			assertEquals(sZero, original[2]);
+			assertEquals(sOne, original[3]);
+			assertEquals(sTwo, original[4]);
+			assertEquals(sMax, original[5]);
+		}
+	}
+	
+	/**
+	 * Tests that RadixSorter.sort() in binary mode is stable.
+	 */
+	@Test
+	public void testSortBinaryStable() {
+		Student sOneAgain = new Student("OneAgainFirst", "OneAgainLast", 1, 1, 1.0, "oneAgainUnityID");
+		Student[] original = { sThree, sOne, sFive, sOneAgain, sTwo, sFour };
+		new RadixSorter<Student>(8).sort(original);
+		assertEquals(sOne, original[0]);
+		assertEquals(sOneAgain, original[1]);
+		assertEquals(sTwo, original[2]);
+		assertEquals(sThree, original[3]);
+		assertEquals(sFour, original[4]);
+		assertEquals(sFive, original[5]);
+	}
+	
+	/**
+	 * Tests constructing a RadixSorter with an invalid digit width.
+	 */
+	@Test
+	public void testInvalidDigitBits() {
+		assertThrows(IllegalArgumentException.class, () -> new RadixSorter<Student>(0));
+		assertThrows(IllegalArgumentException.class, () -> new RadixSorter<Student>(17));
+	}
+
+	/**
+	 * Tests RadixSorter.sort() on a range, leaving the rest of the array untouched.
+	 */
+	@Test
+	public void testSortRange() {
+
+		Random random = new Random( 17 );
+		Student[] data = new Student[ 1000 ];
+
+		for ( int i = 0; i < data.length; i++ )
+			data[ i ] = new Student( "F" + i, "L" + i, random.nextInt( 1000000 ), 15, 3.0, "u" + i );
+
+		Student[] expected = data.clone();
+		Arrays.sort( expected, 250, 750, Comparator.comparingInt( Student::getId ) );
+
+		RadixSorter<Student> sorter = new RadixSorter<Student>();
+		sorter.sort( data, 250, 750 );
+
+		assertArrayEquals( expected, data );
+		assertThrows( IndexOutOfBoundsException.class, () -> sorter.sort( data, -1, 5 ) );
+	}
 }
@@ -0,0 +1,134 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.io.StudentReader;
+
+/**
+ * Tests TimSorter.java.
+ *
+ * @author Will Greene
+ */
+public class TimSorterTest {
+
+	/**
+	 * Tests TimSorter.sort() on the descending and random roster files.
+	 */
+	@Test
+	public void testSortRosterFiles() {
+
+		TimSorter<Student> studentSorter = new TimSorter<Student>( new StudentIDComparator() );
+
+		Student[] descending = StudentReader.readInputAsArray( "input/student_descendingID.csv" );
+		Student[] random = StudentReader.readInputAsArray( "input/student_randomOrder.csv" );
+		Student[] ascending = StudentReader.readInputAsArray( "input/student_ascendingID.csv" );
+
+		studentSorter.sort( descending );
+		studentSorter.sort( random );
+
+		for ( int i = 0; i < ascending.length; i++ ) {
+			assertEquals( ascending[ i ], descending[ i ] );
+			assertEquals( ascending[ i ], random[ i ] );
+		}
+	}
+
+	/**
+	 * Tests that TimSorter.sort() uses n - 1 comparisons on presorted and
+	 * strictly descending input.
+	 */
+	@Test
+	public void testSortPresortedIsLinear() {
+
+		int[] comparisons = new int[ 1 ];
+		Comparator<Student> counting = ( one, two ) -> {
+			comparisons[ 0 ]++;
+			return Integer.compare( one.getId(), two.getId() );
+		};
+
+		Student[] ascending = new Student[ 10000 ];
+		Student[] descending = new Student[ 10000 ];
+
+		for ( int i = 0; i < ascending.length; i++ ) {
+			ascending[ i ] = new Student( "First", "Last", i, 15, 4.0, "unity" );
+			descending[ ascending.length - 1 - i ] = ascending[ i ];
+		}
+
+		TimSorter<Student> studentSorter = new TimSorter<Student>( counting );
+
+		studentSorter.sort( ascending );
+		assertEquals( ascending.length - 1, comparisons[ 0 ] );
+
+		comparisons[ 0 ] = 0;
+		studentSorter.sort( descending );
+		assertEquals( descending.length - 1, comparisons[ 0 ] );
+
+		for ( int i = 0; i < descending.length; i++ )
+			assertEquals( i, descending[ i ].getId() );
+	}
+
+	/**
+	 * Tests that TimSorter.sort() is stable on random, sawtooth and
+	 * nearly-sorted input with many duplicate keys.
+	 */
+	@Test
+	public void testSortStable() {
+
+		Random rand = new Random( 316 );
+		int n = 20000;
+
+		Student[] random = new Student[ n ];
+		Student[] sawtooth = new Student[ n ];
+		Student[] nearlySorted = new Student[ n ];
+
+		// creditHours records the original position of each Student
+		for ( int i = 0; i < n; i++ ) {
+			random[ i ] = new Student( "First", "Last", rand.nextInt( 500 ), i, 4.0, "unity" );
+			sawtooth[ i ] = new Student( "First", "Last", i % 1000, i, 4.0, "unity" );
+			nearlySorted[ i ] = new Student( "First", "Last", i < n - 50 ? i / 3 : rand.nextInt( n ), i, 4.0, "unity" );
+		}
+
+		TimSorter<Student> studentSorter = new TimSorter<Student>( new StudentIDComparator() );
+
+		for ( Student[] roster : new Student[][] { random, sawtooth, nearlySorted } ) {
+
+			studentSorter.sort( roster );
+
+			for ( int i = 1; i < n; i++ ) {
+				assertTrue( roster[ i - 1 ].getId() <= roster[ i ].getId() );
+
+				if ( roster[ i - 1 ].getId() == roster[ i ].getId() )
+					assertTrue( roster[ i - 1 ].getCreditHours() < roster[ i ].getCreditHours() );
+			}
+		}
+	}
+
+	/**
+	 * Tests TimSorter.sort() on a range, leaving the rest of the array untouched.
+	 */
+	@Test
+	public void testSortRange() {
+
+		Random random = new Random( 17 );
+		Integer[] data = new Integer[ 1000 ];
+
+		for ( int i = 0; i < data.length; i++ )
+			data[ i ] = random.nextInt( 1000 );
+
+		Integer[] expected = data.clone();
+		Arrays.sort( expected, 250, 750 );
+
+		TimSorter<Integer> sorter = new TimSorter<Integer>();
+		sorter.sort( data, 250, 750 );
+
+		assertArrayEquals( expected, data );
+		assertThrows( IndexOutOfBoundsException.class, () -> sorter.sort( data, 1, 1001 ) );
+	}
+}